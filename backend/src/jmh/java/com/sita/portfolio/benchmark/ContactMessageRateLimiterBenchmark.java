@@ -0,0 +1,53 @@
+package com.sita.portfolio.benchmark;
+
+import com.sita.portfolio.config.AppProperties;
+import com.sita.portfolio.service.ContactMessageRateLimiter;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ContactMessageRateLimiter.allow with several threads: all on one client, where every
+ * call CASes the same slot, and spread over many clients, as under a spam burst.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ContactMessageRateLimiterBenchmark {
+
+    private static final int CLIENTS = 100_000;
+
+    private ContactMessageRateLimiter limiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        AppProperties.ContactRateLimit config = new AppProperties.ContactRateLimit();
+        config.setMaxRequests(5);
+        config.setWindow(Duration.ofMinutes(10));
+        config.setMaxTrackedClients(CLIENTS / 2);
+        limiter = new ContactMessageRateLimiter(config, Clock.systemUTC());
+        keys = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            keys[i] = "198.51." + (i >> 8 & 0xFF) + "." + (i & 0xFF) + "#" + i;
+        }
+    }
+
+    @Benchmark
+    public boolean sameClient() {
+        return limiter.allow(keys[0]);
+    }
+
+    /** Twice as many clients as tracked slots, so eviction is exercised too. */
+    @Benchmark
+    public boolean manyClients() {
+        return limiter.allow(keys[ThreadLocalRandom.current().nextInt(CLIENTS)]);
+    }
+}
@@ -0,0 +1,47 @@
+package com.sita.portfolio.benchmark;
+
+import com.sita.portfolio.model.dto.response.ProjectResponse;
+import com.sita.portfolio.model.dto.response.SkillCategoryResponse;
+import com.sita.portfolio.model.entity.Project;
+import com.sita.portfolio.model.entity.SkillCategory;
+import com.sita.portfolio.service.mapper.EntityMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping of the two largest collections on the public portfolio.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityMapperBenchmark {
+
+    /** A typical portfolio, and one ten times larger. */
+    @Param({"12", "120"})
+    int projectCount;
+
+    private final EntityMapper mapper = new EntityMapper();
+    private List<Project> projects;
+    private List<SkillCategory> skillCategories;
+
+    @Setup
+    public void setUp() {
+        projects = PortfolioFixtures.projects(projectCount);
+        skillCategories = PortfolioFixtures.skillCategories(projectCount / 2);
+    }
+
+    @Benchmark
+    public List<ProjectResponse> toProjectResponseList() {
+        return mapper.toProjectResponseList(projects);
+    }
+
+    @Benchmark
+    public List<SkillCategoryResponse> toSkillCategoryResponseList() {
+        return mapper.toSkillCategoryResponseList(skillCategories);
+    }
+}
@@ -0,0 +1,52 @@
+package com.sita.portfolio.benchmark;
+
+import com.sita.portfolio.config.AppProperties;
+import com.sita.portfolio.security.JwtAuthenticationFilter.JwtAuthenticatedUser;
+import com.sita.portfolio.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token signing, full verification, and the cached lookup every admin request takes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private final UUID userId = UUID.randomUUID();
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        AppProperties properties = new AppProperties();
+        properties.getJwt().setSecret("benchmark-secret-that-is-at-least-32-bytes-long");
+        properties.getJwt().setExpirationMs(15 * 60 * 1000L);
+        tokenProvider = new JwtTokenProvider(properties);
+        token = tokenProvider.generateAccessToken(userId, "admin@example.com", "ADMIN");
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return tokenProvider.generateAccessToken(userId, "admin@example.com", "ADMIN");
+    }
+
+    /** HMAC check and claims parsing on every call; the cache is bypassed. */
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    /** Served from the verified-token cache after the first call. */
+    @Benchmark
+    public Optional<JwtAuthenticatedUser> authenticateCached() {
+        return tokenProvider.authenticate(token);
+    }
+}
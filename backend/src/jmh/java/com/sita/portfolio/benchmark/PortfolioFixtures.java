@@ -0,0 +1,108 @@
+package com.sita.portfolio.benchmark;
+
+import com.sita.portfolio.model.entity.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Entity graphs shaped like a real portfolio: a few dozen projects with four to six
+ * bullets each, and skill categories of around ten items. Text lengths match the
+ * seeded content so mapping and serialization copy realistic strings.
+ */
+final class PortfolioFixtures {
+
+    private static final String SENTENCE = "Designed and shipped a feature end to end, from schema to UI, "
+            + "with tests and monitoring in place before launch. ";
+
+    private PortfolioFixtures() {
+    }
+
+    static List<Project> projects(int count) {
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Project project = Project.builder()
+                    .id(UUID.randomUUID())
+                    .createdAt(Instant.now())
+                    .updatedAt(Instant.now())
+                    .title("Project " + i + " - Realtime Analytics Dashboard")
+                    .slug("project-" + i + "-realtime-analytics-dashboard")
+                    .description(SENTENCE.repeat(2))
+                    .longDescription(SENTENCE.repeat(8))
+                    .techStack("Java, Spring Boot, PostgreSQL, Angular, TypeScript, Docker")
+                    .liveUrl("https://example.com/projects/" + i)
+                    .githubUrl("https://github.com/example/project-" + i)
+                    .imageUrl("https://cdn.example.com/projects/" + i + "/cover.webp")
+                    .thumbnailUrl("https://cdn.example.com/projects/" + i + "/thumb.webp")
+                    .featured(i % 4 == 0)
+                    .sortOrder(i)
+                    .build();
+            for (int b = 0; b < 4 + i % 3; b++) {
+                project.getBullets().add(ProjectBullet.builder()
+                        .id(UUID.randomUUID())
+                        .project(project)
+                        .content(SENTENCE)
+                        .sortOrder(b)
+                        .build());
+            }
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    static List<SkillCategory> skillCategories(int count) {
+        List<SkillCategory> categories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            SkillCategory category = SkillCategory.builder()
+                    .id(UUID.randomUUID())
+                    .name("Category " + i)
+                    .icon("code")
+                    .sortOrder(i)
+                    .build();
+            for (int s = 0; s < 10; s++) {
+                category.getSkills().add(SkillItem.builder()
+                        .id(UUID.randomUUID())
+                        .category(category)
+                        .name("Skill " + i + "." + s)
+                        .iconUrl("https://cdn.example.com/skills/" + s + ".svg")
+                        .proficiency(s % 2 == 0 ? "Advanced" : "Intermediate")
+                        .sortOrder(s)
+                        .build());
+            }
+            categories.add(category);
+        }
+        return categories;
+    }
+
+    static List<Experience> experiences(int count) {
+        List<Experience> experiences = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Experience experience = Experience.builder()
+                    .id(UUID.randomUUID())
+                    .company("Company " + i)
+                    .role("Software Engineer")
+                    .location("Remote")
+                    .employmentType("Full-time")
+                    .startDate(LocalDate.of(2018 + i, 1, 1))
+                    .endDate(i == count - 1 ? null : LocalDate.of(2019 + i, 1, 1))
+                    .description(SENTENCE.repeat(2))
+                    .techStack("Java, Spring Boot, PostgreSQL")
+                    .companyUrl("https://example.com/company/" + i)
+                    .sortOrder(i)
+                    .build();
+            for (int b = 0; b < 5; b++) {
+                experience.getBullets().add(ExperienceBullet.builder()
+                        .id(UUID.randomUUID())
+                        .experience(experience)
+                        .content(SENTENCE)
+                        .sortOrder(b)
+                        .build());
+            }
+            experiences.add(experience);
+        }
+        return experiences;
+    }
+}
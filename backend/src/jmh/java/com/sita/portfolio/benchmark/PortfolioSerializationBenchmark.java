@@ -0,0 +1,78 @@
+package com.sita.portfolio.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sita.portfolio.model.dto.ApiResponse;
+import com.sita.portfolio.model.dto.response.ContactSettingsResponse;
+import com.sita.portfolio.model.dto.response.PortfolioResponse;
+import com.sita.portfolio.model.dto.response.ProfileResponse;
+import com.sita.portfolio.model.dto.response.ProjectResponse;
+import com.sita.portfolio.service.mapper.EntityMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the public portfolio response in its ApiResponse envelope,
+ * the largest body PublicViewRenderer writes on every snapshot rebuild. The
+ * ObjectMapper is configured like Spring Boot's.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PortfolioSerializationBenchmark {
+
+    @Param({"12", "120"})
+    int projectCount;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PortfolioResponse> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        EntityMapper mapper = new EntityMapper();
+        List<ProjectResponse> projects = mapper.toProjectResponseList(PortfolioFixtures.projects(projectCount));
+        PortfolioResponse portfolio = PortfolioResponse.builder()
+                .profile(ProfileResponse.builder()
+                        .id(UUID.randomUUID())
+                        .name("Jane Developer")
+                        .title("Full Stack Engineer")
+                        .tagline("Building reliable web applications")
+                        .bio("Engineer focused on backend systems and developer experience. ".repeat(6))
+                        .email("jane@example.com")
+                        .githubUrl("https://github.com/example")
+                        .linkedinUrl("https://linkedin.com/in/example")
+                        .build())
+                .experiences(mapper.toExperienceResponseList(PortfolioFixtures.experiences(5)))
+                .projects(projects)
+                .featuredProjects(projects.stream().filter(ProjectResponse::isFeatured).toList())
+                .skills(mapper.toSkillCategoryResponseList(PortfolioFixtures.skillCategories(projectCount / 2)))
+                .education(List.of())
+                .certifications(List.of())
+                .contact(ContactSettingsResponse.builder()
+                        .id(UUID.randomUUID())
+                        .email("jane@example.com")
+                        .location("Remote")
+                        .formEnabled(true)
+                        .successMessage("Thanks, I will get back to you soon.")
+                        .build())
+                .build();
+        response = ApiResponse.success(portfolio, "/api/public/portfolio");
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,30 @@
+package com.sita.portfolio.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ImportService.generateSlug on typical project titles. Lives in the service package
+ * because the method is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImportSlugBenchmark {
+
+    @Param({
+            "Portfolio Website",
+            "Real-time Chat App (WebSockets + Redis) -- v2.0!",
+            "  Machine Learning   Pipeline: Data Ingestion, Feature Store & Model Serving on Kubernetes  "
+    })
+    String title;
+
+    @Benchmark
+    public String generateSlug() {
+        return ImportService.generateSlug(title);
+    }
+}
@@ -3,6 +3,13 @@ package com.sita.portfolio.config;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Application configuration properties bound from application.yml.
@@ -14,6 +21,17 @@ public class AppProperties {
 
     private Jwt jwt = new Jwt();
     private Cors cors = new Cors();
+    private PublicCache publicCache = new PublicCache();
+    private ChangeNotifications changeNotifications = new ChangeNotifications();
+    private Snapshot snapshot = new Snapshot();
+    private ContactRateLimit contactRateLimit = new ContactRateLimit();
+    private Recaptcha recaptcha = new Recaptcha();
+    private ContactQueue contactQueue = new ContactQueue();
+    private ImportJobs importJobs = new ImportJobs();
+    private ContactRetention contactRetention = new ContactRetention();
+    private ContactPartitions contactPartitions = new ContactPartitions();
+    private Metrics metrics = new Metrics();
+    private RequestTracing requestTracing = new RequestTracing();
 
     @Getter
     @Setter
@@ -21,6 +39,7 @@ public class AppProperties {
         private String secret;
         private long expirationMs = 900000; // 15 minutes
         private long refreshExpirationMs = 604800000; // 7 days
+        private int claimsCacheSize = 256; // verified tokens kept until expiry
     }
 
     @Getter
@@ -29,4 +48,166 @@ public class AppProperties {
         private String allowedOrigin = "http://localhost:4200";
     }
 
+    /**
+     * HTTP caching of public content endpoints.
+     * Endpoint keys: portfolio, profile, experience, projects, featured-projects,
+     * project, skills, education, certifications, contact.
+     */
+    @Getter
+    @Setter
+    public static class PublicCache {
+        private CachePolicy defaults = new CachePolicy();
+        private Map<String, CachePolicy> endpoints = new HashMap<>();
+
+        public CachePolicy forEndpoint(String endpoint) {
+            return endpoints.getOrDefault(endpoint, defaults);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class CachePolicy {
+        private Duration maxAge = Duration.ofMinutes(1);
+        private Duration staleWhileRevalidate = Duration.ofMinutes(5);
+    }
+
+    /**
+     * Cross-instance snapshot invalidation over PostgreSQL LISTEN/NOTIFY.
+     * Ignored on databases other than PostgreSQL.
+     */
+    @Getter
+    @Setter
+    public static class ChangeNotifications {
+        private boolean enabled = true;
+        private String channel = "portfolio_changed";
+        private Duration pollTimeout = Duration.ofSeconds(10);
+        private Duration initialBackoff = Duration.ofSeconds(1);
+        private Duration maxBackoff = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Background retries of a failed snapshot rebuild; the previous snapshot is served meanwhile.
+     */
+    @Getter
+    @Setter
+    public static class Snapshot {
+        private Duration initialBackoff = Duration.ofSeconds(1);
+        private Duration maxBackoff = Duration.ofMinutes(1);
+    }
+
+    /**
+     * Per-client limit on public contact submissions.
+     * Memory use is fixed at roughly 8 bytes per tracked client.
+     */
+    @Getter
+    @Setter
+    public static class ContactRateLimit {
+        private int maxRequests = 5;
+        private Duration window = Duration.ofMinutes(5);
+        private int maxTrackedClients = 65536;
+    }
+
+    /**
+     * reCAPTCHA verification client. The secret itself is read from recaptcha.secret.
+     * Beyond max-concurrent-verifications calls in flight, submissions get 503.
+     */
+    @Getter
+    @Setter
+    public static class Recaptcha {
+        private String verifyUrl = "https://www.google.com/recaptcha/api/siteverify";
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(3);
+        private int maxConcurrentVerifications = 8;
+        private Duration tokenCacheTtl = Duration.ofMinutes(2);
+        private int tokenCacheSize = 1000;
+    }
+
+    /**
+     * Write-behind queue for contact submissions.
+     * When journal is set, accepted messages are appended to that file until written,
+     * and replayed on the next start after a crash. Submissions get 503 while the journal
+     * is at journal-max-size; rows the database rejects go to {@code <journal>.rejected}.
+     */
+    @Getter
+    @Setter
+    public static class ContactQueue {
+        private int capacity = 1000;
+        private int batchSize = 50;
+        private Duration flushInterval = Duration.ofMillis(200);
+        private Duration maxRetryBackoff = Duration.ofSeconds(30);
+        private String journal = "";
+        private DataSize journalMaxSize = DataSize.ofMegabytes(16);
+    }
+
+    /**
+     * Background resume imports. Finished jobs stay pollable for the retention period;
+     * beyond max-retained the oldest finished jobs are dropped first.
+     */
+    @Getter
+    @Setter
+    public static class ImportJobs {
+        private Duration retention = Duration.ofHours(1);
+        private int maxRetained = 20;
+    }
+
+    /**
+     * Archival of old contact messages into monthly NDJSON.gz files under archive-dir.
+     * Messages older than max-age are archived, as are messages in one of the statuses
+     * once older than status-min-age. Off by default because rows are deleted: archive-dir
+     * must be set to durable storage shared by all replicas, or startup fails.
+     */
+    @Getter
+    @Setter
+    public static class ContactRetention {
+        private boolean enabled = false;
+        private String archiveDir = "";
+        private Duration maxAge = Duration.ofDays(365);
+        private List<String> statuses = new ArrayList<>(List.of("archived"));
+        private Duration statusMinAge = Duration.ofDays(30);
+        private int batchSize = 500;
+        private int maxBatchesPerRun = 200;
+        private Duration batchPause = Duration.ofMillis(100);
+        private Duration initialDelay = Duration.ofMinutes(5);
+        private Duration interval = Duration.ofHours(6);
+    }
+
+    /**
+     * Monthly partition upkeep for contact_message on PostgreSQL. Partitions are created
+     * premake-months ahead. Those older than retain-months are dropped when empty with
+     * expired-action drop (non-empty ones stay attached), or detached whole with detach.
+     */
+    @Getter
+    @Setter
+    public static class ContactPartitions {
+        private boolean enabled = true;
+        private int premakeMonths = 3;
+        private int retainMonths = 13;
+        private String expiredAction = "drop";
+        private Duration interval = Duration.ofHours(12);
+    }
+
+    /**
+     * Prometheus scraping. Scrapers send {@code Authorization: Bearer <scrape-token>};
+     * when the token is blank only admin JWTs can read /actuator/prometheus.
+     */
+    @Getter
+    @Setter
+    public static class Metrics {
+        private String scrapeToken = "";
+    }
+
+    /**
+     * Per-request timing of pool wait, SQL, mapping and serialization. Requests slower
+     * than slow-threshold are logged and the last keep are kept for diagnostics; at most
+     * max-statements statements are listed per request. Off by default: when enabled,
+     * every request is traced and its JDBC connections and statements are proxied.
+     */
+    @Getter
+    @Setter
+    public static class RequestTracing {
+        private boolean enabled = false;
+        private Duration slowThreshold = Duration.ofMillis(500);
+        private int keep = 50;
+        private int maxStatements = 100;
+    }
 }
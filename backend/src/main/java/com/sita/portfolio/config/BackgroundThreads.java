@@ -0,0 +1,57 @@
+package com.sita.portfolio.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread factories for the application's own background executors (import jobs,
+ * reCAPTCHA verification, contact retention and partition upkeep).
+ * <p>
+ * Follows {@code spring.threads.virtual.enabled} the way Spring Boot does for Tomcat and
+ * the task executors: threads are virtual when the property is set and the JVM is
+ * Java 21 or later, and daemon platform threads otherwise. Executors keep their shape
+ * either way, so single-thread executors still run one task at a time.
+ * </p>
+ */
+@Component
+public class BackgroundThreads {
+
+    /** Platform threads, for code built outside the application context. */
+    public static final BackgroundThreads PLATFORM = new BackgroundThreads(false);
+
+    private final boolean virtual;
+
+    @Autowired
+    public BackgroundThreads(Environment environment) {
+        this(Threading.VIRTUAL.isActive(environment));
+    }
+
+    public BackgroundThreads(boolean virtual) {
+        this.virtual = virtual;
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Returns a factory for threads named {@code name-1}, {@code name-2}, ...
+     */
+    public ThreadFactory factory(String name) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(name + "-").getVirtualThreadFactory();
+        }
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
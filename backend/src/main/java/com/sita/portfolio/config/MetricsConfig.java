@@ -0,0 +1,56 @@
+package com.sita.portfolio.config;
+
+import com.sita.portfolio.service.ContactMessageQueue;
+import com.sita.portfolio.service.ContactMessageRateLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application metrics exported at /actuator/prometheus.
+ * <p>
+ * Spring Boot already provides {@code http.server.requests} per endpoint,
+ * {@code hikaricp.connections.*} for the PortfolioHikariPool and
+ * {@code spring.data.repository.invocations}. This adds per-request statement counts
+ * ({@link RequestMetricsFilter}), service and repository timers
+ * ({@link ServiceMetricsAspect}) and the contact submission meters below.
+ * </p>
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+    }
+
+    @Bean
+    public MeterBinder contactMetrics(ContactMessageRateLimiter rateLimiter, ContactMessageQueue queue) {
+        return registry -> {
+            FunctionCounter.builder("portfolio.contact.rate_limit.rejections", rateLimiter,
+                            ContactMessageRateLimiter::rejectedCount)
+                    .description("Contact submissions rejected by the rate limiter")
+                    .register(registry);
+            Gauge.builder("portfolio.contact.queue.depth", queue, q -> q.stats().depth())
+                    .description("Contact messages waiting to be written")
+                    .register(registry);
+            Gauge.builder("portfolio.contact.queue.capacity", queue, q -> q.stats().capacity())
+                    .register(registry);
+            FunctionCounter.builder("portfolio.contact.queue.accepted", queue, q -> q.stats().accepted())
+                    .register(registry);
+            FunctionCounter.builder("portfolio.contact.queue.rejected", queue, q -> q.stats().rejected())
+                    .description("Contact submissions rejected with 503 because the queue was full")
+                    .register(registry);
+            FunctionCounter.builder("portfolio.contact.queue.written", queue, q -> q.stats().written())
+                    .register(registry);
+            FunctionCounter.builder("portfolio.contact.queue.failed_flushes", queue, q -> q.stats().failedFlushes())
+                    .register(registry);
+            FunctionCounter.builder("portfolio.contact.queue.dead_lettered", queue, q -> q.stats().deadLettered())
+                    .register(registry);
+        };
+    }
+}
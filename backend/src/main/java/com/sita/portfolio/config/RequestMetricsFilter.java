@@ -0,0 +1,49 @@
+package com.sita.portfolio.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many statements Hibernate prepared for each request as the
+ * {@code portfolio.request.statements} distribution summary, tagged like
+ * {@code http.server.requests} with the method and the matched URI template.
+ * Requests that match no handler are tagged {@code uri=UNKNOWN} to bound cardinality.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        StatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = StatementCounter.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("portfolio.request.statements")
+                    .description("Statements prepared by Hibernate per HTTP request")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+}
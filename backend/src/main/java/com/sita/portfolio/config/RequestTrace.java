@@ -0,0 +1,143 @@
+package com.sita.portfolio.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Timings collected for the HTTP request running on the current thread.
+ * <p>
+ * {@link RequestTraceFilter} starts and ends the trace around each request. While it is
+ * active, {@link TracingDataSource} records connection checkout and statement times,
+ * {@link RequestTraceAspect} records entity mapping and public view rendering, and
+ * {@link RequestTraceConfig} records Jackson response writes. With no active trace every
+ * hook is a single thread-local read.
+ * </p>
+ */
+public final class RequestTrace {
+
+    /**
+     * Request phases timed in addition to pool wait and SQL. Nested calls within a
+     * phase are counted once, by the outermost call.
+     */
+    public enum Phase {
+        MAPPER,
+        SERIALIZATION
+    }
+
+    /**
+     * One executed statement. {@code sql} is the statement text without bind values.
+     */
+    public record StatementTiming(String sql, double durationMs) {
+    }
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final long startedNanos = System.nanoTime();
+    private final int maxStatements;
+    private final List<StatementTiming> statements = new ArrayList<>();
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private final int[] phaseDepth = new int[Phase.values().length];
+    private long poolWaitNanos;
+    private int connections;
+    private long sqlNanos;
+    private int statementCount;
+
+    private RequestTrace(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    /**
+     * Starts a trace on this thread, keeping at most {@code maxStatements} statement timings.
+     */
+    static RequestTrace start(int maxStatements) {
+        RequestTrace trace = new RequestTrace(maxStatements);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /**
+     * Returns the trace active on this thread, or null.
+     */
+    static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Ends the trace on this thread.
+     */
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Marks the start of a phase. Returns the start time to pass to {@link #exit},
+     * or -1 when nothing is traced or the phase is already running.
+     */
+    public static long enter(Phase phase) {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null) {
+            return -1;
+        }
+        return trace.phaseDepth[phase.ordinal()]++ == 0 ? System.nanoTime() : -1;
+    }
+
+    /**
+     * Marks the end of a phase started by {@link #enter}.
+     */
+    public static void exit(Phase phase, long started) {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null) {
+            return;
+        }
+        trace.phaseDepth[phase.ordinal()]--;
+        if (started >= 0) {
+            trace.phaseNanos[phase.ordinal()] += System.nanoTime() - started;
+        }
+    }
+
+    void recordConnection(long waitNanos) {
+        poolWaitNanos += waitNanos;
+        connections++;
+    }
+
+    void recordStatement(String sql, long nanos) {
+        sqlNanos += nanos;
+        statementCount++;
+        if (statements.size() < maxStatements) {
+            statements.add(new StatementTiming(sql, millis(nanos)));
+        }
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startedNanos;
+    }
+
+    long poolWaitNanos() {
+        return poolWaitNanos;
+    }
+
+    int connections() {
+        return connections;
+    }
+
+    long sqlNanos() {
+        return sqlNanos;
+    }
+
+    int statementCount() {
+        return statementCount;
+    }
+
+    List<StatementTiming> statements() {
+        return List.copyOf(statements);
+    }
+
+    long phaseNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /** Milliseconds with microsecond precision. */
+    static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
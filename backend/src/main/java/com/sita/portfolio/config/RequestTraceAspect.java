@@ -0,0 +1,41 @@
+package com.sita.portfolio.config;
+
+import com.sita.portfolio.config.RequestTrace.Phase;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds entity mapping and public view rendering to the active {@link RequestTrace}.
+ * <p>
+ * Mapper time includes any lazy loads the mapper triggers, which also show up as SQL.
+ * Public views are rendered to JSON when the snapshot is rebuilt, so rendering only
+ * appears in a request that finds no snapshot and builds it itself.
+ * </p>
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "app.request-tracing.enabled", havingValue = "true")
+public class RequestTraceAspect {
+
+    @Around("execution(public * com.sita.portfolio.service.mapper.EntityMapper.*(..))")
+    public Object traceMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(Phase.MAPPER, joinPoint);
+    }
+
+    @Around("execution(public * com.sita.portfolio.service.PublicViewRenderer.render(..))")
+    public Object traceRender(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(Phase.SERIALIZATION, joinPoint);
+    }
+
+    private Object trace(Phase phase, ProceedingJoinPoint joinPoint) throws Throwable {
+        long started = RequestTrace.enter(phase);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RequestTrace.exit(phase, started);
+        }
+    }
+}
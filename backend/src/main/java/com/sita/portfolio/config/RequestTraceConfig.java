@@ -0,0 +1,60 @@
+package com.sita.portfolio.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sita.portfolio.config.RequestTrace.Phase;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Hooks {@link RequestTrace} into the DataSource and the Jackson message converter.
+ * The other hooks are {@link RequestTraceAspect} and {@link RequestTraceFilter}.
+ * Only active with {@code app.request-tracing.enabled=true}; otherwise the pool and the
+ * default converter are used unchanged.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.request-tracing.enabled", havingValue = "true")
+public class RequestTraceConfig {
+
+    @Bean
+    public static BeanPostProcessor tracingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof TracingDataSource)) {
+                    return new TracingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Replaces Spring Boot's default converter with one that times response writes.
+     * The time includes copying the JSON into the response buffer.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected void writeInternal(@NonNull Object object, Type type, @NonNull HttpOutputMessage outputMessage)
+                    throws IOException, HttpMessageNotWritableException {
+                long started = RequestTrace.enter(Phase.SERIALIZATION);
+                try {
+                    super.writeInternal(object, type, outputMessage);
+                } finally {
+                    RequestTrace.exit(Phase.SERIALIZATION, started);
+                }
+            }
+        };
+    }
+}
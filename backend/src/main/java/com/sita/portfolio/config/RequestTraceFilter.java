@@ -0,0 +1,138 @@
+package com.sita.portfolio.config;
+
+import com.sita.portfolio.config.RequestTrace.Phase;
+import com.sita.portfolio.config.RequestTrace.StatementTiming;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * When {@code app.request-tracing.enabled} is set, traces every request and keeps the
+ * breakdown of those slower than {@code app.request-tracing.slow-threshold}.
+ * <p>
+ * Slow requests are logged as one {@code key=value} line and the last
+ * {@code app.request-tracing.keep} are served by GET /api/admin/diag/slow-requests.
+ * Runs first in the filter chain, so the total includes security and response writing.
+ * Time not covered by a phase is controller, security and servlet overhead.
+ * </p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    private final AppProperties.RequestTracing config;
+    private final Deque<SlowRequest> recent = new ArrayDeque<>();
+    private long slowRequests;
+
+    public RequestTraceFilter(AppProperties appProperties) {
+        this.config = appProperties.getRequestTracing();
+    }
+
+    /**
+     * Breakdown of one slow request. Phases can overlap: mapper time includes lazy-load SQL.
+     */
+    public record SlowRequest(
+            Instant finishedAt,
+            String method,
+            String path,
+            String uri,
+            int status,
+            double totalMs,
+            double poolWaitMs,
+            int connections,
+            double sqlMs,
+            int statementCount,
+            double mapperMs,
+            double serializationMs,
+            List<StatementTiming> statements
+    ) {
+    }
+
+    public record Status(boolean enabled, long slowThresholdMs, int keep, long slowRequests, List<SlowRequest> recent) {
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !config.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestTrace trace = RequestTrace.start(config.getMaxStatements());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTrace.end();
+            long elapsed = trace.elapsedNanos();
+            if (elapsed >= config.getSlowThreshold().toNanos()) {
+                record(slowRequest(trace, elapsed, request, response));
+            }
+        }
+    }
+
+    /**
+     * Returns the tracing settings and the retained slow requests, newest first.
+     */
+    public Status status() {
+        synchronized (recent) {
+            return new Status(config.isEnabled(), config.getSlowThreshold().toMillis(), config.getKeep(),
+                    slowRequests, List.copyOf(recent));
+        }
+    }
+
+    private void record(SlowRequest slow) {
+        synchronized (recent) {
+            slowRequests++;
+            recent.addFirst(slow);
+            while (recent.size() > Math.max(0, config.getKeep())) {
+                recent.removeLast();
+            }
+        }
+        StatementTiming slowest = slow.statements().stream()
+                .max(Comparator.comparingDouble(StatementTiming::durationMs))
+                .orElse(null);
+        log.warn("Slow request: method={} path={} status={} totalMs={} poolWaitMs={} connections={} statements={} "
+                        + "sqlMs={} mapperMs={} serializationMs={} slowestSqlMs={} slowestSql=\"{}\"",
+                slow.method(), slow.path(), slow.status(), slow.totalMs(), slow.poolWaitMs(), slow.connections(),
+                slow.statementCount(), slow.sqlMs(), slow.mapperMs(), slow.serializationMs(),
+                slowest == null ? 0 : slowest.durationMs(), slowest == null ? "" : slowest.sql());
+    }
+
+    private static SlowRequest slowRequest(
+            RequestTrace trace, long elapsed, HttpServletRequest request, HttpServletResponse response) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return new SlowRequest(
+                Instant.now(),
+                request.getMethod(),
+                request.getRequestURI(),
+                pattern == null ? "UNKNOWN" : pattern.toString(),
+                response.getStatus(),
+                RequestTrace.millis(elapsed),
+                RequestTrace.millis(trace.poolWaitNanos()),
+                trace.connections(),
+                RequestTrace.millis(trace.sqlNanos()),
+                trace.statementCount(),
+                RequestTrace.millis(trace.phaseNanos(Phase.MAPPER)),
+                RequestTrace.millis(trace.phaseNanos(Phase.SERIALIZATION)),
+                trace.statements());
+    }
+}
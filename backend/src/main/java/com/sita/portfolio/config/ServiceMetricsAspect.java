@@ -0,0 +1,56 @@
+package com.sita.portfolio.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the {@code *Service} classes and of the JdbcTemplate
+ * repositories.
+ * <p>
+ * Timers are {@code portfolio.service.calls} and {@code portfolio.repository.calls},
+ * tagged with {@code class} (simple name), {@code method} and {@code exception}
+ * ({@code none} on success). Spring Data JPA repositories are timed by Spring Boot as
+ * {@code spring.data.repository.invocations}. Calls a bean makes on itself bypass the
+ * proxy and are not timed; async methods are timed until they return their future.
+ * </p>
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.sita.portfolio.service.*Service.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("portfolio.service.calls", joinPoint);
+    }
+
+    @Around("within(com.sita.portfolio.repository..*) && @within(org.springframework.stereotype.Repository)"
+            + " && execution(public * *(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("portfolio.repository.calls", joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
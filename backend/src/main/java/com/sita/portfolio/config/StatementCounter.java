@@ -0,0 +1,50 @@
+package com.sita.portfolio.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * <p>
+ * Registered as Hibernate's statement inspector by {@link MetricsConfig}; counting is
+ * only active between {@link #start()} and {@link #stop()}, which
+ * {@link RequestMetricsFilter} calls around each request. JdbcTemplate statements do
+ * not pass through Hibernate and are not counted.
+ * </p>
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Starts counting on this thread from zero.
+     */
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * Returns the statements counted since {@link #start()} without stopping.
+     */
+    public static int current() {
+        int[] count = COUNT.get();
+        return count == null ? 0 : count[0];
+    }
+
+    /**
+     * Stops counting on this thread and returns the count.
+     */
+    public static int stop() {
+        int count = current();
+        COUNT.remove();
+        return count;
+    }
+}
@@ -0,0 +1,103 @@
+package com.sita.portfolio.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Wraps the pooled DataSource to time connection checkout and statement execution for
+ * the active {@link RequestTrace}.
+ * <p>
+ * Checkout time is the wait for a Hikari connection. Only connections taken while a
+ * trace is active are proxied, so startup, scheduled jobs and background snapshot
+ * rebuilds get the pool's connection unchanged. Covers Hibernate and JdbcTemplate alike.
+ * Unwrapping to HikariDataSource still works through {@link DelegatingDataSource}.
+ * </p>
+ */
+public class TracingDataSource extends DelegatingDataSource {
+
+    public TracingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) {
+            return super.getConnection();
+        }
+        long started = System.nanoTime();
+        Connection connection = super.getConnection();
+        trace.recordConnection(System.nanoTime() - started);
+        return traced(connection, trace);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) {
+            return super.getConnection(username, password);
+        }
+        long started = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        trace.recordConnection(System.nanoTime() - started);
+        return traced(connection, trace);
+    }
+
+    private static Connection traced(Connection connection, RequestTrace trace) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return traced(statement, sql, trace);
+            }
+            return result;
+        });
+    }
+
+    private static Statement traced(Statement statement, String preparedSql, RequestTrace trace) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return proxy(type, statement, (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute") || RequestTrace.current() != trace) {
+                return invoke(statement, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            long started = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                trace.recordStatement(sql == null ? "<batch>" : sql, System.nanoTime() - started);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<? extends T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(TracingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> target.toString();
+                    default -> handler.invoke(proxy, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
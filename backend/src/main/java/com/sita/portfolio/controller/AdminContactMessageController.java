@@ -2,20 +2,19 @@ package com.sita.portfolio.controller;
 
 import com.sita.portfolio.model.dto.ApiResponse;
 import com.sita.portfolio.model.dto.request.ContactMessageStatusUpdateRequest;
+import com.sita.portfolio.model.dto.response.ContactMessagePageResponse;
 import com.sita.portfolio.model.dto.response.ContactMessageResponse;
 import com.sita.portfolio.service.ContactMessageService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestBody;
 
@@ -29,14 +28,43 @@ public class AdminContactMessageController {
 
     private final ContactMessageService contactMessageService;
 
+    /**
+     * Lists messages newest first, without bodies. Pass the previous page's
+     * {@code nextCursor} as {@code cursor} to continue; size is capped at 100.
+     */
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<ContactMessageResponse>>> listMessages(
-            @PageableDefault(size = 20, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable,
+    public ResponseEntity<ApiResponse<ContactMessagePageResponse>> listMessages(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String ip,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             HttpServletRequest request) {
-        Page<ContactMessageResponse> page = contactMessageService.getMessages(pageable);
+        ContactMessagePageResponse page = contactMessageService.getMessages(status, email, ip, cursor, size);
         return ResponseEntity.ok(ApiResponse.success(page, request.getRequestURI()));
     }
 
+    /**
+     * Full-text search over name, email, subject and body, best match first.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<ContactMessagePageResponse>> searchMessages(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request) {
+        ContactMessagePageResponse page = contactMessageService.searchMessages(q, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(page, request.getRequestURI()));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<ContactMessageResponse>> getMessage(
+            @PathVariable UUID id,
+            HttpServletRequest request) {
+        ContactMessageResponse message = contactMessageService.getMessage(id);
+        return ResponseEntity.ok(ApiResponse.success(message, request.getRequestURI()));
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<ApiResponse<ContactMessageResponse>> updateStatus(
             @PathVariable UUID id,
@@ -1,13 +1,18 @@
 package com.sita.portfolio.controller;
 
+import com.sita.portfolio.config.RequestTraceFilter;
 import com.sita.portfolio.model.dto.ApiResponse;
 import com.sita.portfolio.security.JwtAuthenticationFilter.JwtAuthenticatedUser;
+import com.sita.portfolio.service.ContactMessagePartitionMaintainer;
+import com.sita.portfolio.service.ContactMessageQueue;
+import com.sita.portfolio.service.ContactMessageRetention;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -24,6 +29,10 @@ import java.util.Map;
 public class AdminController {
 
     private final org.springframework.jdbc.core.JdbcTemplate jdbcTemplate;
+    private final ContactMessageQueue contactMessageQueue;
+    private final ContactMessageRetention contactMessageRetention;
+    private final ContactMessagePartitionMaintainer contactMessagePartitionMaintainer;
+    private final RequestTraceFilter requestTraceFilter;
 
     /**
      * Returns the current authenticated admin user's info.
@@ -76,4 +85,50 @@ public class AdminController {
         return ResponseEntity.ok(ApiResponse.success(data, request.getRequestURI()));
     }
 
+    /**
+     * Recent slow requests with pool wait, per-statement SQL, mapper and serialization times.
+     * GET /api/admin/diag/slow-requests
+     */
+    @GetMapping("/diag/slow-requests")
+    public ResponseEntity<ApiResponse<RequestTraceFilter.Status>> slowRequestDiagnostics(HttpServletRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(requestTraceFilter.status(), request.getRequestURI()));
+    }
+
+    /**
+     * Contact message write-behind queue depth and flush timings.
+     * GET /api/admin/diag/contact-queue
+     */
+    @GetMapping("/diag/contact-queue")
+    public ResponseEntity<ApiResponse<ContactMessageQueue.Stats>> contactQueueDiagnostics(HttpServletRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(contactMessageQueue.stats(), request.getRequestURI()));
+    }
+
+    /**
+     * Contact message partitions and the last maintenance run.
+     * GET /api/admin/diag/contact-partitions
+     */
+    @GetMapping("/diag/contact-partitions")
+    public ResponseEntity<ApiResponse<ContactMessagePartitionMaintainer.Status>> contactPartitionDiagnostics(
+            HttpServletRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(contactMessagePartitionMaintainer.status(), request.getRequestURI()));
+    }
+
+    /**
+     * Contact message retention policy, last run and totals.
+     * GET /api/admin/contact-retention
+     */
+    @GetMapping("/contact-retention")
+    public ResponseEntity<ApiResponse<ContactMessageRetention.Status>> contactRetentionStatus(HttpServletRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(contactMessageRetention.status(), request.getRequestURI()));
+    }
+
+    /**
+     * Archives due contact messages now and returns rows moved and bytes reclaimed.
+     * POST /api/admin/contact-retention/run
+     */
+    @PostMapping("/contact-retention/run")
+    public ResponseEntity<ApiResponse<ContactMessageRetention.RunReport>> runContactRetention(HttpServletRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(contactMessageRetention.runNow(), request.getRequestURI()));
+    }
+
 }
@@ -2,15 +2,24 @@ package com.sita.portfolio.controller;
 
 import com.sita.portfolio.model.dto.ApiResponse;
 import com.sita.portfolio.model.dto.request.ImportResumeRequest;
+import com.sita.portfolio.model.dto.response.ImportDryRunResponse;
+import com.sita.portfolio.model.dto.response.ImportJobResponse;
 import com.sita.portfolio.model.dto.response.ImportResultResponse;
+import com.sita.portfolio.service.ImportJobService;
 import com.sita.portfolio.service.ImportService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.UUID;
+
 /**
  * Admin controller for bulk import operations.
  */
@@ -21,34 +30,121 @@ import org.springframework.web.bind.annotation.*;
 public class AdminImportController {
 
     private final ImportService importService;
+    private final ImportJobService importJobService;
 
     /**
-     * Imports a complete resume, replacing all list content.
-     * POST /api/admin/import
+     * Imports a complete resume.
+     * POST /api/admin/import?mode=replace|merge
      * 
      * This endpoint:
      * - Runs in a single transaction (all or nothing)
-     * - Clears and reinserts all list sections
+     * - replace (default): clears and reinserts all list sections
+     * - merge: matches records by natural key and writes only inserts, updates and deletes
      * - Reassigns sort_order sequentially starting from 1
      * - Upserts profile and contact settings
      */
     @PostMapping("/import")
     public ResponseEntity<ApiResponse<ImportResultResponse>> importResume(
             @Valid @RequestBody ImportResumeRequest importRequest,
+            @RequestParam(defaultValue = "replace") String mode,
             HttpServletRequest request) {
         
-        log.info("Received import request");
+        log.info("Received import request ({})", mode);
         
-        ImportResultResponse result = importService.importResume(importRequest);
+        ImportService.Mode importMode = ImportService.Mode.parse(mode);
+        ImportResultResponse result = importJobService.runExclusive(
+                () -> importService.importResume(importRequest, importMode));
+        logCompleted(result);
         
+        return ResponseEntity.ok(ApiResponse.success(result, request.getRequestURI()));
+    }
+
+    /**
+     * Imports a complete resume from a streamed JSON body.
+     * POST /api/admin/import/stream
+     * 
+     * Accepts the same document as /import but parses it incrementally:
+     * - Records are validated and inserted in batches as they are read
+     * - Memory stays bounded for multi-megabyte payloads
+     * - Sections are applied in document order, in a single transaction
+     * - Supports the same mode parameter as /import
+     */
+    @PostMapping(value = "/import/stream", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<ImportResultResponse>> importResumeStream(
+            @RequestParam(defaultValue = "replace") String mode,
+            HttpServletRequest request) throws IOException {
+
+        ImportService.Mode importMode = ImportService.Mode.parse(mode);
+        log.info("Received streaming import request ({}, {} bytes)", mode, request.getContentLengthLong());
+
+        InputStream body = request.getInputStream();
+        ImportResultResponse result = importJobService.runExclusive(
+                () -> importService.importResume(body, importMode));
+        logCompleted(result);
+
+        return ResponseEntity.ok(ApiResponse.success(result, request.getRequestURI()));
+    }
+
+    /**
+     * Checks a resume import against the current data without writing anything.
+     * POST /api/admin/import/dry-run?mode=replace|merge
+     * 
+     * The body is not rejected when invalid; validation errors, slug collisions and
+     * values longer than their columns are listed per section in the report,
+     * together with expected insert/update/delete counts and per-section timing.
+     */
+    @PostMapping("/import/dry-run")
+    public ResponseEntity<ApiResponse<ImportDryRunResponse>> dryRunImport(
+            @RequestBody ImportResumeRequest importRequest,
+            @RequestParam(defaultValue = "replace") String mode,
+            HttpServletRequest request) {
+
+        ImportDryRunResponse report = importService.dryRun(importRequest, ImportService.Mode.parse(mode));
+
+        return ResponseEntity.ok(ApiResponse.success(report, request.getRequestURI()));
+    }
+
+    /**
+     * Queues a complete resume import as a background job.
+     * POST /api/admin/import?async=true&mode=replace|merge
+     * 
+     * Returns 202 with the job ID and a Location header to poll.
+     * Only one import runs at a time; a second one gets 409.
+     */
+    @PostMapping(value = "/import", params = "async=true")
+    public ResponseEntity<ApiResponse<ImportJobResponse>> submitImportJob(
+            @Valid @RequestBody ImportResumeRequest importRequest,
+            @RequestParam(defaultValue = "replace") String mode,
+            HttpServletRequest request) {
+
+        ImportService.Mode importMode = ImportService.Mode.parse(mode);
+        ImportJobResponse job = importJobService.submit(importMode.value(),
+                progress -> importService.importResume(importRequest, importMode, progress));
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/admin/import/jobs/" + job.getId()))
+                .body(ApiResponse.success(job, request.getRequestURI()));
+    }
+
+    /**
+     * Gets the progress of an import job, and its result once finished.
+     * GET /api/admin/import/jobs/{id}
+     */
+    @GetMapping("/import/jobs/{id}")
+    public ResponseEntity<ApiResponse<ImportJobResponse>> getImportJob(
+            @PathVariable UUID id,
+            HttpServletRequest request) {
+
+        return ResponseEntity.ok(ApiResponse.success(importJobService.getJob(id), request.getRequestURI()));
+    }
+
+    private void logCompleted(ImportResultResponse result) {
         log.info("Import completed: {} experiences, {} projects, {} skill categories, {} education, {} certifications",
                 result.getCounts().getExperiences(),
                 result.getCounts().getProjects(),
                 result.getCounts().getSkillCategories(),
                 result.getCounts().getEducation(),
                 result.getCounts().getCertifications());
-        
-        return ResponseEntity.ok(ApiResponse.success(result, request.getRequestURI()));
     }
 
 }
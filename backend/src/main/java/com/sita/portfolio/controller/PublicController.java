@@ -1,39 +1,53 @@
 package com.sita.portfolio.controller;
 
+import com.sita.portfolio.config.AppProperties;
 import com.sita.portfolio.exception.ResourceNotFoundException;
 import com.sita.portfolio.model.dto.ApiResponse;
 import com.sita.portfolio.model.dto.HealthResponse;
 import com.sita.portfolio.model.dto.request.ContactMessageRequest;
-import com.sita.portfolio.model.dto.response.*;
 import com.sita.portfolio.service.ContactMessageService;
 import com.sita.portfolio.service.HealthService;
 import com.sita.portfolio.service.PortfolioService;
+import com.sita.portfolio.service.PublicViewRenderer;
+import com.sita.portfolio.service.RenderedView;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.servlet.HandlerMapping;
 
 /**
  * Public API endpoints accessible without authentication.
  * All list endpoints return published content only, sorted by sort_order ASC.
+ * <p>
+ * Content endpoints serve bodies pre-rendered by the portfolio snapshot,
+ * gzip-compressed when the client accepts it, without per-request serialization.
+ * They carry ETag, Last-Modified and Cache-Control headers; conditional requests
+ * that still match are answered with 304 Not Modified.
+ * </p>
  */
 @RestController
 @RequestMapping("/api/public")
 @RequiredArgsConstructor
 public class PublicController {
 
+    private static final String GZIP = "gzip";
+
     private final HealthService healthService;
     private final PortfolioService portfolioService;
     private final ContactMessageService contactMessageService;
+    private final AppProperties appProperties;
 
     /**
      * Health check endpoint.
@@ -49,8 +63,8 @@ public class PublicController {
      * GET /api/public/portfolio
      */
     @GetMapping("/portfolio")
-    public ResponseEntity<ApiResponse<PortfolioResponse>> getPortfolio(HttpServletRequest request) {
-        return ResponseEntity.ok(ApiResponse.success(portfolioService.getPortfolio(), request.getRequestURI()));
+    public ResponseEntity<byte[]> getPortfolio(HttpServletRequest request) {
+        return renderedView(request, "portfolio", "Portfolio not found");
     }
 
     /**
@@ -58,12 +72,8 @@ public class PublicController {
      * GET /api/public/profile
      */
     @GetMapping("/profile")
-    public ResponseEntity<ApiResponse<ProfileResponse>> getProfile(HttpServletRequest request) {
-        ProfileResponse profile = portfolioService.getProfile();
-        if (profile == null) {
-            throw new ResourceNotFoundException("Profile not found");
-        }
-        return ResponseEntity.ok(ApiResponse.success(profile, request.getRequestURI()));
+    public ResponseEntity<byte[]> getProfile(HttpServletRequest request) {
+        return renderedView(request, "profile", "Profile not found");
     }
 
     /**
@@ -71,8 +81,8 @@ public class PublicController {
      * GET /api/public/experience or /api/public/experiences
      */
     @GetMapping({"/experience", "/experiences"})
-    public ResponseEntity<ApiResponse<List<ExperienceResponse>>> getExperiences(HttpServletRequest request) {
-        return ResponseEntity.ok(ApiResponse.success(portfolioService.getPublishedExperiences(), request.getRequestURI()));
+    public ResponseEntity<byte[]> getExperiences(HttpServletRequest request) {
+        return renderedView(request, "experience", "Experiences not found");
     }
 
     /**
@@ -80,8 +90,8 @@ public class PublicController {
      * GET /api/public/projects
      */
     @GetMapping("/projects")
-    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getProjects(HttpServletRequest request) {
-        return ResponseEntity.ok(ApiResponse.success(portfolioService.getPublishedProjects(), request.getRequestURI()));
+    public ResponseEntity<byte[]> getProjects(HttpServletRequest request) {
+        return renderedView(request, "projects", "Projects not found");
     }
 
     /**
@@ -89,8 +99,8 @@ public class PublicController {
      * GET /api/public/projects/featured
      */
     @GetMapping("/projects/featured")
-    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getFeaturedProjects(HttpServletRequest request) {
-        return ResponseEntity.ok(ApiResponse.success(portfolioService.getFeaturedProjects(), request.getRequestURI()));
+    public ResponseEntity<byte[]> getFeaturedProjects(HttpServletRequest request) {
+        return renderedView(request, "featured-projects", "Featured projects not found");
     }
 
     /**
@@ -98,14 +108,14 @@ public class PublicController {
      * GET /api/public/projects/{slug}
      */
     @GetMapping("/projects/{slug}")
-    public ResponseEntity<ApiResponse<ProjectResponse>> getProjectBySlug(
+    public ResponseEntity<byte[]> getProjectBySlug(
             @PathVariable String slug,
             HttpServletRequest request) {
-        ProjectResponse project = portfolioService.getProjectBySlug(slug);
-        if (project == null) {
+        RenderedView view = portfolioService.getRenderedView(PublicViewRenderer.BASE_PATH + "/projects/" + slug);
+        if (view == null) {
             throw new ResourceNotFoundException("Project", "slug", slug);
         }
-        return ResponseEntity.ok(ApiResponse.success(project, request.getRequestURI()));
+        return write(view, "project", request);
     }
 
     /**
@@ -113,8 +123,8 @@ public class PublicController {
      * GET /api/public/skills
      */
     @GetMapping("/skills")
-    public ResponseEntity<ApiResponse<List<SkillCategoryResponse>>> getSkills(HttpServletRequest request) {
-        return ResponseEntity.ok(ApiResponse.success(portfolioService.getPublishedSkills(), request.getRequestURI()));
+    public ResponseEntity<byte[]> getSkills(HttpServletRequest request) {
+        return renderedView(request, "skills", "Skills not found");
     }
 
     /**
@@ -122,8 +132,8 @@ public class PublicController {
      * GET /api/public/education
      */
     @GetMapping("/education")
-    public ResponseEntity<ApiResponse<List<EducationResponse>>> getEducation(HttpServletRequest request) {
-        return ResponseEntity.ok(ApiResponse.success(portfolioService.getPublishedEducation(), request.getRequestURI()));
+    public ResponseEntity<byte[]> getEducation(HttpServletRequest request) {
+        return renderedView(request, "education", "Education not found");
     }
 
     /**
@@ -131,8 +141,8 @@ public class PublicController {
      * GET /api/public/certifications
      */
     @GetMapping("/certifications")
-    public ResponseEntity<ApiResponse<List<CertificationResponse>>> getCertifications(HttpServletRequest request) {
-        return ResponseEntity.ok(ApiResponse.success(portfolioService.getPublishedCertifications(), request.getRequestURI()));
+    public ResponseEntity<byte[]> getCertifications(HttpServletRequest request) {
+        return renderedView(request, "certifications", "Certifications not found");
     }
 
     /**
@@ -140,25 +150,73 @@ public class PublicController {
      * GET /api/public/contact
      */
     @GetMapping("/contact")
-    public ResponseEntity<ApiResponse<ContactSettingsResponse>> getContactSettings(HttpServletRequest request) {
-        ContactSettingsResponse contact = portfolioService.getContactSettings();
-        if (contact == null) {
-            throw new ResourceNotFoundException("Contact settings not found");
-        }
-        return ResponseEntity.ok(ApiResponse.success(contact, request.getRequestURI()));
+    public ResponseEntity<byte[]> getContactSettings(HttpServletRequest request) {
+        return renderedView(request, "contact", "Contact settings not found");
     }
 
     /**
      * Submit a contact message (public).
+     * Completes asynchronously, so the request thread is released during captcha verification.
      * POST /api/public/contact/messages
      */
     @PostMapping("/contact/messages")
-    public ResponseEntity<ApiResponse<Map<String, String>>> submitContactMessage(
+    public CompletableFuture<ResponseEntity<ApiResponse<Map<String, String>>>> submitContactMessage(
             @Valid @RequestBody ContactMessageRequest contactMessageRequest,
             HttpServletRequest request) {
-        contactMessageService.submit(contactMessageRequest, request);
-        Map<String, String> result = Map.of("status", "received");
-        return ResponseEntity.ok(ApiResponse.success(result, request.getRequestURI()));
+        String path = request.getRequestURI();
+        return contactMessageService.submit(contactMessageRequest, request)
+                .thenApply(ignored -> ResponseEntity.ok(ApiResponse.success(Map.of("status", "received"), path)));
+    }
+
+    /**
+     * Looks the view up by the matched mapping, which excludes the context path and
+     * is the same for every spelling of the URI.
+     */
+    private ResponseEntity<byte[]> renderedView(HttpServletRequest request, String endpoint, String notFoundMessage) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        RenderedView view = portfolioService.getRenderedView(String.valueOf(pattern));
+        if (view == null) {
+            throw new ResourceNotFoundException(notFoundMessage);
+        }
+        return write(view, endpoint, request);
+    }
+
+    /**
+     * Writes the pre-rendered bytes as-is, choosing the gzip variant when accepted.
+     * The ETag and Last-Modified headers let Spring answer matching conditional
+     * requests with 304 before any body is written.
+     */
+    private ResponseEntity<byte[]> write(RenderedView view, String endpoint, HttpServletRequest request) {
+        AppProperties.CachePolicy policy = appProperties.getPublicCache().forEndpoint(endpoint);
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .eTag(gzip ? view.gzipEtag() : view.etag())
+                .lastModified(view.lastModified())
+                .cacheControl(CacheControl.maxAge(policy.getMaxAge())
+                        .cachePublic()
+                        .staleWhileRevalidate(policy.getStaleWhileRevalidate()));
+
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(view.gzip());
+        }
+        return response.body(view.identity());
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase(GZIP) || name.equals("*")) {
+                return parts.length == 1 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
 
 }
@@ -19,10 +19,12 @@ import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -384,6 +386,35 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(response);
     }
 
+    // ========================================
+    // Explicit Status Handlers
+    // ========================================
+
+    /**
+     * Handles exceptions that carry their own status, e.g. 429 from the contact rate limiter.
+     * Headers such as Retry-After are passed through.
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ApiErrorResponse> handleResponseStatus(
+            ResponseStatusException ex,
+            HttpServletRequest request) {
+
+        HttpStatus status = Optional.ofNullable(HttpStatus.resolve(ex.getStatusCode().value()))
+                .orElse(HttpStatus.INTERNAL_SERVER_ERROR);
+
+        log.warn("Request to {} rejected with {}: {}", request.getRequestURI(), status.value(), ex.getReason());
+
+        ApiErrorResponse response = ApiErrorResponse.builder()
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(ex.getReason())
+                .build();
+
+        return ResponseEntity.status(status).headers(ex.getHeaders()).body(response);
+    }
+
     // ========================================
     // 500 Internal Server Error Handler
     // ========================================
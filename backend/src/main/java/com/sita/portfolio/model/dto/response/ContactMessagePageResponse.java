@@ -0,0 +1,19 @@
+package com.sita.portfolio.model.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * One keyset page of the admin inbox.
+ * {@code nextCursor} is an opaque token for the following page and is null on the last page.
+ */
+@Value
+@Builder
+public class ContactMessagePageResponse {
+    List<ContactMessageSummaryResponse> content;
+    int size;
+    boolean hasMore;
+    String nextCursor;
+}
@@ -0,0 +1,23 @@
+package com.sita.portfolio.model.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Inbox row for the admin message list; the body is loaded separately via
+ * {@link ContactMessageResponse}.
+ */
+@Value
+@Builder
+public class ContactMessageSummaryResponse {
+    UUID id;
+    String name;
+    String email;
+    String subject;
+    String status;
+    OffsetDateTime createdAt;
+    String ipAddress;
+}
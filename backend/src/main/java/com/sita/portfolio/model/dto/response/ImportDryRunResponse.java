@@ -0,0 +1,53 @@
+package com.sita.portfolio.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response DTO for a dry-run import.
+ * For each section present in the payload, reports what a real import in the same
+ * mode would change, the problems that would make it fail, and how long the checks took.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportDryRunResponse {
+
+    private String mode;
+    private boolean valid;
+    private double elapsedMillis;
+    private Map<String, SectionReport> sections;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SectionReport {
+        private int records;
+        private int children;
+        private int inserted;
+        private int updated;
+        private int deleted;
+        private int unchanged;
+        /** Breaks in the existing sort order; the import renumbers rows from 1. */
+        private int sortOrderGaps;
+        private double elapsedMillis;
+        private List<Issue> issues;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Issue {
+        private String field;
+        private String message;
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.sita.portfolio.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Response DTO for a background import job.
+ * Status is one of queued, running, succeeded or failed; {@code result} is set once
+ * the job succeeded and {@code error} once it failed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobResponse {
+
+    private UUID id;
+    private String status;
+    private String mode;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private Map<String, SectionProgress> progress;
+    private ImportResultResponse result;
+    private String error;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SectionProgress {
+        private int processed;
+        private Integer total;
+    }
+
+}
@@ -5,8 +5,12 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 /**
  * Response DTO for import operation results.
+ * {@code counts} describes the imported document; {@code changes} reports, per list
+ * section, the rows that were inserted, updated, deleted or left unchanged.
  */
 @Data
 @Builder
@@ -16,7 +20,9 @@ public class ImportResultResponse {
 
     private boolean success;
     private String message;
+    private String mode;
     private ImportCounts counts;
+    private Map<String, SectionChanges> changes;
 
     @Data
     @Builder
@@ -35,11 +41,24 @@ public class ImportResultResponse {
         private boolean contactSettingsUpdated;
     }
 
-    public static ImportResultResponse success(ImportCounts counts) {
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SectionChanges {
+        private int inserted;
+        private int updated;
+        private int deleted;
+        private int unchanged;
+    }
+
+    public static ImportResultResponse success(String mode, ImportCounts counts, Map<String, SectionChanges> changes) {
         return ImportResultResponse.builder()
                 .success(true)
                 .message("Import completed successfully")
+                .mode(mode)
                 .counts(counts)
+                .changes(changes)
                 .build();
     }
 
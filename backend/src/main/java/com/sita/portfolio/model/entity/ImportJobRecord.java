@@ -0,0 +1,49 @@
+package com.sita.portfolio.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Stored state of a background import job (V11). Read and written through JDBC by
+ * ImportJobService; progress and result hold JSON.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "import_job", schema = "portfolio")
+public class ImportJobRecord {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false, length = 20)
+    private String mode;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "submitted_at", nullable = false)
+    private Instant submittedAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(columnDefinition = "TEXT")
+    private String progress;
+
+    @Column(columnDefinition = "TEXT")
+    private String result;
+
+    @Column(columnDefinition = "TEXT")
+    private String error;
+}
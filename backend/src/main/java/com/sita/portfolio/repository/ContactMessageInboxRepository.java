@@ -0,0 +1,239 @@
+package com.sita.portfolio.repository;
+
+import com.sita.portfolio.model.dto.response.ContactMessageSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Keyset-paginated reads of the admin contact inbox.
+ * <p>
+ * Pages are ordered by (created_at, id) descending and continue from the last row of
+ * the previous page with a row-value comparison, so a page costs one index range scan
+ * however deep the admin scrolls and no COUNT(*) is issued. The message body and
+ * user agent (both TEXT) are never selected; callers load them one message at a time.
+ * V8 adds the matching indexes, including a partial index for status = 'new'.
+ * </p>
+ * <p>
+ * Search ranks matches with ts_rank over the generated {@code search_vector} column
+ * and its GIN index (V9). Other databases (H2 in tests) fall back to LIKE matching
+ * per term with the same field weights, so ranking and paging behave alike.
+ * </p>
+ * <p>
+ * Only the newest {@link #MAX_RANKED_MATCHES} matches are ranked. Ranking every match
+ * would make a common term cost a ts_rank call per matching row on each page; with the
+ * bound a query reads at most that many rows from the (created_at, id) or GIN index,
+ * however many messages match. Older matches beyond the bound are not returned, so a
+ * term matching more messages than that needs a narrower query.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ContactMessageInboxRepository {
+
+    private static final String SELECT_SQL = """
+            SELECT id, name, email, subject, status, created_at, ip_address
+            FROM portfolio.contact_message
+            """;
+
+    private static final RowMapper<ContactMessageSummaryResponse> ROW_MAPPER = (rs, rowNum) ->
+            ContactMessageSummaryResponse.builder()
+                    .id(rs.getObject("id", UUID.class))
+                    .name(rs.getString("name"))
+                    .email(rs.getString("email"))
+                    .subject(rs.getString("subject"))
+                    .status(rs.getString("status"))
+                    .createdAt(rs.getObject("created_at", OffsetDateTime.class))
+                    .ipAddress(rs.getString("ip_address"))
+                    .build();
+
+    /**
+     * Outer query shared by both search paths; {@code %s} is the derived table of
+     * matching rows with their rank.
+     */
+    private static final String SEARCH_PAGE_SQL = """
+            SELECT id, name, email, subject, status, created_at, ip_address, rank
+            FROM (%s) hits
+            """;
+
+    private static final String POSTGRES_HITS_SQL = """
+            SELECT id, name, email, subject, status, created_at, ip_address,
+                   ts_rank(search_vector, query) AS rank
+            FROM (SELECT id, name, email, subject, status, created_at, ip_address, search_vector, query
+                  FROM portfolio.contact_message, websearch_to_tsquery('english', ?) AS query
+                  WHERE search_vector @@ query
+                  ORDER BY created_at DESC, id DESC
+                  LIMIT ?) candidates
+            """;
+
+    /** How many of the newest matches a search ranks; older matches are not returned. */
+    public static final int MAX_RANKED_MATCHES = 1_000;
+
+    private static final String POSTGRES = "PostgreSQL";
+    private static final int MAX_FALLBACK_TERMS = 8;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean fullTextSupported;
+
+    /**
+     * Returns up to {@code limit} messages older than the cursor, newest first.
+     * Null filters and a null cursor are ignored; {@code email} must already be lower case.
+     */
+    public List<ContactMessageSummaryResponse> findPage(Filter filter, Cursor after, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        String keyword = "WHERE ";
+
+        // Each predicate is only added when set, so PostgreSQL plans against the matching index
+        if (filter.status() != null) {
+            // Inlined rather than bound so a generic plan can still prove the partial index predicate
+            if (!filter.status().matches("[a-z]+")) {
+                throw new IllegalArgumentException("Unexpected status: " + filter.status());
+            }
+            sql.append(keyword).append("status = '").append(filter.status()).append("' ");
+            keyword = "AND ";
+        }
+        if (filter.email() != null) {
+            sql.append(keyword).append("lower(email) = ? ");
+            args.add(filter.email());
+            keyword = "AND ";
+        }
+        if (filter.ip() != null) {
+            sql.append(keyword).append("ip_address = ? ");
+            args.add(filter.ip());
+            keyword = "AND ";
+        }
+        if (after != null) {
+            sql.append(keyword).append("(created_at, id) < (?, ?) ");
+            args.add(after.createdAt());
+            args.add(after.id());
+        }
+        sql.append("ORDER BY created_at DESC, id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * Returns up to {@code limit} messages matching {@code query}, best match first and
+     * newest first among equal ranks, continuing after the cursor when one is given.
+     * The query uses web search syntax on PostgreSQL: quoted phrases, OR and -exclusions.
+     */
+    public List<SearchHit> search(String query, SearchCursor after, int limit) {
+        List<Object> args = new ArrayList<>();
+        String hits;
+        if (supportsFullText()) {
+            hits = POSTGRES_HITS_SQL;
+            args.add(query);
+            args.add(MAX_RANKED_MATCHES);
+        } else {
+            hits = fallbackHitsSql(query, args);
+        }
+
+        StringBuilder sql = new StringBuilder(SEARCH_PAGE_SQL.formatted(hits));
+        if (after != null) {
+            sql.append("WHERE (rank, created_at, id) < (CAST(? AS REAL), ?, ?) ");
+            args.add(after.rank());
+            args.add(after.createdAt());
+            args.add(after.id());
+        }
+        sql.append("ORDER BY rank DESC, created_at DESC, id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new SearchHit(ROW_MAPPER.mapRow(rs, rowNum), rs.getFloat("rank")),
+                args.toArray());
+    }
+
+    /**
+     * Whether the connected database provides tsvector search. Resolved from connection
+     * metadata on first call.
+     */
+    public boolean supportsFullText() {
+        Boolean supported = fullTextSupported;
+        if (supported == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            supported = POSTGRES.equalsIgnoreCase(product);
+            fullTextSupported = supported;
+            log.info("Contact message search: {}", supported ? "tsvector full-text" : "LIKE fallback");
+        }
+        return supported;
+    }
+
+    /**
+     * Every whitespace-separated term must appear in some field. Each term scores the
+     * ts_rank default weights of the best field it hits: name/email A (1.0),
+     * subject B (0.4), message C (0.2). Bounded to the newest matches like the tsvector path.
+     */
+    private static String fallbackHitsSql(String query, List<Object> args) {
+        List<String> terms = Arrays.stream(query.toLowerCase(Locale.ROOT).split("\\s+"))
+                .map(term -> term.replaceAll("^[-\"]+|\"+$", ""))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_FALLBACK_TERMS)
+                .toList();
+        if (terms.isEmpty()) {
+            return "SELECT id, name, email, subject, status, created_at, ip_address, CAST(0 AS REAL) AS rank"
+                    + " FROM portfolio.contact_message WHERE 1 = 0";
+        }
+
+        StringBuilder scores = new StringBuilder();
+        StringBuilder matched = new StringBuilder();
+        StringBuilder rank = new StringBuilder();
+        for (int i = 0; i < terms.size(); i++) {
+            String pattern = "%" + terms.get(i).replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+            scores.append(", CASE")
+                    .append(" WHEN lower(name) LIKE ? ESCAPE '\\' OR lower(email) LIKE ? ESCAPE '\\' THEN 1.0")
+                    .append(" WHEN lower(subject) LIKE ? ESCAPE '\\' THEN 0.4")
+                    .append(" WHEN lower(message) LIKE ? ESCAPE '\\' THEN 0.2")
+                    .append(" ELSE 0 END AS t").append(i);
+            for (int j = 0; j < 4; j++) {
+                args.add(pattern);
+            }
+            matched.append(i == 0 ? "WHERE " : " AND ").append('t').append(i).append(" > 0");
+            rank.append(i == 0 ? "" : " + ").append('t').append(i);
+        }
+        args.add(MAX_RANKED_MATCHES);
+        return "SELECT id, name, email, subject, status, created_at, ip_address, CAST(" + rank + " AS REAL) AS rank"
+                + " FROM (SELECT id, name, email, subject, status, created_at, ip_address" + scores
+                + " FROM portfolio.contact_message) terms " + matched
+                + " ORDER BY created_at DESC, id DESC LIMIT ?";
+    }
+
+    /**
+     * Optional inbox filters; null means "any".
+     */
+    public record Filter(String status, String email, String ip) {
+    }
+
+    /**
+     * Sort key of the last row on a page.
+     */
+    public record Cursor(OffsetDateTime createdAt, UUID id) {
+    }
+
+    /**
+     * Sort key of the last search result on a page.
+     */
+    public record SearchCursor(float rank, OffsetDateTime createdAt, UUID id) {
+    }
+
+    /**
+     * One search result with the rank it was ordered by.
+     */
+    public record SearchHit(ContactMessageSummaryResponse message, float rank) {
+    }
+}
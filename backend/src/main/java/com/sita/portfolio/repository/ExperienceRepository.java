@@ -1,6 +1,7 @@
 package com.sita.portfolio.repository;
 
 import com.sita.portfolio.model.entity.Experience;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -15,13 +16,15 @@ import java.util.UUID;
 public interface ExperienceRepository extends JpaRepository<Experience, UUID> {
 
     /**
-     * Finds all published experiences ordered by sort_order.
+     * Finds all published experiences ordered by sort_order, fetching bullets in the same query.
      */
+    @EntityGraph(attributePaths = "bullets")
     List<Experience> findByPublishedTrueOrderBySortOrderAsc();
 
     /**
-     * Finds all experiences ordered by sort_order (for admin).
+     * Finds all experiences ordered by sort_order (for admin), fetching bullets in the same query.
      */
+    @EntityGraph(attributePaths = "bullets")
     List<Experience> findAllByOrderBySortOrderAsc();
 
     /**
@@ -0,0 +1,157 @@
+package com.sita.portfolio.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sita.portfolio.model.dto.response.PortfolioResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Read-only repository that loads the whole published portfolio in one statement.
+ * <p>
+ * PostgreSQL builds the response document with json_build_object/json_agg, so the
+ * snapshot rebuild costs a single round trip through the pooler. Other databases
+ * (H2 in tests) report {@link #supportsAggregation()} as false and callers fall
+ * back to the JPA repositories.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioReadRepository {
+
+    private static final String POSTGRES = "PostgreSQL";
+
+    /**
+     * Keys mirror the response DTO property names; lists are ordered by sort_order
+     * and default to empty arrays so Jackson never sees null collections.
+     */
+    private static final String PUBLISHED_PORTFOLIO_SQL = """
+            SELECT json_build_object(
+                'profile', (
+                    SELECT json_build_object(
+                        'id', p.id, 'name', p.name, 'title', p.title, 'tagline', p.tagline,
+                        'bio', p.bio, 'avatarUrl', p.avatar_url, 'resumeUrl', p.resume_url,
+                        'email', p.email, 'githubUrl', p.github_url, 'linkedinUrl', p.linkedin_url,
+                        'twitterUrl', p.twitter_url, 'nickname', p.nickname)
+                    FROM portfolio.profile p
+                    LIMIT 1),
+                'experiences', COALESCE((
+                    SELECT json_agg(json_build_object(
+                        'id', e.id, 'company', e.company, 'role', e.role, 'location', e.location,
+                        'employmentType', e.employment_type, 'startDate', e.start_date,
+                        'endDate', e.end_date, 'description', e.description,
+                        'techStack', e.tech_stack, 'companyUrl', e.company_url,
+                        'logoUrl', e.logo_url, 'published', e.is_published,
+                        'sortOrder', e.sort_order,
+                        'bullets', COALESCE((
+                            SELECT json_agg(json_build_object(
+                                'id', b.id, 'content', b.content, 'sortOrder', b.sort_order)
+                                ORDER BY b.sort_order)
+                            FROM portfolio.experience_bullet b
+                            WHERE b.experience_id = e.id), '[]'::json))
+                        ORDER BY e.sort_order)
+                    FROM portfolio.experience e
+                    WHERE e.is_published), '[]'::json),
+                'projects', COALESCE((
+                    SELECT json_agg(json_build_object(
+                        'id', pr.id, 'title', pr.title, 'slug', pr.slug,
+                        'description', pr.description, 'longDescription', pr.long_description,
+                        'techStack', pr.tech_stack, 'liveUrl', pr.live_url,
+                        'githubUrl', pr.github_url, 'imageUrl', pr.image_url,
+                        'thumbnailUrl', pr.thumbnail_url, 'featured', pr.is_featured,
+                        'published', pr.is_published, 'sortOrder', pr.sort_order,
+                        'bullets', COALESCE((
+                            SELECT json_agg(json_build_object(
+                                'id', b.id, 'content', b.content, 'sortOrder', b.sort_order)
+                                ORDER BY b.sort_order)
+                            FROM portfolio.project_bullet b
+                            WHERE b.project_id = pr.id), '[]'::json))
+                        ORDER BY pr.sort_order)
+                    FROM portfolio.project pr
+                    WHERE pr.is_published), '[]'::json),
+                'skills', COALESCE((
+                    SELECT json_agg(json_build_object(
+                        'id', c.id, 'name', c.name, 'icon', c.icon,
+                        'published', c.is_published, 'sortOrder', c.sort_order,
+                        'skills', COALESCE((
+                            SELECT json_agg(json_build_object(
+                                'id', s.id, 'name', s.name, 'iconUrl', s.icon_url,
+                                'proficiency', s.proficiency, 'sortOrder', s.sort_order)
+                                ORDER BY s.sort_order)
+                            FROM portfolio.skill_item s
+                            WHERE s.category_id = c.id), '[]'::json))
+                        ORDER BY c.sort_order)
+                    FROM portfolio.skill_category c
+                    WHERE c.is_published), '[]'::json),
+                'education', COALESCE((
+                    SELECT json_agg(json_build_object(
+                        'id', ed.id, 'institution', ed.institution, 'degree', ed.degree,
+                        'fieldOfStudy', ed.field_of_study, 'location', ed.location,
+                        'startYear', ed.start_year, 'endYear', ed.end_year, 'gpa', ed.gpa,
+                        'description', ed.description, 'logoUrl', ed.logo_url,
+                        'published', ed.is_published, 'sortOrder', ed.sort_order)
+                        ORDER BY ed.sort_order)
+                    FROM portfolio.education ed
+                    WHERE ed.is_published), '[]'::json),
+                'certifications', COALESCE((
+                    SELECT json_agg(json_build_object(
+                        'id', ce.id, 'name', ce.name, 'issuer', ce.issuer,
+                        'issueDate', ce.issue_date, 'expiryDate', ce.expiry_date,
+                        'credentialId', ce.credential_id, 'credentialUrl', ce.credential_url,
+                        'badgeUrl', ce.badge_url, 'published', ce.is_published,
+                        'sortOrder', ce.sort_order)
+                        ORDER BY ce.sort_order)
+                    FROM portfolio.certification ce
+                    WHERE ce.is_published), '[]'::json),
+                'contact', (
+                    SELECT json_build_object(
+                        'id', cs.id, 'email', cs.email, 'phone', cs.phone,
+                        'location', cs.location, 'availabilityStatus', cs.availability_status,
+                        'formEnabled', cs.form_enabled, 'formRecipient', cs.form_recipient,
+                        'successMessage', cs.success_message)
+                    FROM portfolio.contact_settings cs
+                    LIMIT 1)
+            )::text
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    private volatile Boolean aggregationSupported;
+
+    /**
+     * Whether the connected database can run the single-statement aggregation.
+     * Resolved from connection metadata on first call.
+     */
+    public boolean supportsAggregation() {
+        Boolean supported = aggregationSupported;
+        if (supported == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            supported = POSTGRES.equalsIgnoreCase(product);
+            aggregationSupported = supported;
+            log.info("Portfolio read path: {}", supported ? "single-statement json aggregation" : "JPA repositories");
+        }
+        return supported;
+    }
+
+    /**
+     * Loads all published content as one JSON document and maps it to a {@link PortfolioResponse}.
+     * Featured projects are left unset; callers derive them from the project list.
+     * Only valid when {@link #supportsAggregation()} is true.
+     */
+    public PortfolioResponse findPublishedPortfolio() {
+        String json = jdbcTemplate.queryForObject(PUBLISHED_PORTFOLIO_SQL, String.class);
+        try {
+            return objectMapper.readValue(json, PortfolioResponse.class);
+        } catch (JsonProcessingException ex) {
+            throw new DataRetrievalFailureException("Failed to map aggregated portfolio JSON", ex);
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.sita.portfolio.repository;
 
 import com.sita.portfolio.model.entity.Project;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -16,18 +17,21 @@ import java.util.UUID;
 public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
     /**
-     * Finds all published projects ordered by sort_order.
+     * Finds all published projects ordered by sort_order, fetching bullets in the same query.
      */
+    @EntityGraph(attributePaths = "bullets")
     List<Project> findByPublishedTrueOrderBySortOrderAsc();
 
     /**
-     * Finds all featured and published projects ordered by sort_order.
+     * Finds all featured and published projects ordered by sort_order, fetching bullets in the same query.
      */
+    @EntityGraph(attributePaths = "bullets")
     List<Project> findByFeaturedTrueAndPublishedTrueOrderBySortOrderAsc();
 
     /**
-     * Finds all projects ordered by sort_order (for admin).
+     * Finds all projects ordered by sort_order (for admin), fetching bullets in the same query.
      */
+    @EntityGraph(attributePaths = "bullets")
     List<Project> findAllByOrderBySortOrderAsc();
 
     /**
@@ -36,8 +40,9 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
     Optional<Project> findBySlug(String slug);
 
     /**
-     * Finds a published project by slug.
+     * Finds a published project by slug, fetching bullets in the same query.
      */
+    @EntityGraph(attributePaths = "bullets")
     Optional<Project> findBySlugAndPublishedTrue(String slug);
 
     /**
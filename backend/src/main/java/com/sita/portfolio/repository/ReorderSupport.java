@@ -0,0 +1,246 @@
+package com.sita.portfolio.repository;
+
+import com.sita.portfolio.exception.BadRequestException;
+import com.sita.portfolio.model.entity.BaseEntity;
+import com.sita.portfolio.model.entity.PublishableEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Table;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Set-based reordering of sort_order columns.
+ * <p>
+ * A reorder costs two statements regardless of list size: one to validate the IDs
+ * and one UPDATE that assigns every position. On PostgreSQL the IDs travel as one
+ * {@code uuid[]} parameter to both, with the update joining against
+ * {@code unnest(uuid[], int[])}; other databases (H2 in tests) bind one parameter
+ * per ID and update with a CASE expression.
+ * The persistence context is flushed before the update; afterwards only entities of
+ * the reordered type (and, for child rows, the parent holding their collection) are
+ * detached, so callers reading them see the new order and other managed entities
+ * stay attached.
+ * </p>
+ */
+@Repository
+@Slf4j
+public class ReorderSupport {
+
+    private static final String FIELD = "orderedIds";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean arraysSupported;
+
+    /**
+     * Assigns sort_order 0..n-1 to the given entities in list order.
+     * Throws {@link BadRequestException} if any ID is unknown or repeated.
+     */
+    public <T extends PublishableEntity> void reorder(Class<T> entityType, List<UUID> orderedIds) {
+        String table = tableName(entityType);
+        String label = label(entityType);
+        Map<UUID, Integer> positions = positions(orderedIds, label);
+
+        List<?> found = selectByIds("id", table, orderedIds);
+        requireAll(positions, found.stream().map(ReorderSupport::toUuid).toList(), label);
+
+        update(table, orderedIds, true, label);
+        detach(entityType, null);
+    }
+
+    /**
+     * Assigns sort_order 0..n-1 to child rows of one parent, in list order.
+     * Throws {@link BadRequestException} if any ID is unknown, repeated or belongs to another parent.
+     */
+    public void reorderChildren(Class<?> entityType, String parentColumn, UUID parentId, List<UUID> orderedIds) {
+        String table = tableName(entityType);
+        String label = label(entityType);
+        Map<UUID, Integer> positions = positions(orderedIds, label);
+
+        List<?> rows = selectByIds("id, " + parentColumn, table, orderedIds);
+
+        Map<UUID, UUID> parents = new HashMap<>(rows.size() * 2);
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            parents.put(toUuid(columns[0]), toUuid(columns[1]));
+        }
+        requireAll(positions, parents.keySet(), label);
+        for (UUID id : orderedIds) {
+            if (!parentId.equals(parents.get(id))) {
+                throw new BadRequestException(
+                        capitalize(label) + " " + id + " does not belong to " + parentColumn.replace("_id", "") + " " + parentId,
+                        FIELD
+                );
+            }
+        }
+
+        update(table, orderedIds, BaseEntity.class.isAssignableFrom(entityType), label);
+        detach(entityType, parentId);
+    }
+
+    private List<?> selectByIds(String columns, String table, List<UUID> ids) {
+        if (supportsArrays()) {
+            return entityManager.createNativeQuery(
+                            "SELECT " + columns + " FROM " + table + " WHERE id = ANY(CAST(:ids AS uuid[]))")
+                    .setParameter("ids", arrayLiteral(ids))
+                    .getResultList();
+        }
+        return entityManager.createNativeQuery("SELECT " + columns + " FROM " + table + " WHERE id IN (:ids)")
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    /**
+     * Detaches managed entities of the reordered type, whose sort_order the update changed
+     * behind Hibernate's back, and the parent whose collection holds them, if any.
+     */
+    private void detach(Class<?> entityType, UUID parentId) {
+        var persistenceContext = entityManager.unwrap(SessionImplementor.class).getPersistenceContextInternal();
+        for (Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries()) {
+            Object entity = entry.getKey();
+            if (entityType.isInstance(entity) || (parentId != null && parentId.equals(entry.getValue().getId()))) {
+                entityManager.detach(entity);
+            }
+        }
+    }
+
+    private void update(String table, List<UUID> orderedIds, boolean touchUpdatedAt, String label) {
+        String touch = touchUpdatedAt ? ", updated_at = CURRENT_TIMESTAMP" : "";
+        entityManager.flush();
+
+        int updated;
+        if (supportsArrays()) {
+            updated = entityManager.createNativeQuery(
+                            "UPDATE " + table + " AS t SET sort_order = v.ord" + touch
+                                    + " FROM unnest(CAST(:ids AS uuid[]), CAST(:orders AS int[])) AS v(id, ord)"
+                                    + " WHERE t.id = v.id")
+                    .setParameter("ids", arrayLiteral(orderedIds))
+                    .setParameter("orders", arrayLiteral(positionList(orderedIds.size())))
+                    .executeUpdate();
+        } else {
+            StringBuilder sql = new StringBuilder("UPDATE ").append(table).append(" SET sort_order = CASE id");
+            for (int i = 0; i < orderedIds.size(); i++) {
+                sql.append(" WHEN :id").append(i).append(" THEN ").append(i);
+            }
+            sql.append(" END").append(touch).append(" WHERE id IN (:ids)");
+
+            var query = entityManager.createNativeQuery(sql.toString())
+                    .setParameter("ids", orderedIds);
+            for (int i = 0; i < orderedIds.size(); i++) {
+                query.setParameter("id" + i, orderedIds.get(i));
+            }
+            updated = query.executeUpdate();
+        }
+
+        // Rows deleted between validation and update leave gaps; fail so the transaction rolls back
+        if (updated != orderedIds.size()) {
+            throw new BadRequestException("Some " + label + " IDs no longer exist", FIELD);
+        }
+        log.debug("Reordered {} rows in {}", updated, table);
+    }
+
+    /**
+     * Maps each ID to its position, rejecting duplicates.
+     */
+    private static Map<UUID, Integer> positions(List<UUID> orderedIds, String label) {
+        Map<UUID, Integer> positions = new HashMap<>(orderedIds.size() * 2);
+        List<UUID> duplicates = new ArrayList<>();
+        for (int i = 0; i < orderedIds.size(); i++) {
+            UUID id = Objects.requireNonNull(orderedIds.get(i), "orderedIds must not contain null");
+            if (positions.putIfAbsent(id, i) != null) {
+                duplicates.add(id);
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            throw new BadRequestException("Duplicate " + label + " IDs: " + duplicates, FIELD);
+        }
+        return positions;
+    }
+
+    private static void requireAll(Map<UUID, Integer> positions, Collection<UUID> found, String label) {
+        if (found.size() == positions.size()) {
+            return;
+        }
+        Map<UUID, Integer> missing = new HashMap<>(positions);
+        found.forEach(missing::remove);
+        List<UUID> missingIds = missing.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .toList();
+        throw new BadRequestException("Invalid " + label + " IDs: " + missingIds, FIELD);
+    }
+
+    private boolean supportsArrays() {
+        Boolean supported = arraysSupported;
+        if (supported == null) {
+            supported = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+            arraysSupported = supported;
+        }
+        return supported;
+    }
+
+    private static String tableName(Class<?> entityType) {
+        Table table = entityType.getAnnotation(Table.class);
+        if (table == null) {
+            throw new IllegalArgumentException(entityType.getSimpleName() + " has no @Table mapping");
+        }
+        return table.schema().isEmpty() ? table.name() : table.schema() + "." + table.name();
+    }
+
+    /**
+     * "SkillCategory" becomes "skill category", matching the existing error messages.
+     */
+    private static String label(Class<?> entityType) {
+        return entityType.getSimpleName().replaceAll("([a-z])([A-Z])", "$1 $2").toLowerCase();
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    /**
+     * Native queries return UUID columns as UUID on PostgreSQL but as 16 raw bytes on H2.
+     */
+    private static UUID toUuid(Object value) {
+        if (value instanceof UUID uuid) {
+            return uuid;
+        }
+        if (value instanceof byte[] bytes) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        }
+        return UUID.fromString(value.toString());
+    }
+
+    private static List<Integer> positionList(int size) {
+        List<Integer> positions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            positions.add(i);
+        }
+        return positions;
+    }
+
+    private static String arrayLiteral(List<?> values) {
+        return values.stream().map(String::valueOf).collect(Collectors.joining(",", "{", "}"));
+    }
+
+}
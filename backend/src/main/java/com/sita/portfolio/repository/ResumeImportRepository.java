@@ -0,0 +1,533 @@
+package com.sita.portfolio.repository;
+
+import com.sita.portfolio.model.dto.request.ImportResumeRequest.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk writer for resume imports.
+ * <p>
+ * Sections are cleared with one DELETE per table instead of loading every entity,
+ * and rows are written with JDBC batches through a {@link SectionWriter}, which
+ * accepts a whole list or records one at a time from a streaming parser. IDs are
+ * generated client-side, so child rows reference their parent without a round trip
+ * per insert. With the PostgreSQL driver's reWriteBatchedInserts each batch becomes
+ * a handful of multi-row INSERTs. Differential imports use the same writer to update
+ * and delete individual rows by ID. Runs in the caller's transaction, so an import
+ * stays all-or-nothing.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeImportRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final TableSpec<ExperienceImport> EXPERIENCE = new TableSpec<>("portfolio.experience", null,
+            List.of("company", "role", "location", "employment_type", "start_date", "end_date", "description",
+                    "tech_stack", "company_url", "logo_url", "is_published"),
+            exp -> Arrays.asList(
+                    exp.getCompany(),
+                    exp.getRole(),
+                    exp.getLocation(),
+                    exp.getEmploymentType(),
+                    exp.getStartDate(),
+                    exp.getEndDate(),
+                    exp.getDescription(),
+                    exp.getTechStack(),
+                    exp.getCompanyUrl(),
+                    exp.getLogoUrl(),
+                    exp.isPublished()), true);
+
+    private static final TableSpec<BulletImport> EXPERIENCE_BULLET = new TableSpec<>(
+            "portfolio.experience_bullet", "experience_id", List.of("content"),
+            bullet -> Arrays.asList(bullet.getContent()), false);
+
+    private static final TableSpec<ProjectImport> PROJECT = new TableSpec<>("portfolio.project", null,
+            List.of("title", "slug", "description", "long_description", "tech_stack", "live_url", "github_url",
+                    "image_url", "thumbnail_url", "is_featured", "is_published"),
+            proj -> Arrays.asList(
+                    proj.getTitle(),
+                    proj.getSlug(),
+                    proj.getDescription(),
+                    proj.getLongDescription(),
+                    proj.getTechStack(),
+                    proj.getLiveUrl(),
+                    proj.getGithubUrl(),
+                    proj.getImageUrl(),
+                    proj.getThumbnailUrl(),
+                    proj.isFeatured(),
+                    proj.isPublished()), true);
+
+    private static final TableSpec<BulletImport> PROJECT_BULLET = new TableSpec<>(
+            "portfolio.project_bullet", "project_id", List.of("content"),
+            bullet -> Arrays.asList(bullet.getContent()), false);
+
+    private static final TableSpec<SkillCategoryImport> SKILL_CATEGORY = new TableSpec<>(
+            "portfolio.skill_category", null, List.of("name", "icon", "is_published"),
+            cat -> Arrays.asList(
+                    cat.getName(),
+                    cat.getIcon(),
+                    cat.isPublished()), true);
+
+    private static final TableSpec<SkillItemImport> SKILL_ITEM = new TableSpec<>(
+            "portfolio.skill_item", "category_id", List.of("name", "icon_url", "proficiency"),
+            skill -> Arrays.asList(
+                    skill.getName(),
+                    skill.getIconUrl(),
+                    skill.getProficiency()), false);
+
+    private static final TableSpec<EducationImport> EDUCATION = new TableSpec<>("portfolio.education", null,
+            List.of("institution", "degree", "field_of_study", "location", "start_year", "end_year", "gpa",
+                    "description", "logo_url", "is_published"),
+            edu -> Arrays.asList(
+                    edu.getInstitution(),
+                    edu.getDegree(),
+                    edu.getFieldOfStudy(),
+                    edu.getLocation(),
+                    edu.getStartYear(),
+                    edu.getEndYear(),
+                    edu.getGpa(),
+                    edu.getDescription(),
+                    edu.getLogoUrl(),
+                    edu.isPublished()), true);
+
+    private static final TableSpec<CertificationImport> CERTIFICATION = new TableSpec<>("portfolio.certification", null,
+            List.of("name", "issuer", "issue_date", "expiry_date", "credential_id", "credential_url", "badge_url",
+                    "is_published"),
+            cert -> Arrays.asList(
+                    cert.getName(),
+                    cert.getIssuer(),
+                    cert.getIssueDate(),
+                    cert.getExpiryDate(),
+                    cert.getCredentialId(),
+                    cert.getCredentialUrl(),
+                    cert.getBadgeUrl(),
+                    cert.isPublished()), true);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Maximum lengths of character columns by table, read once from the database. */
+    private final Map<String, Map<String, Integer>> columnSizes = new ConcurrentHashMap<>();
+
+    /**
+     * Column layout of one imported table. Content columns exclude id, the parent
+     * column, sort_order and timestamps, which the writer binds itself; {@code values}
+     * returns the content columns of a record in order.
+     */
+    private record TableSpec<T>(String table, String parentColumn, List<String> columns,
+                                Function<T, List<Object>> values, boolean hasUpdatedAt) {
+
+        String insertSql() {
+            List<String> all = new ArrayList<>();
+            all.add("id");
+            if (parentColumn != null) {
+                all.add(parentColumn);
+            }
+            all.addAll(columns);
+            all.add("sort_order");
+            all.add("created_at");
+            if (hasUpdatedAt) {
+                all.add("updated_at");
+            }
+            return "INSERT INTO " + table + " (" + String.join(", ", all) + ") VALUES ("
+                    + String.join(", ", Collections.nCopies(all.size(), "?")) + ")";
+        }
+
+        String updateSql() {
+            return "UPDATE " + table + " SET "
+                    + columns.stream().map(column -> column + " = ?").collect(Collectors.joining(", "))
+                    + ", sort_order = ?, updated_at = ? WHERE id = ?";
+        }
+
+        String deleteByParentSql() {
+            return "DELETE FROM " + table + " WHERE " + parentColumn + " = ?";
+        }
+
+        /**
+         * Binds the content columns of a record starting at the given parameter index.
+         */
+        void bind(PreparedStatement ps, int index, T value) throws SQLException {
+            for (Object column : values.apply(value)) {
+                if (column instanceof String text) {
+                    ps.setString(index++, text);
+                } else if (column instanceof Boolean flag) {
+                    ps.setBoolean(index++, flag);
+                } else {
+                    ps.setObject(index++, column);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * A row to write with its ID, parent ID and position.
+     */
+    private record Row<T>(UUID id, UUID parentId, int sortOrder, T value) {
+    }
+
+    /**
+     * What one section writer did. {@code children} counts child records of the
+     * imported section, whether or not they had to be rewritten.
+     */
+    public record SectionResult(int inserted, int updated, int unchanged, int deleted, int children,
+                                List<ColumnIssue> issues) {
+
+        /**
+         * Records in the imported section.
+         */
+        public int records() {
+            return inserted + updated + unchanged;
+        }
+
+    }
+
+    /**
+     * A value longer than its column, found by a dry run. {@code record} is the 0-based
+     * index within the section and {@code child} the index within that record's
+     * children, or -1 for the record itself.
+     */
+    public record ColumnIssue(int record, int child, String column, int length, int maxLength) {
+    }
+
+    /**
+     * Writer for experiences and their bullets.
+     */
+    public SectionWriter<ExperienceImport, BulletImport> experienceWriter() {
+        return new SectionWriter<>(EXPERIENCE, EXPERIENCE_BULLET, ExperienceImport::getBullets);
+    }
+
+    /**
+     * Writer for projects and their bullets. Slugs are expected to be resolved by the caller.
+     */
+    public SectionWriter<ProjectImport, BulletImport> projectWriter() {
+        return new SectionWriter<>(PROJECT, PROJECT_BULLET, ProjectImport::getBullets);
+    }
+
+    /**
+     * Writer for skill categories and their items.
+     */
+    public SectionWriter<SkillCategoryImport, SkillItemImport> skillCategoryWriter() {
+        return new SectionWriter<>(SKILL_CATEGORY, SKILL_ITEM, SkillCategoryImport::getSkills);
+    }
+
+    public SectionWriter<EducationImport, Void> educationWriter() {
+        return new SectionWriter<>(EDUCATION, null, null);
+    }
+
+    public SectionWriter<CertificationImport, Void> certificationWriter() {
+        return new SectionWriter<>(CERTIFICATION, null, null);
+    }
+
+    /**
+     * Buffers writes to one section and applies them in JDBC batches.
+     * <p>
+     * Records must be passed in import order: every {@link #add}, {@link #update} and
+     * {@link #keep} takes the next 1-based sort order, matching entity-based imports.
+     * At most {@value #BATCH_SIZE} rows per statement are held at a time; parents are
+     * flushed before the children that reference them, and replaced children are
+     * deleted before their successors are inserted.
+     * </p>
+     * <p>
+     * A writer switched to {@link #dryRun()} performs no writes: it counts what would
+     * change, reports values longer than their columns, and counts cleared rows with
+     * a SELECT instead of deleting them.
+     * </p>
+     */
+    public final class SectionWriter<P, C> {
+
+        private final TableSpec<P> parentSpec;
+        private final TableSpec<C> childSpec;
+        private final Function<P, List<C>> childrenOf;
+        private final OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+
+        private final List<Row<P>> inserts = new ArrayList<>();
+        private final List<Row<P>> updates = new ArrayList<>();
+        private final List<UUID> replacedParents = new ArrayList<>();
+        private final List<Row<C>> children = new ArrayList<>();
+
+        private int position;
+        private int inserted;
+        private int updated;
+        private int unchanged;
+        private int deleted;
+        private int childCount;
+        private boolean dryRun;
+        private final List<ColumnIssue> issues = new ArrayList<>();
+
+        private SectionWriter(TableSpec<P> parentSpec, TableSpec<C> childSpec, Function<P, List<C>> childrenOf) {
+            this.parentSpec = parentSpec;
+            this.childSpec = childSpec;
+            this.childrenOf = childrenOf;
+        }
+
+        /**
+         * Switches this writer to counting and checking only.
+         */
+        public SectionWriter<P, C> dryRun() {
+            dryRun = true;
+            return this;
+        }
+
+        /**
+         * Counts breaks in the existing sort order (gaps or repeats), which an import renumbers.
+         */
+        public int sortOrderGaps() {
+            Integer gaps = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM (
+                        SELECT sort_order - LAG(sort_order) OVER (ORDER BY sort_order) AS step FROM %s
+                    ) steps WHERE step <> 1
+                    """.formatted(parentSpec.table()), Integer.class);
+            return gaps != null ? gaps : 0;
+        }
+
+        /**
+         * Sort order the next record will take.
+         */
+        public int nextSortOrder() {
+            return position + 1;
+        }
+
+        /**
+         * Deletes every row of the section, children first.
+         */
+        public void clear() {
+            if (dryRun) {
+                Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + parentSpec.table(), Integer.class);
+                deleted += rows != null ? rows : 0;
+                return;
+            }
+            flush();
+            if (childSpec != null) {
+                jdbcTemplate.update("DELETE FROM " + childSpec.table());
+            }
+            deleted += jdbcTemplate.update("DELETE FROM " + parentSpec.table());
+        }
+
+        /**
+         * Inserts a record and its children under a new ID.
+         */
+        public void add(P value) {
+            Row<P> row = new Row<>(UUID.randomUUID(), null, ++position, value);
+            inserted++;
+            if (dryRun) {
+                inspect(row, true);
+                return;
+            }
+            inserts.add(row);
+            addChildren(row, true);
+            flushIfFull();
+        }
+
+        public void addAll(List<P> values) {
+            values.forEach(this::add);
+        }
+
+        /**
+         * Overwrites an existing row in place, keeping its ID. When {@code replaceChildren}
+         * is set its children are deleted and re-inserted from the record.
+         */
+        public void update(UUID id, P value, boolean replaceChildren) {
+            Row<P> row = new Row<>(id, null, ++position, value);
+            updated++;
+            if (dryRun) {
+                inspect(row, replaceChildren);
+                return;
+            }
+            updates.add(row);
+            if (replaceChildren && childSpec != null) {
+                replacedParents.add(id);
+            }
+            addChildren(row, replaceChildren);
+            flushIfFull();
+        }
+
+        /**
+         * Skips a record whose row already holds the same content at this position.
+         */
+        public void keep(P value) {
+            position++;
+            unchanged++;
+            List<C> values = childrenOf != null ? childrenOf.apply(value) : null;
+            childCount += values != null ? values.size() : 0;
+        }
+
+        /**
+         * Deletes rows by ID, children first.
+         */
+        public void delete(Collection<UUID> ids) {
+            if (ids.isEmpty()) {
+                return;
+            }
+            if (dryRun) {
+                deleted += ids.size();
+                return;
+            }
+            flush();
+            List<UUID> idList = List.copyOf(ids);
+            if (childSpec != null) {
+                batchById(childSpec.deleteByParentSql(), idList);
+            }
+            batchById("DELETE FROM " + parentSpec.table() + " WHERE id = ?", idList);
+            deleted += idList.size();
+        }
+
+        /**
+         * Writes what is still buffered and returns what the section did.
+         */
+        public SectionResult finish() {
+            flush();
+            return new SectionResult(inserted, updated, unchanged, deleted, childCount, List.copyOf(issues));
+        }
+
+        /**
+         * Dry-run counterpart of buffering a row: counts its children and checks column lengths.
+         */
+        private void inspect(Row<P> row, boolean withChildren) {
+            int record = row.sortOrder() - 1;
+            checkLengths(parentSpec, row.value(), record, -1);
+            List<C> values = childrenOf != null ? childrenOf.apply(row.value()) : null;
+            if (values == null) {
+                return;
+            }
+            childCount += values.size();
+            if (withChildren) {
+                for (int i = 0; i < values.size(); i++) {
+                    checkLengths(childSpec, values.get(i), record, i);
+                }
+            }
+        }
+
+        private <T> void checkLengths(TableSpec<T> spec, T value, int record, int child) {
+            Map<String, Integer> sizes = columnSizes(spec.table());
+            List<Object> values = spec.values().apply(value);
+            for (int i = 0; i < values.size(); i++) {
+                Integer maxLength = sizes.get(spec.columns().get(i));
+                if (values.get(i) instanceof String text && maxLength != null && text.length() > maxLength) {
+                    issues.add(new ColumnIssue(record, child, spec.columns().get(i), text.length(), maxLength));
+                }
+            }
+        }
+
+        private void addChildren(Row<P> parent, boolean write) {
+            List<C> values = childrenOf != null ? childrenOf.apply(parent.value()) : null;
+            if (values == null) {
+                return;
+            }
+            childCount += values.size();
+            if (!write) {
+                return;
+            }
+            int sortOrder = 1;
+            for (C child : values) {
+                children.add(new Row<>(UUID.randomUUID(), parent.id(), sortOrder++, child));
+                if (children.size() >= BATCH_SIZE) {
+                    flush();
+                }
+            }
+        }
+
+        private void flushIfFull() {
+            if (inserts.size() + updates.size() + replacedParents.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            batch(parentSpec.insertSql(), inserts, (ps, row) -> bindInsert(ps, parentSpec, row));
+            inserts.clear();
+            batch(parentSpec.updateSql(), updates, (ps, row) -> {
+                int index = parentSpec.columns().size() + 1;
+                parentSpec.bind(ps, 1, row.value());
+                ps.setInt(index++, row.sortOrder());
+                ps.setObject(index++, now);
+                ps.setObject(index, row.id());
+            });
+            updates.clear();
+            if (childSpec != null) {
+                batchById(childSpec.deleteByParentSql(), replacedParents);
+                replacedParents.clear();
+                batch(childSpec.insertSql(), children, (ps, row) -> bindInsert(ps, childSpec, row));
+                children.clear();
+            }
+        }
+
+        private <T> void bindInsert(PreparedStatement ps, TableSpec<T> spec, Row<T> row) throws SQLException {
+            int index = 1;
+            ps.setObject(index++, row.id());
+            if (spec.parentColumn() != null) {
+                ps.setObject(index++, row.parentId());
+            }
+            spec.bind(ps, index, row.value());
+            index += spec.columns().size();
+            ps.setInt(index++, row.sortOrder());
+            ps.setObject(index++, now);
+            if (spec.hasUpdatedAt()) {
+                ps.setObject(index, now);
+            }
+        }
+
+    }
+
+    // ===== Helpers =====
+
+    private <T> void batch(String sql, List<Row<T>> rows, ParameterizedPreparedStatementSetter<Row<T>> setter) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        long started = System.nanoTime();
+        jdbcTemplate.batchUpdate(sql, rows, BATCH_SIZE, setter);
+        log.debug("Wrote {} rows in {} ms", rows.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Reads the declared length of each bounded character column of a table.
+     */
+    private Map<String, Integer> columnSizes(String table) {
+        return columnSizes.computeIfAbsent(table, name -> jdbcTemplate.query(
+                "SELECT * FROM " + name + " WHERE 1 = 0", rs -> {
+                    ResultSetMetaData meta = rs.getMetaData();
+                    Map<String, Integer> sizes = new HashMap<>();
+                    for (int i = 1; i <= meta.getColumnCount(); i++) {
+                        int type = meta.getColumnType(i);
+                        int precision = meta.getPrecision(i);
+                        boolean bounded = precision > 0 && precision < Integer.MAX_VALUE;
+                        if (bounded && (type == Types.VARCHAR || type == Types.CHAR || type == Types.NVARCHAR)) {
+                            sizes.put(meta.getColumnName(i).toLowerCase(Locale.ROOT), precision);
+                        }
+                    }
+                    return sizes;
+                }));
+    }
+
+    private void batchById(String sql, List<UUID> ids) {
+        if (!ids.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, ids, BATCH_SIZE, (ps, id) -> ps.setObject(1, id));
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.sita.portfolio.repository;
 
 import com.sita.portfolio.model.entity.SkillCategory;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -15,13 +16,15 @@ import java.util.UUID;
 public interface SkillCategoryRepository extends JpaRepository<SkillCategory, UUID> {
 
     /**
-     * Finds all published skill categories ordered by sort_order.
+     * Finds all published skill categories ordered by sort_order, fetching skills in the same query.
      */
+    @EntityGraph(attributePaths = "skills")
     List<SkillCategory> findByPublishedTrueOrderBySortOrderAsc();
 
     /**
-     * Finds all skill categories ordered by sort_order (for admin).
+     * Finds all skill categories ordered by sort_order (for admin), fetching skills in the same query.
      */
+    @EntityGraph(attributePaths = "skills")
     List<SkillCategory> findAllByOrderBySortOrderAsc();
 
     /**
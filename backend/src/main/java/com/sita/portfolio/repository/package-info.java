@@ -3,6 +3,14 @@
  * <p>
  * Repositories extend Spring Data JPA interfaces and contain
  * only data access logic. No business logic should be placed here.
+ * {@link com.sita.portfolio.repository.PortfolioReadRepository} is the exception:
+ * it uses JdbcTemplate for the single-statement published portfolio read.
+ * {@link com.sita.portfolio.repository.ReorderSupport} issues set-based native
+ * updates shared by every reorder endpoint, and
+ * {@link com.sita.portfolio.repository.ResumeImportRepository} bulk-deletes and
+ * batch-inserts resume sections.
+ * {@link com.sita.portfolio.repository.ContactMessageInboxRepository} serves the
+ * keyset-paginated admin inbox without loading message bodies.
  * </p>
  */
 package com.sita.portfolio.repository;
@@ -41,27 +41,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = extractTokenFromRequest(request);
 
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-                UUID userId = jwtTokenProvider.getUserIdFromToken(token);
-                String email = jwtTokenProvider.getEmailFromToken(token);
-                String role = jwtTokenProvider.getRoleFromToken(token);
-
-                // Create authentication with role from token
-                List<SimpleGrantedAuthority> authorities = List.of(
-                        new SimpleGrantedAuthority("ROLE_" + role)
-                );
-
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                new JwtAuthenticatedUser(userId, email, role),
-                                null,
-                                authorities
-                        );
-
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                log.debug("Authenticated user {} with role {}", email, role);
+            // Skip requests already authenticated, e.g. by MetricsScrapeTokenFilter
+            if (StringUtils.hasText(token) && SecurityContextHolder.getContext().getAuthentication() == null) {
+                jwtTokenProvider.authenticate(token).ifPresent(user -> {
+                    // Create authentication with role from token
+                    List<SimpleGrantedAuthority> authorities = List.of(
+                            new SimpleGrantedAuthority("ROLE_" + user.role())
+                    );
+
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(user, null, authorities);
+
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+
+                    log.debug("Authenticated user {} with role {}", user.email(), user.role());
+                });
             }
         } catch (Exception e) {
             log.warn("Could not set user authentication: {}", e.getMessage());
@@ -1,9 +1,11 @@
 package com.sita.portfolio.security;
 
 import com.sita.portfolio.config.AppProperties;
+import com.sita.portfolio.security.JwtAuthenticationFilter.JwtAuthenticatedUser;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -15,11 +17,22 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * JWT token provider for creating and validating JWT tokens.
+ * <p>
+ * The signing key and parser are built once. Verified tokens are cached by SHA-256 hash
+ * until they expire, so repeated admin requests with the same token skip HMAC verification
+ * and claims parsing. The cache is bounded and never holds the raw token.
+ * </p>
  */
 @Component
 @RequiredArgsConstructor
@@ -28,9 +41,34 @@ public class JwtTokenProvider {
 
     private final AppProperties appProperties;
 
+    /** Built on first use, so a missing secret only fails token operations, not startup. */
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+
+    private final Map<String, CachedPrincipal> verifiedTokens = new ConcurrentHashMap<>();
+
+    private record CachedPrincipal(JwtAuthenticatedUser user, long expiresAtMillis) {
+    }
+
     private SecretKey getSigningKey() {
-        byte[] keyBytes = appProperties.getJwt().getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        SecretKey key = signingKey;
+        if (key == null) {
+            byte[] keyBytes = appProperties.getJwt().getSecret().getBytes(StandardCharsets.UTF_8);
+            key = Keys.hmacShaKeyFor(keyBytes);
+            signingKey = key;
+        }
+        return key;
+    }
+
+    private JwtParser getParser() {
+        JwtParser jwtParser = parser;
+        if (jwtParser == null) {
+            jwtParser = Jwts.parser()
+                    .verifyWith(getSigningKey())
+                    .build();
+            parser = jwtParser;
+        }
+        return jwtParser;
     }
 
     /**
@@ -57,6 +95,33 @@ public class JwtTokenProvider {
         return appProperties.getJwt().getExpirationMs() / 1000;
     }
 
+    /**
+     * Verifies the token once and returns its principal, or empty if the token is invalid.
+     * Results are cached until the token expires.
+     */
+    public Optional<JwtAuthenticatedUser> authenticate(String token) {
+        String cacheKey = hash(token);
+        CachedPrincipal cached = verifiedTokens.get(cacheKey);
+        if (cached != null) {
+            if (System.currentTimeMillis() < cached.expiresAtMillis()) {
+                return Optional.of(cached.user());
+            }
+            verifiedTokens.remove(cacheKey, cached);
+        }
+
+        return verify(token).map(claims -> {
+            JwtAuthenticatedUser user = new JwtAuthenticatedUser(
+                    UUID.fromString(claims.getSubject()),
+                    claims.get("email", String.class),
+                    claims.get("role", String.class)
+            );
+            if (claims.getExpiration() != null) {
+                cache(cacheKey, new CachedPrincipal(user, claims.getExpiration().getTime()));
+            }
+            return user;
+        });
+    }
+
     /**
      * Extracts the user ID from the token.
      */
@@ -85,9 +150,12 @@ public class JwtTokenProvider {
      * Validates the JWT token.
      */
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    private Optional<Claims> verify(String token) {
         try {
-            parseClaims(token);
-            return true;
+            return Optional.of(parseClaims(token));
         } catch (SignatureException ex) {
             log.warn("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
@@ -101,15 +169,38 @@ public class JwtTokenProvider {
         } catch (JwtException ex) {
             log.warn("JWT validation failed: {}", ex.getMessage());
         }
-        return false;
+        return Optional.empty();
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return getParser()
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
+    /**
+     * Caches a verified token; expired entries are purged when the cache is full,
+     * and the token is not cached if it is still full afterwards.
+     */
+    private void cache(String cacheKey, CachedPrincipal principal) {
+        int maxSize = appProperties.getJwt().getClaimsCacheSize();
+        if (verifiedTokens.size() >= maxSize) {
+            long now = System.currentTimeMillis();
+            verifiedTokens.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+            if (verifiedTokens.size() >= maxSize) {
+                return;
+            }
+        }
+        verifiedTokens.put(cacheKey, principal);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
 }
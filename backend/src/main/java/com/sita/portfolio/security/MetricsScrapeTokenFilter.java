@@ -0,0 +1,60 @@
+package com.sita.portfolio.security;
+
+import com.sita.portfolio.config.AppProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Authenticates metrics scrapers on /actuator/** with the static bearer token
+ * {@code app.metrics.scrape-token}, granting ROLE_METRICS.
+ * Runs before {@link JwtAuthenticationFilter}, which then leaves the request alone.
+ */
+@Component
+@RequiredArgsConstructor
+public class MetricsScrapeTokenFilter extends OncePerRequestFilter {
+
+    public static final String ROLE = "METRICS";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AppProperties appProperties;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + "/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String expected = appProperties.getMetrics().getScrapeToken();
+        String header = request.getHeader("Authorization");
+
+        if (StringUtils.hasText(expected) && header != null && header.startsWith(BEARER_PREFIX)
+                && MessageDigest.isEqual(
+                        expected.getBytes(StandardCharsets.UTF_8),
+                        header.substring(BEARER_PREFIX.length()).getBytes(StandardCharsets.UTF_8))) {
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    "metrics-scraper", null, List.of(new SimpleGrantedAuthority("ROLE_" + ROLE))));
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
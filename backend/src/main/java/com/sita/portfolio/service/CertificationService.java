@@ -1,11 +1,11 @@
 package com.sita.portfolio.service;
 
-import com.sita.portfolio.exception.BadRequestException;
 import com.sita.portfolio.exception.ResourceNotFoundException;
 import com.sita.portfolio.model.dto.request.*;
 import com.sita.portfolio.model.dto.response.CertificationResponse;
 import com.sita.portfolio.model.entity.Certification;
 import com.sita.portfolio.repository.CertificationRepository;
+import com.sita.portfolio.repository.ReorderSupport;
 import com.sita.portfolio.service.mapper.EntityMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +25,8 @@ public class CertificationService {
 
     private final CertificationRepository certificationRepository;
     private final EntityMapper mapper;
+    private final PortfolioSnapshotCache snapshotCache;
+    private final ReorderSupport reorderSupport;
 
     /**
      * Gets all certifications (admin view - includes unpublished).
@@ -67,6 +69,7 @@ public class CertificationService {
 
         Certification saved = certificationRepository.save(certification);
         log.info("Created certification: {}", saved.getName());
+        snapshotCache.refreshAfterCommit();
 
         return mapper.toCertificationResponse(saved);
     }
@@ -91,6 +94,7 @@ public class CertificationService {
 
         Certification saved = certificationRepository.save(certification);
         log.info("Updated certification: {}", id);
+        snapshotCache.refreshAfterCommit();
 
         return mapper.toCertificationResponse(saved);
     }
@@ -105,6 +109,7 @@ public class CertificationService {
         }
         certificationRepository.deleteById(id);
         log.info("Deleted certification: {}", id);
+        snapshotCache.refreshAfterCommit();
     }
 
     /**
@@ -119,42 +124,21 @@ public class CertificationService {
         Certification saved = certificationRepository.save(certification);
 
         log.info("Set certification {} published={}", id, published);
+        snapshotCache.refreshAfterCommit();
         return mapper.toCertificationResponse(saved);
     }
 
     /**
      * Reorders certifications.
-     * Validates all IDs exist before updating.
+     * Validates all IDs exist, then updates every sort order in one statement.
      */
     @Transactional
     public List<CertificationResponse> reorderCertifications(ReorderRequest request) {
         List<UUID> orderedIds = request.getOrderedIds();
-        
-        // Validate all IDs exist
-        List<Certification> certifications = certificationRepository.findAllById(orderedIds);
-        if (certifications.size() != orderedIds.size()) {
-            List<UUID> foundIds = certifications.stream().map(Certification::getId).toList();
-            List<UUID> missingIds = orderedIds.stream()
-                    .filter(id -> !foundIds.contains(id))
-                    .toList();
-            throw new BadRequestException(
-                    "Invalid certification IDs: " + missingIds,
-                    "orderedIds"
-            );
-        }
-        
-        // Update sort orders in a single transaction
-        for (int i = 0; i < orderedIds.size(); i++) {
-            UUID targetId = orderedIds.get(i);
-            int newSortOrder = i;
-            certifications.stream()
-                    .filter(cert -> cert.getId().equals(targetId))
-                    .findFirst()
-                    .ifPresent(cert -> cert.setSortOrder(newSortOrder));
-        }
-        certificationRepository.saveAll(certifications);
-        
+        reorderSupport.reorder(Certification.class, orderedIds);
+
         log.info("Reordered {} certifications", orderedIds.size());
+        snapshotCache.refreshAfterCommit();
         return getAllCertifications();
     }
 
@@ -0,0 +1,351 @@
+package com.sita.portfolio.service;
+
+import com.sita.portfolio.config.AppProperties;
+import com.sita.portfolio.config.BackgroundThreads;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly partitions of portfolio.contact_message (V10) rolling.
+ * <p>
+ * Each run first moves rows that landed in the default partition (journal replays, or
+ * months missed while maintenance was off) into partitions of their own, then creates
+ * partitions for the current UTC month through premake-months ahead, and finally expires
+ * partitions whose month ended more than retain-months ago.
+ * </p>
+ * <p>
+ * With expired-action {@code drop} an expired partition is detached, checked and dropped
+ * in one transaction, and only if empty; non-empty ones are re-attached with a warning,
+ * so rows retention has not archived stay in the inbox. With {@code detach} expired
+ * partitions are detached whole and left as plain tables. Non-concurrent DETACH takes
+ * ACCESS EXCLUSIVE on the parent until commit, so no row can reach the partition between
+ * the check and the drop.
+ * Does nothing unless the table is partitioned, which it never is on H2.
+ * </p>
+ */
+@Component
+@Slf4j
+public class ContactMessagePartitionMaintainer {
+
+    private static final String PARENT = "portfolio.contact_message";
+    private static final String DEFAULT_PARTITION = "portfolio.contact_message_default";
+    /** Every column except the generated search_vector. */
+    private static final String COLUMNS = "id, name, email, subject, message, created_at, status, user_agent, ip_address";
+    private static final Pattern PARTITION_NAME = Pattern.compile("contact_message_p(\\d{4})(\\d{2})");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AppProperties.ContactPartitions config;
+    private final BackgroundThreads backgroundThreads;
+    private final TransactionTemplate transactionTemplate;
+
+    /** Serializes scheduled and manual runs; a lock, not a monitor, so JDBC waits do not pin virtual threads. */
+    private final ReentrantLock maintainLock = new ReentrantLock();
+
+    private volatile Boolean partitioned;
+    private volatile MaintenanceReport lastRun;
+
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public ContactMessagePartitionMaintainer(JdbcTemplate jdbcTemplate, AppProperties appProperties,
+                                             BackgroundThreads backgroundThreads) {
+        this(jdbcTemplate, appProperties.getContactPartitions(), backgroundThreads);
+    }
+
+    public ContactMessagePartitionMaintainer(JdbcTemplate jdbcTemplate, AppProperties.ContactPartitions config) {
+        this(jdbcTemplate, config, BackgroundThreads.PLATFORM);
+    }
+
+    public ContactMessagePartitionMaintainer(JdbcTemplate jdbcTemplate, AppProperties.ContactPartitions config,
+                                             BackgroundThreads backgroundThreads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+        this.backgroundThreads = backgroundThreads;
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(
+                Objects.requireNonNull(jdbcTemplate.getDataSource())));
+    }
+
+    /**
+     * Outcome of one maintenance run; partition names without schema.
+     */
+    public record MaintenanceReport(
+            Instant ranAt,
+            List<String> moved,
+            List<String> created,
+            List<String> detached,
+            List<String> dropped,
+            List<String> warnings
+    ) {
+    }
+
+    /**
+     * Policy, current monthly partitions, default partition row count and last run.
+     */
+    public record Status(
+            boolean active,
+            int premakeMonths,
+            int retainMonths,
+            String expiredAction,
+            List<String> partitions,
+            long defaultPartitionRows,
+            MaintenanceReport lastRun
+    ) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!isActive() || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(backgroundThreads.factory("contact-partitions"));
+        scheduler.scheduleWithFixedDelay(this::runScheduled, 0, config.getInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Whether maintenance is enabled and contact_message is a partitioned PostgreSQL table.
+     * Resolved on first call.
+     */
+    public boolean isActive() {
+        if (!config.isEnabled()) {
+            return false;
+        }
+        Boolean active = partitioned;
+        if (active == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            active = "PostgreSQL".equalsIgnoreCase(product) && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))",
+                    Boolean.class, PARENT));
+            partitioned = active;
+        }
+        return active;
+    }
+
+    /**
+     * Runs maintenance for the current UTC month.
+     */
+    public MaintenanceReport maintain() {
+        return maintain(YearMonth.now(ZoneOffset.UTC));
+    }
+
+    /**
+     * Runs maintenance as if {@code current} were the current month.
+     */
+    public MaintenanceReport maintain(YearMonth current) {
+        maintainLock.lock();
+        try {
+            return runMaintenance(current);
+        } finally {
+            maintainLock.unlock();
+        }
+    }
+
+    private MaintenanceReport runMaintenance(YearMonth current) {
+        List<String> moved = new ArrayList<>();
+        List<String> created = new ArrayList<>();
+        List<String> detached = new ArrayList<>();
+        List<String> dropped = new ArrayList<>();
+        List<String> warnings = new ArrayList<>();
+        if (!isActive()) {
+            return new MaintenanceReport(Instant.now(), moved, created, detached, dropped, warnings);
+        }
+
+        for (YearMonth month : defaultPartitionMonths()) {
+            try {
+                long rows = moveFromDefault(month);
+                moved.add(name(month) + " (" + rows + " rows)");
+            } catch (DataAccessException ex) {
+                warnings.add("Could not move " + month + " rows out of the default partition: " + rootMessage(ex));
+            }
+        }
+
+        List<YearMonth> existing = partitionMonths();
+        for (int i = 0; i <= config.getPremakeMonths(); i++) {
+            YearMonth month = current.plusMonths(i);
+            if (existing.contains(month)) {
+                continue;
+            }
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS portfolio." + name(month)
+                        + " PARTITION OF " + PARENT + range(month));
+                created.add(name(month));
+            } catch (DataAccessException ex) {
+                warnings.add("Could not create " + name(month) + ": " + rootMessage(ex));
+            }
+        }
+
+        boolean detachExpired = "detach".equalsIgnoreCase(config.getExpiredAction());
+        YearMonth oldestKept = current.minusMonths(config.getRetainMonths());
+        for (YearMonth month : partitionMonths()) {
+            if (!month.isBefore(oldestKept)) {
+                continue;
+            }
+            String table = name(month);
+            try {
+                if (detachExpired) {
+                    jdbcTemplate.execute("ALTER TABLE " + PARENT + " DETACH PARTITION portfolio." + table);
+                    detached.add(table);
+                } else if (dropIfEmpty(month)) {
+                    dropped.add(table);
+                } else {
+                    warnings.add(table + " is past retain-months but still holds rows; kept attached until "
+                            + "contact retention archives them");
+                }
+            } catch (DataAccessException ex) {
+                warnings.add("Could not expire " + table + ": " + rootMessage(ex));
+            }
+        }
+
+        MaintenanceReport report = new MaintenanceReport(Instant.now(), List.copyOf(moved), List.copyOf(created),
+                List.copyOf(detached), List.copyOf(dropped), List.copyOf(warnings));
+        lastRun = report;
+        if (!moved.isEmpty() || !created.isEmpty() || !detached.isEmpty() || !dropped.isEmpty()) {
+            log.info("Contact message partitions: moved {}, created {}, detached {}, dropped {}",
+                    moved, created, detached, dropped);
+        }
+        warnings.forEach(warning -> log.warn("Contact message partitions: {}", warning));
+        return report;
+    }
+
+    public Status status() {
+        boolean active = isActive();
+        List<String> partitions = active ? partitionMonths().stream().map(ContactMessagePartitionMaintainer::name).toList() : List.of();
+        long defaultRows = 0;
+        if (active) {
+            Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM portfolio.contact_message_default", Long.class);
+            defaultRows = count == null ? 0 : count;
+        }
+        if (defaultRows > 0) {
+            log.warn("Contact message partitions: {} rows in {}; the next maintenance run moves them",
+                    defaultRows, DEFAULT_PARTITION);
+        }
+        return new Status(active, config.getPremakeMonths(), config.getRetainMonths(), config.getExpiredAction(),
+                partitions, defaultRows, lastRun);
+    }
+
+    private void runScheduled() {
+        try {
+            maintain();
+        } catch (RuntimeException ex) {
+            // Keep the schedule alive; the next run retries
+            log.error("Contact message partition maintenance failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Detaches the partition, drops it if empty and re-attaches it otherwise, in one transaction.
+     * The detach holds ACCESS EXCLUSIVE on the parent until commit, so nothing can be inserted
+     * into the month between the check and the drop. Returns whether it was dropped.
+     */
+    private boolean dropIfEmpty(YearMonth month) {
+        String table = "portfolio." + name(month);
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("ALTER TABLE " + PARENT + " DETACH PARTITION " + table);
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM " + table + ")", Boolean.class))) {
+                jdbcTemplate.execute("ALTER TABLE " + PARENT + " ATTACH PARTITION " + table + range(month));
+                return false;
+            }
+            jdbcTemplate.execute("DROP TABLE " + table);
+            return true;
+        }));
+    }
+
+    /**
+     * Moves one month of rows out of the default partition into a new partition for that month.
+     * PostgreSQL refuses to create a partition while the default one holds rows for its range,
+     * so the default partition is detached for the move and re-attached, all in one transaction.
+     * Returns the number of rows moved.
+     */
+    private long moveFromDefault(YearMonth month) {
+        String where = " WHERE created_at >= '" + bound(month) + "' AND created_at < '" + bound(month.plusMonths(1)) + "'";
+        Long rows = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("ALTER TABLE " + PARENT + " DETACH PARTITION " + DEFAULT_PARTITION);
+            jdbcTemplate.execute("CREATE TABLE portfolio." + name(month) + " PARTITION OF " + PARENT + range(month));
+            int inserted = jdbcTemplate.update("INSERT INTO " + PARENT + " (" + COLUMNS + ") SELECT " + COLUMNS
+                    + " FROM " + DEFAULT_PARTITION + where);
+            jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + where);
+            jdbcTemplate.execute("ALTER TABLE " + PARENT + " ATTACH PARTITION " + DEFAULT_PARTITION + " DEFAULT");
+            return (long) inserted;
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    /**
+     * UTC months that have rows in the default partition, oldest first.
+     */
+    private List<YearMonth> defaultPartitionMonths() {
+        return jdbcTemplate.queryForList("SELECT DISTINCT to_char(created_at AT TIME ZONE 'UTC', 'YYYYMM') AS month FROM "
+                        + DEFAULT_PARTITION + " ORDER BY month", String.class).stream()
+                .map(month -> YearMonth.parse(month, SUFFIX))
+                .toList();
+    }
+
+    /**
+     * Months of the monthly partitions currently attached, oldest first.
+     */
+    private List<YearMonth> partitionMonths() {
+        List<String> names = jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = CAST(? AS regclass)
+                """, String.class, PARENT);
+        List<YearMonth> months = new ArrayList<>();
+        for (String partition : names) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (matcher.matches()) {
+                months.add(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+            }
+        }
+        months.sort(null);
+        return months;
+    }
+
+    private static String name(YearMonth month) {
+        return "contact_message_p" + month.format(SUFFIX);
+    }
+
+    private static String range(YearMonth month) {
+        return " FOR VALUES FROM ('" + bound(month) + "') TO ('" + bound(month.plusMonths(1)) + "')";
+    }
+
+    private static String bound(YearMonth month) {
+        return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC).toString();
+    }
+
+    private static String rootMessage(DataAccessException ex) {
+        Throwable cause = ex.getMostSpecificCause();
+        return cause.getMessage();
+    }
+}
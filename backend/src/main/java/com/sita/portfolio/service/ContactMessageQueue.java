@@ -0,0 +1,500 @@
+package com.sita.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sita.portfolio.config.AppProperties;
+import com.sita.portfolio.config.BackgroundThreads;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind queue for contact submissions.
+ * <p>
+ * Submissions are accepted into a bounded in-memory queue and a background writer
+ * batch-inserts them with JDBC batching, so spam bursts hold at most one pooled
+ * connection per batch instead of one per request. When the queue is full, callers
+ * get 503 with Retry-After. An optional append-only journal keeps accepted messages
+ * across a crash; it is replayed on start and truncated once everything is written.
+ * Each append is forced to disk before the submission is accepted, so the journal also
+ * survives an OS crash or power loss, at the cost of one fsync per submission.
+ * Callers also get 503 while the journal is at its size cap.
+ * Inserts ignore ids already present, so replays and retries are idempotent.
+ * </p>
+ * <p>
+ * Failed batches are retried with backoff, except when the database rejects the data
+ * itself (a constraint or value error): the batch is then written row by row and only
+ * the rejected rows are dropped, logged by id and appended to {@code <journal>.rejected},
+ * so one bad row cannot block the queue.
+ * </p>
+ */
+@Component
+@Slf4j
+public class ContactMessageQueue {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO portfolio.contact_message
+                (id, name, email, subject, message, created_at, status, user_agent, ip_address)
+            SELECT ?, ?, ?, ?, ?, ?, 'new', ?, ?
+            WHERE NOT EXISTS (SELECT 1 FROM portfolio.contact_message WHERE id = ?)
+            """;
+
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AppProperties.ContactQueue config;
+    private final BlockingQueue<PendingMessage> queue;
+    private final BackgroundThreads backgroundThreads;
+
+    /** Serializes start and stop, which replay the journal and wait for the writer. */
+    private final ReentrantLock lifecycleLock = new ReentrantLock();
+
+    /** Guards journal appends and truncation against each other. */
+    private final ReentrantLock journalLock = new ReentrantLock();
+    private final Path journalPath;
+    private final Path rejectedPath;
+    private final long journalMaxBytes;
+    private BufferedWriter journal;
+    private FileChannel journalChannel;
+    private volatile long journalBytes;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    @Autowired
+    public ContactMessageQueue(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, AppProperties appProperties,
+                               BackgroundThreads backgroundThreads) {
+        this(jdbcTemplate, objectMapper, appProperties.getContactQueue(), backgroundThreads);
+    }
+
+    public ContactMessageQueue(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, AppProperties.ContactQueue config) {
+        this(jdbcTemplate, objectMapper, config, BackgroundThreads.PLATFORM);
+    }
+
+    public ContactMessageQueue(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, AppProperties.ContactQueue config,
+                               BackgroundThreads backgroundThreads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.backgroundThreads = backgroundThreads;
+        this.objectMapper = objectMapper;
+        this.config = config;
+        this.queue = new ArrayBlockingQueue<>(config.getCapacity());
+        this.journalPath = config.getJournal() == null || config.getJournal().isBlank()
+                ? null
+                : Path.of(config.getJournal());
+        this.rejectedPath = journalPath == null ? null : Path.of(config.getJournal() + ".rejected");
+        this.journalMaxBytes = config.getJournalMaxSize().toBytes();
+    }
+
+    /**
+     * A contact submission waiting to be written.
+     */
+    public record PendingMessage(
+            UUID id,
+            String name,
+            String email,
+            String subject,
+            String message,
+            OffsetDateTime createdAt,
+            String userAgent,
+            String ipAddress
+    ) {
+    }
+
+    /**
+     * Queue counters and flush timings.
+     */
+    public record Stats(
+            int depth,
+            int capacity,
+            long accepted,
+            long rejected,
+            long written,
+            long failedFlushes,
+            long deadLettered,
+            double lastFlushMillis,
+            double maxFlushMillis
+    ) {
+    }
+
+    /**
+     * A row the database rejected, as written to the rejected file.
+     */
+    private record RejectedMessage(PendingMessage message, String error) {
+    }
+
+    /**
+     * Fails fast with 503 when the queue or journal is full, before any expensive work is done.
+     */
+    public void ensureCapacity() {
+        if (queue.remainingCapacity() == 0 || journalFull()) {
+            rejected.incrementAndGet();
+            throw new QueueFullException();
+        }
+    }
+
+    /**
+     * Accepts a message for writing, or throws 503 when the queue is full.
+     */
+    public void enqueue(PendingMessage message) {
+        journalLock.lock();
+        try {
+            if (journalFull() || !queue.offer(message)) {
+                rejected.incrementAndGet();
+                throw new QueueFullException();
+            }
+            accepted.incrementAndGet();
+            appendToJournal(message);
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(
+                queue.size(),
+                config.getCapacity(),
+                accepted.get(),
+                rejected.get(),
+                written.get(),
+                failedFlushes.get(),
+                deadLettered.get(),
+                lastFlushNanos.get() / 1_000_000.0,
+                maxFlushNanos.get() / 1_000_000.0
+        );
+    }
+
+    /**
+     * Replays the journal, if any, and starts the background writer.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        lifecycleLock.lock();
+        try {
+            if (running) {
+                return;
+            }
+            if (journalPath != null) {
+                replayJournal();
+                openJournal();
+            }
+
+            running = true;
+            writer = backgroundThreads.factory("contact-message-writer").newThread(this::run);
+            writer.start();
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    /**
+     * Stops the writer once what is already queued has been written.
+     */
+    @PreDestroy
+    public void stop() {
+        lifecycleLock.lock();
+        try {
+            running = false;
+            Thread thread = writer;
+            if (thread != null) {
+                try {
+                    thread.join(config.getMaxRetryBackoff().toMillis() + config.getFlushInterval().toMillis());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            closeJournal();
+            if (!queue.isEmpty()) {
+                log.error("Contact message writer stopped with {} unwritten messages{}", queue.size(),
+                        journalPath != null ? "; they will be replayed from the journal" : "");
+            }
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    private void run() {
+        List<PendingMessage> batch = new ArrayList<>(config.getBatchSize());
+        long pollMillis = config.getFlushInterval().toMillis();
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(pollMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, config.getBatchSize() - 1);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (!writeWithRetry(batch)) {
+                return;
+            }
+            batch.clear();
+            truncateJournalIfDrained();
+        }
+    }
+
+    /**
+     * Writes a batch, retrying with exponential backoff while running.
+     * Returns false if the writer is stopping and the batch could not be written.
+     */
+    private boolean writeWithRetry(List<PendingMessage> batch) {
+        Duration backoff = config.getFlushInterval();
+        while (true) {
+            try {
+                insertOrSplit(batch);
+                return true;
+            } catch (RuntimeException ex) {
+                failedFlushes.incrementAndGet();
+                if (!running) {
+                    log.error("Failed to write {} contact messages during shutdown: {}", batch.size(), ex.getMessage());
+                    return false;
+                }
+                log.warn("Failed to write {} contact messages, retrying in {}: {}", batch.size(), backoff, ex.getMessage());
+                try {
+                    Thread.sleep(backoff.toMillis());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                backoff = backoff.multipliedBy(2).compareTo(config.getMaxRetryBackoff()) < 0
+                        ? backoff.multipliedBy(2)
+                        : config.getMaxRetryBackoff();
+            }
+        }
+    }
+
+    /**
+     * Inserts a batch; if the database rejects the data, inserts row by row and dead-letters
+     * the rejected rows. Any other failure propagates, and the caller retries the whole
+     * batch, which is safe because inserts are idempotent.
+     */
+    private void insertOrSplit(List<PendingMessage> batch) {
+        try {
+            insertBatch(batch);
+            return;
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Database rejected a batch of {} contact messages; writing them one by one: {}",
+                    batch.size(), ex.getMostSpecificCause().getMessage());
+        }
+        for (PendingMessage message : batch) {
+            try {
+                insertBatch(List.of(message));
+            } catch (DataIntegrityViolationException ex) {
+                deadLetter(message, ex);
+            }
+        }
+    }
+
+    private void deadLetter(PendingMessage message, DataIntegrityViolationException ex) {
+        deadLettered.incrementAndGet();
+        String error = ex.getMostSpecificCause().getMessage();
+        log.error("Dropped contact message id={} rejected by the database{}: {}", message.id(),
+                rejectedPath != null ? "; saved to " + rejectedPath : "", error);
+        if (rejectedPath == null) {
+            return;
+        }
+        try {
+            Files.writeString(rejectedPath, objectMapper.writeValueAsString(new RejectedMessage(message, error))
+                            + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.error("Failed to save rejected contact message {}: {}", message.id(), e.getMessage());
+        }
+    }
+
+    private void insertBatch(List<PendingMessage> batch) {
+        long started = System.nanoTime();
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, message) -> {
+            ps.setObject(1, message.id());
+            ps.setString(2, message.name());
+            ps.setString(3, message.email());
+            ps.setString(4, message.subject());
+            ps.setString(5, message.message());
+            ps.setObject(6, message.createdAt());
+            ps.setString(7, message.userAgent());
+            ps.setString(8, message.ipAddress());
+            ps.setObject(9, message.id());
+        });
+        long elapsed = System.nanoTime() - started;
+
+        written.addAndGet(batch.size());
+        lastFlushNanos.set(elapsed);
+        maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+        log.debug("Wrote {} contact messages in {} ms", batch.size(), elapsed / 1_000_000);
+    }
+
+    // ===== Journal =====
+
+    private void appendToJournal(PendingMessage message) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            String line = objectMapper.writeValueAsString(message);
+            journal.write(line);
+            journal.newLine();
+            journal.flush();
+            journalChannel.force(false);
+            journalBytes += line.getBytes(StandardCharsets.UTF_8).length + System.lineSeparator().length();
+        } catch (IOException ex) {
+            log.error("Failed to journal contact message {}: {}", message.id(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Streams the journal in batches. Unreadable lines are logged and skipped.
+     */
+    private void replayJournal() {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        List<PendingMessage> batch = new ArrayList<>(config.getBatchSize());
+        long replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    batch.add(objectMapper.readValue(line, PendingMessage.class));
+                } catch (IOException ex) {
+                    log.error("Skipping unreadable line {} of contact message journal {}: {}",
+                            lineNumber, journalPath, ex.getMessage());
+                    continue;
+                }
+                if (batch.size() == config.getBatchSize()) {
+                    insertOrSplit(batch);
+                    replayed += batch.size();
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                insertOrSplit(batch);
+                replayed += batch.size();
+            }
+        } catch (IOException ex) {
+            log.error("Failed to read contact message journal {}: {}", journalPath, ex.getMessage());
+            return;
+        } catch (RuntimeException ex) {
+            // Journal is kept as-is and replayed again on the next start
+            log.error("Failed to replay contact message journal {}: {}", journalPath, ex.getMessage());
+            return;
+        }
+        if (replayed > 0) {
+            log.info("Replayed {} contact messages from journal {}", replayed, journalPath);
+        }
+        truncateJournalIfDrained();
+    }
+
+    private void openJournal() {
+        try {
+            Path parent = journalPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            journalChannel = FileChannel.open(journalPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            journal = new BufferedWriter(Channels.newWriter(journalChannel, StandardCharsets.UTF_8));
+            journalBytes = Files.size(journalPath);
+        } catch (IOException ex) {
+            log.error("Failed to open contact message journal {}; continuing without it: {}", journalPath, ex.getMessage());
+        }
+    }
+
+    private void truncateJournalIfDrained() {
+        if (journalPath == null) {
+            return;
+        }
+        journalLock.lock();
+        try {
+            if (queue.isEmpty()) {
+                try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                    channel.truncate(0);
+                }
+                journalBytes = 0;
+            }
+        } catch (IOException ex) {
+            log.warn("Failed to truncate contact message journal {}: {}", journalPath, ex.getMessage());
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    private boolean journalFull() {
+        return journal != null && journalBytes >= journalMaxBytes;
+    }
+
+    private void closeJournal() {
+        journalLock.lock();
+        try {
+            if (journal != null) {
+                journal.close();
+                journal = null;
+                journalChannel = null;
+            }
+        } catch (IOException ex) {
+            log.debug("Error closing contact message journal: {}", ex.getMessage());
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    private static final class QueueFullException extends ResponseStatusException {
+
+        QueueFullException() {
+            super(HttpStatus.SERVICE_UNAVAILABLE, "We are receiving too many messages right now. Please try again shortly.");
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            return headers;
+        }
+
+    }
+
+}
@@ -1,39 +1,208 @@
 package com.sita.portfolio.service;
 
+import com.sita.portfolio.config.AppProperties;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
-import java.time.Instant;
-import java.util.ArrayDeque;
-import java.util.Deque;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Clock;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Simple in-memory IP-based rate limiter to throttle contact submissions.
+ * In-memory, per-client rate limiter for contact submissions.
+ * <p>
+ * Uses a sliding-window counter: the previous window's count is weighted by how much
+ * of it still overlaps the sliding window, plus the current window's count.
+ * State lives in a fixed-size open-addressing table of packed longs updated with CAS,
+ * so memory is capped at {@code maxTrackedClients * 8} bytes and no locks are taken.
+ * Keys are hashed with a per-instance random seed; slots from expired windows are reused
+ * lazily, and when a probe range is full the least active client is evicted.
+ * </p>
  */
 @Component
 public class ContactMessageRateLimiter {
 
-    private static final int MAX_REQUESTS = 5;
-    private static final Duration WINDOW = Duration.ofMinutes(5);
+    /** Slots inspected per lookup before evicting. */
+    private static final int PROBES = 8;
 
-    private final Map<String, Deque<Instant>> requestLog = new ConcurrentHashMap<>();
+    /** Slot layout: tag (32 bits) | window (16 bits) | current count (8 bits) | previous count (8 bits). */
+    private static final int WINDOW_MASK = 0xFFFF;
+    private static final int COUNT_MASK = 0xFF;
+    private static final int MAX_LIMIT = COUNT_MASK;
+    private static final int MAX_TRACKED_CLIENTS = 1 << 24;
 
+    /** Outcomes of a single CAS attempt. */
+    private static final int DENIED = 0;
+    private static final int ALLOWED = 1;
+    private static final int RETRY = -1;
+
+    private final Clock clock;
+    private final int maxRequests;
+    private final long windowMillis;
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final long seed = ThreadLocalRandom.current().nextLong();
+    private final LongAdder rejected = new LongAdder();
+
+    @Autowired
+    public ContactMessageRateLimiter(AppProperties appProperties) {
+        this(appProperties.getContactRateLimit(), Clock.systemUTC());
+    }
+
+    public ContactMessageRateLimiter(AppProperties.ContactRateLimit config, Clock clock) {
+        if (config.getMaxRequests() < 1 || config.getMaxRequests() > MAX_LIMIT) {
+            throw new IllegalArgumentException("app.contact-rate-limit.max-requests must be between 1 and " + MAX_LIMIT);
+        }
+        if (config.getWindow().toMillis() < 1) {
+            throw new IllegalArgumentException("app.contact-rate-limit.window must be positive");
+        }
+        if (config.getMaxTrackedClients() < 1 || config.getMaxTrackedClients() > MAX_TRACKED_CLIENTS) {
+            throw new IllegalArgumentException("app.contact-rate-limit.max-tracked-clients must be between 1 and " + MAX_TRACKED_CLIENTS);
+        }
+        this.clock = clock;
+        this.maxRequests = config.getMaxRequests();
+        this.windowMillis = config.getWindow().toMillis();
+        int capacity = Integer.highestOneBit(Math.max(PROBES, config.getMaxTrackedClients()) - 1) << 1;
+        this.slots = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Records a submission for {@code key} and returns whether it is within the limit.
+     * Rejected submissions are not counted.
+     */
     public boolean allow(String key) {
-        Instant now = Instant.now();
-        Deque<Instant> events = requestLog.computeIfAbsent(key, k -> new ArrayDeque<>());
+        boolean allowed = record(key);
+        if (!allowed) {
+            rejected.increment();
+        }
+        return allowed;
+    }
+
+    /**
+     * Submissions rejected since start; exported as a metric.
+     */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    private boolean record(String key) {
+        long now = clock.millis();
+        int window = (int) ((now / windowMillis) & WINDOW_MASK);
+        double elapsed = (double) (now % windowMillis) / windowMillis;
+
+        long hash = hash(key);
+        int tag = (int) (hash >>> 32);
+        if (tag == 0) {
+            tag = 1; // a zero slot means empty
+        }
+        int start = (int) hash & mask;
+
+        while (true) {
+            int victim = -1;
+            long victimValue = 0;
+            int victimActivity = Integer.MAX_VALUE;
+
+            for (int i = 0; i < PROBES; i++) {
+                int index = (start + i) & mask;
+                long value = slots.get(index);
+
+                if (value == 0 || tagOf(value) == tag) {
+                    int outcome = tryRecord(index, value, tag, window, elapsed);
+                    if (outcome != RETRY) {
+                        return outcome == ALLOWED;
+                    }
+                    victim = -2; // lost a race; rescan
+                    break;
+                }
+
+                int activity = activity(value, window);
+                if (activity < victimActivity) {
+                    victim = index;
+                    victimValue = value;
+                    victimActivity = activity;
+                }
+            }
 
-        // Drop events outside window
-        while (!events.isEmpty() && events.peekFirst().isBefore(now.minus(WINDOW))) {
-            events.pollFirst();
+            if (victim >= 0) {
+                int outcome = tryRecord(victim, victimValue, tag, window, elapsed);
+                if (outcome != RETRY) {
+                    return outcome == ALLOWED;
+                }
+            }
         }
+    }
+
+    /**
+     * Applies one submission to a slot via CAS.
+     * Returns {@link #RETRY} if the slot changed concurrently.
+     */
+    private int tryRecord(int index, long value, int tag, int window, double elapsed) {
+        int current = 0;
+        int previous = 0;
+        if (value != 0 && tagOf(value) == tag) {
+            int age = (window - windowOf(value)) & WINDOW_MASK;
+            if (age == 0) {
+                current = currentOf(value);
+                previous = previousOf(value);
+            } else if (age == 1) {
+                previous = currentOf(value);
+            }
+        }
+
+        if (previous * (1.0 - elapsed) + current >= maxRequests) {
+            return DENIED;
+        }
+
+        long updated = pack(tag, window, current + 1, previous);
+        return slots.compareAndSet(index, value, updated) ? ALLOWED : RETRY;
+    }
+
+    /** Submissions a slot still counts towards in the current window; 0 once expired. */
+    private static int activity(long value, int window) {
+        int age = (window - windowOf(value)) & WINDOW_MASK;
+        if (age == 0) {
+            return currentOf(value) + previousOf(value);
+        }
+        return age == 1 ? currentOf(value) : 0;
+    }
 
-        if (events.size() >= MAX_REQUESTS) {
-            return false;
+    private long hash(String key) {
+        long h = seed;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x100000001B3L;
         }
+        // MurmurHash3 finalizer
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static long pack(int tag, int window, int current, int previous) {
+        return ((long) tag << 32)
+                | ((long) (window & WINDOW_MASK) << 16)
+                | ((long) (Math.min(current, COUNT_MASK)) << 8)
+                | (previous & COUNT_MASK);
+    }
+
+    private static int tagOf(long value) {
+        return (int) (value >>> 32);
+    }
 
-        events.addLast(now);
-        return true;
+    private static int windowOf(long value) {
+        return (int) (value >>> 16) & WINDOW_MASK;
     }
+
+    private static int currentOf(long value) {
+        return (int) (value >>> 8) & COUNT_MASK;
+    }
+
+    private static int previousOf(long value) {
+        return (int) value & COUNT_MASK;
+    }
+
 }
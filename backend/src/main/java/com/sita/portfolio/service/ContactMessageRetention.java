@@ -0,0 +1,389 @@
+package com.sita.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sita.portfolio.config.AppProperties;
+import com.sita.portfolio.config.BackgroundThreads;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Moves old contact messages out of portfolio.contact_message into compressed archive files.
+ * <p>
+ * A message is due once it is older than max-age, or older than status-min-age while in
+ * one of the configured statuses (archived by default). Due rows are archived oldest first
+ * in bounded batches: each batch is appended to monthly NDJSON.gz files by created_at
+ * month and synced to disk, then deleted by primary key in one short statement. No
+ * transaction or lock spans more than one batch. A crash between the file write and the
+ * delete archives those rows again on the next run, so readers should dedupe by id.
+ * Each batch adds a gzip member to the file, and standard gzip readers read them all in turn.
+ * </p>
+ * <p>
+ * There is no default archive directory: startup fails if retention is enabled without
+ * one, and manual runs get 409 until it is set.
+ * </p>
+ */
+@Component
+@Slf4j
+public class ContactMessageRetention {
+
+    private static final String COLUMNS = "id, name, email, subject, message, created_at, status, user_agent, ip_address";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AppProperties.ContactRetention config;
+    private final Path archiveDir;
+
+    /** Serializes scheduled and manual runs. */
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    private volatile RunReport lastRun;
+    private long totalRuns;
+    private long totalRowsMoved;
+    private long totalBytesReclaimed;
+    private long totalArchiveBytes;
+
+    private final BackgroundThreads backgroundThreads;
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public ContactMessageRetention(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, AppProperties appProperties,
+                                   BackgroundThreads backgroundThreads) {
+        this(jdbcTemplate, objectMapper, appProperties.getContactRetention(), backgroundThreads);
+    }
+
+    public ContactMessageRetention(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                   AppProperties.ContactRetention config) {
+        this(jdbcTemplate, objectMapper, config, BackgroundThreads.PLATFORM);
+    }
+
+    public ContactMessageRetention(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                   AppProperties.ContactRetention config, BackgroundThreads backgroundThreads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.config = config;
+        this.backgroundThreads = backgroundThreads;
+        this.archiveDir = config.getArchiveDir() == null || config.getArchiveDir().isBlank()
+                ? null
+                : Path.of(config.getArchiveDir());
+        if (config.isEnabled() && archiveDir == null) {
+            throw new IllegalStateException(
+                    "app.contact-retention.enabled requires app.contact-retention.archive-dir (CONTACT_ARCHIVE_DIR)");
+        }
+    }
+
+    /**
+     * One archived row, written as a single NDJSON line.
+     */
+    public record ArchivedMessage(
+            UUID id,
+            String name,
+            String email,
+            String subject,
+            String message,
+            OffsetDateTime createdAt,
+            String status,
+            String userAgent,
+            String ipAddress
+    ) {
+    }
+
+    /**
+     * Outcome of one retention run. {@code bytesReclaimed} estimates the row data removed
+     * from the table; PostgreSQL reuses that space after the next (auto)vacuum.
+     * {@code complete} is false when the run stopped at max-batches-per-run with rows still due.
+     */
+    public record RunReport(
+            Instant startedAt,
+            Instant finishedAt,
+            long rowsMoved,
+            int batches,
+            long bytesReclaimed,
+            long archiveBytes,
+            List<String> files,
+            boolean complete,
+            String error
+    ) {
+    }
+
+    /**
+     * Policy, last run and totals since start.
+     */
+    public record Status(
+            boolean enabled,
+            String archiveDir,
+            String maxAge,
+            List<String> statuses,
+            String statusMinAge,
+            long runs,
+            long rowsMoved,
+            long bytesReclaimed,
+            long archiveBytes,
+            RunReport lastRun
+    ) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!config.isEnabled() || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(backgroundThreads.factory("contact-retention"));
+        scheduler.scheduleWithFixedDelay(this::runScheduled,
+                config.getInitialDelay().toMillis(), config.getInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Runs retention now. Throws 409 if no archive directory is set or a run is already in progress.
+     */
+    public RunReport runNow() {
+        if (archiveDir == null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "app.contact-retention.archive-dir is not set");
+        }
+        if (!runLock.tryLock()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "A retention run is already in progress");
+        }
+        try {
+            return run();
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    public synchronized Status status() {
+        return new Status(
+                config.isEnabled(),
+                archiveDir == null ? null : archiveDir.toAbsolutePath().toString(),
+                config.getMaxAge().toString(),
+                List.copyOf(config.getStatuses()),
+                config.getStatusMinAge().toString(),
+                totalRuns,
+                totalRowsMoved,
+                totalBytesReclaimed,
+                totalArchiveBytes,
+                lastRun
+        );
+    }
+
+    private void runScheduled() {
+        if (!runLock.tryLock()) {
+            return;
+        }
+        try {
+            run();
+        } catch (RuntimeException ex) {
+            // Keep the schedule alive; the failure is recorded in the report
+            log.error("Contact message retention run failed: {}", ex.getMessage());
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private RunReport run() {
+        Instant startedAt = Instant.now();
+        OffsetDateTime now = startedAt.atOffset(ZoneOffset.UTC);
+        OffsetDateTime ageCutoff = now.minus(config.getMaxAge());
+        OffsetDateTime statusCutoff = now.minus(config.getStatusMinAge());
+
+        List<Object> args = new ArrayList<>();
+        String due = duePredicate(ageCutoff, statusCutoff, args);
+        String selectSql = "SELECT " + COLUMNS + " FROM portfolio.contact_message WHERE " + due
+                + " ORDER BY created_at, id LIMIT " + config.getBatchSize();
+
+        long rowsMoved = 0;
+        long bytesReclaimed = 0;
+        long archiveBytes = 0;
+        int batches = 0;
+        boolean complete = false;
+        TreeSet<String> files = new TreeSet<>();
+        String error = null;
+
+        try {
+            while (batches < config.getMaxBatchesPerRun()) {
+                List<ArchivedMessage> batch = jdbcTemplate.query(selectSql, (rs, rowNum) -> new ArchivedMessage(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("name"),
+                        rs.getString("email"),
+                        rs.getString("subject"),
+                        rs.getString("message"),
+                        rs.getObject("created_at", OffsetDateTime.class),
+                        rs.getString("status"),
+                        rs.getString("user_agent"),
+                        rs.getString("ip_address")
+                ), args.toArray());
+                if (batch.isEmpty()) {
+                    complete = true;
+                    break;
+                }
+
+                archiveBytes += archive(batch, files);
+                List<ArchivedMessage> deleted = delete(batch, due, args);
+                rowsMoved += deleted.size();
+                bytesReclaimed += deleted.stream().mapToLong(ContactMessageRetention::rowBytes).sum();
+                batches++;
+
+                if (batch.size() < config.getBatchSize()) {
+                    complete = true;
+                    break;
+                }
+                pause();
+            }
+        } catch (RuntimeException ex) {
+            error = ex.getMessage();
+            log.error("Contact message retention stopped after {} batches: {}", batches, ex.getMessage());
+        }
+
+        RunReport report = new RunReport(startedAt, Instant.now(), rowsMoved, batches, bytesReclaimed,
+                archiveBytes, List.copyOf(files), complete, error);
+        record(report);
+        if (rowsMoved > 0) {
+            log.info("Archived {} contact messages in {} batches ({} bytes compressed)", rowsMoved, batches, archiveBytes);
+        }
+        return report;
+    }
+
+    private String duePredicate(OffsetDateTime ageCutoff, OffsetDateTime statusCutoff, List<Object> args) {
+        args.add(ageCutoff);
+        if (config.getStatuses().isEmpty()) {
+            return "created_at < ?";
+        }
+        args.add(statusCutoff);
+        args.addAll(config.getStatuses());
+        return "(created_at < ? OR (created_at < ? AND status IN ("
+                + String.join(", ", Collections.nCopies(config.getStatuses().size(), "?")) + ")))";
+    }
+
+    /**
+     * Appends the batch to one file per created_at month and syncs each file before returning.
+     * Returns the number of compressed bytes written.
+     */
+    private long archive(List<ArchivedMessage> batch, TreeSet<String> files) {
+        Map<YearMonth, List<ArchivedMessage>> byMonth = new TreeMap<>();
+        for (ArchivedMessage message : batch) {
+            YearMonth month = YearMonth.from(message.createdAt().withOffsetSameInstant(ZoneOffset.UTC));
+            byMonth.computeIfAbsent(month, key -> new ArrayList<>()).add(message);
+        }
+
+        long written = 0;
+        try {
+            Files.createDirectories(archiveDir);
+            for (Map.Entry<YearMonth, List<ArchivedMessage>> entry : byMonth.entrySet()) {
+                Path file = archiveDir.resolve("contact-messages-" + entry.getKey() + ".ndjson.gz");
+                long before = Files.exists(file) ? Files.size(file) : 0;
+                try (FileOutputStream out = new FileOutputStream(file.toFile(), true)) {
+                    GZIPOutputStream gzip = new GZIPOutputStream(out);
+                    Writer writer = new OutputStreamWriter(gzip, StandardCharsets.UTF_8);
+                    for (ArchivedMessage message : entry.getValue()) {
+                        writer.write(objectMapper.writeValueAsString(message));
+                        writer.write('\n');
+                    }
+                    writer.flush();
+                    gzip.finish();
+                    // Rows are deleted next, so the archive must be durable first
+                    out.getFD().sync();
+                }
+                written += Files.size(file) - before;
+                files.add(file.getFileName().toString());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write contact message archive in " + archiveDir, ex);
+        }
+        return written;
+    }
+
+    /**
+     * Deletes archived rows that are still due, so a status change made after the select wins.
+     * Returns the rows actually deleted.
+     */
+    private List<ArchivedMessage> delete(List<ArchivedMessage> batch, String due, List<Object> dueArgs) {
+        String ids = String.join(", ", Collections.nCopies(batch.size(), "?"));
+        List<Object> args = new ArrayList<>(batch.size() + dueArgs.size());
+        batch.forEach(message -> args.add(message.id()));
+        args.addAll(dueArgs);
+        int deleted = jdbcTemplate.update("DELETE FROM portfolio.contact_message WHERE id IN ("
+                + ids + ") AND " + due, args.toArray());
+        if (deleted == batch.size()) {
+            return batch;
+        }
+        // Some rows stopped being due; the ones still present were kept
+        Set<UUID> kept = new HashSet<>(jdbcTemplate.queryForList("SELECT id FROM portfolio.contact_message WHERE id IN ("
+                + ids + ")", UUID.class, batch.stream().map(ArchivedMessage::id).toArray()));
+        return batch.stream().filter(message -> !kept.contains(message.id())).toList();
+    }
+
+    private void pause() {
+        long millis = config.getBatchPause().toMillis();
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Retention run interrupted", ex);
+        }
+    }
+
+    private synchronized void record(RunReport report) {
+        lastRun = report;
+        totalRuns++;
+        totalRowsMoved += report.rowsMoved();
+        totalBytesReclaimed += report.bytesReclaimed();
+        totalArchiveBytes += report.archiveBytes();
+    }
+
+    /**
+     * Approximate on-disk size of a row: text columns in UTF-8 plus the uuid and timestamp.
+     */
+    private static long rowBytes(ArchivedMessage message) {
+        return 16 + 8
+                + utf8Length(message.name()) + utf8Length(message.email()) + utf8Length(message.subject())
+                + utf8Length(message.message()) + utf8Length(message.status())
+                + utf8Length(message.userAgent()) + utf8Length(message.ipAddress());
+    }
+
+    private static int utf8Length(String value) {
+        return value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
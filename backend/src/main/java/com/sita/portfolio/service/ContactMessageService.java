@@ -1,68 +1,169 @@
 package com.sita.portfolio.service;
 
+import com.sita.portfolio.exception.BadRequestException;
 import com.sita.portfolio.model.dto.request.ContactMessageRequest;
 import com.sita.portfolio.model.dto.request.ContactMessageStatusUpdateRequest;
+import com.sita.portfolio.model.dto.response.ContactMessagePageResponse;
 import com.sita.portfolio.model.dto.response.ContactMessageResponse;
+import com.sita.portfolio.model.dto.response.ContactMessageSummaryResponse;
 import com.sita.portfolio.model.entity.ContactMessage;
+import com.sita.portfolio.repository.ContactMessageInboxRepository;
 import com.sita.portfolio.repository.ContactMessageRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class ContactMessageService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final Set<String> STATUSES = Set.of("new", "read", "archived");
+    /** Column width of contact_message.ip_address. */
+    private static final int MAX_IP_LENGTH = 64;
+    private static final int MAX_USER_AGENT_LENGTH = 512;
+
     private final ContactMessageRepository repository;
+    private final ContactMessageInboxRepository inboxRepository;
     private final ContactMessageRateLimiter rateLimiter;
-    private final RestTemplate restTemplate = new RestTemplate();
-
-    @Value("${recaptcha.secret:}")
-    private String recaptchaSecret;
+    private final RecaptchaVerifier recaptchaVerifier;
+    private final ContactMessageQueue messageQueue;
 
-    public void submit(ContactMessageRequest request, HttpServletRequest httpRequest) {
+    /**
+     * Validates a contact submission and queues it for writing.
+     * Honeypot, rate-limit and queue-capacity checks run first, so rejected requests never
+     * trigger an outbound reCAPTCHA call; the message is queued once verification completes
+     * and written to the database by {@link ContactMessageQueue}.
+     */
+    public CompletableFuture<Void> submit(ContactMessageRequest request, HttpServletRequest httpRequest) {
         // Honeypot check
         if (request.getHoneypot() != null && !request.getHoneypot().isBlank()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid submission");
         }
 
-        verifyRecaptcha(request.getCaptchaToken(), httpRequest);
-
         String ip = resolveIp(httpRequest);
         if (!rateLimiter.allow(ip)) {
             throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many submissions. Please try later.");
         }
+        messageQueue.ensureCapacity();
 
-        ContactMessage message = new ContactMessage();
-        message.setName(request.getName());
-        message.setEmail(request.getEmail());
-        message.setSubject(request.getSubject());
-        message.setMessage(request.getMessage());
-        message.setUserAgent(httpRequest.getHeader("User-Agent"));
-        message.setIpAddress(ip);
-        message.setStatus("new");
+        // Built up front: the servlet request must not be read once verification goes async
+        ContactMessageQueue.PendingMessage message = new ContactMessageQueue.PendingMessage(
+                UUID.randomUUID(),
+                request.getName(),
+                request.getEmail(),
+                request.getSubject(),
+                request.getMessage(),
+                OffsetDateTime.now(ZoneOffset.UTC),
+                truncate(httpRequest.getHeader("User-Agent"), MAX_USER_AGENT_LENGTH),
+                ip
+        );
 
-        repository.save(message);
+        return recaptchaVerifier.verify(request.getCaptchaToken(), ip)
+                .thenRun(() -> {
+                    try {
+                        messageQueue.enqueue(message);
+                    } catch (ResponseStatusException ex) {
+                        // The token is spent at Google; let the client retry with it
+                        recaptchaVerifier.allowRetry(request.getCaptchaToken(), ip);
+                        throw ex;
+                    }
+
+                    // Log metadata only (no message body)
+                    log.info("Contact message queued id={} from {} <{}> subject='{}'", message.id(), message.name(), message.email(), message.subject());
+                });
+    }
+
+    /**
+     * Returns one keyset page of the inbox, newest first, without message bodies.
+     * Filters are optional; {@code cursor} is the {@code nextCursor} of the previous page.
+     */
+    public ContactMessagePageResponse getMessages(String status, String email, String ip, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        ContactMessageInboxRepository.Filter filter = new ContactMessageInboxRepository.Filter(
+                normalizeStatus(status),
+                blankToNull(email) == null ? null : email.trim().toLowerCase(Locale.ROOT),
+                blankToNull(ip) == null ? null : ip.trim()
+        );
+
+        // One extra row tells us whether another page exists without a COUNT(*)
+        List<ContactMessageSummaryResponse> rows = inboxRepository.findPage(filter, decodeListCursor(cursor), limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<ContactMessageSummaryResponse> content = hasMore ? rows.subList(0, limit) : rows;
+
+        ContactMessageSummaryResponse last = content.isEmpty() ? null : content.get(content.size() - 1);
+        return ContactMessagePageResponse.builder()
+                .content(content)
+                .size(limit)
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? encodeCursor(last.getCreatedAt().toInstant(), last.getId()) : null)
+                .build();
+    }
+
+    /**
+     * Full-text search over name, email, subject and body, best match first.
+     * Pages continue with the {@code nextCursor} of the previous page, as in {@link #getMessages}.
+     */
+    public ContactMessagePageResponse searchMessages(String query, String cursor, int size) {
+        String q = blankToNull(query);
+        if (q == null) {
+            throw new BadRequestException("Search query is required", "q");
+        }
+        if (q.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must be at most " + MAX_QUERY_LENGTH + " characters", "q");
+        }
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        ContactMessageInboxRepository.SearchCursor after = null;
+        String[] parts = decodeCursor(cursor, 3);
+        if (parts != null) {
+            try {
+                after = new ContactMessageInboxRepository.SearchCursor(
+                        Float.parseFloat(parts[0]), parseInstant(parts[1]), UUID.fromString(parts[2]));
+            } catch (RuntimeException e) {
+                throw new BadRequestException("Invalid cursor", "cursor");
+            }
+        }
+
+        List<ContactMessageInboxRepository.SearchHit> hits = inboxRepository.search(q.trim(), after, limit + 1);
+        boolean hasMore = hits.size() > limit;
+        if (hasMore) {
+            hits = hits.subList(0, limit);
+        }
+        ContactMessageInboxRepository.SearchHit last = hits.isEmpty() ? null : hits.get(hits.size() - 1);
 
-        // Log metadata only (no message body)
-        log.info("Contact message stored id={} from {} <{}> subject='{}'", message.getId(), message.getName(), message.getEmail(), message.getSubject());
+        return ContactMessagePageResponse.builder()
+                .content(hits.stream().map(ContactMessageInboxRepository.SearchHit::message).toList())
+                .size(limit)
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? encodeCursor(Float.toString(last.rank()),
+                        last.message().getCreatedAt().toInstant(), last.message().getId()) : null)
+                .build();
     }
 
-    public Page<ContactMessageResponse> getMessages(Pageable pageable) {
-        return repository.findAll(pageable).map(this::toResponse);
+    public ContactMessageResponse getMessage(UUID id) {
+        return repository.findById(id)
+                .map(this::toResponse)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Message not found"));
     }
 
     public ContactMessageResponse updateStatus(UUID id, ContactMessageStatusUpdateRequest request) {
@@ -73,44 +174,77 @@ public class ContactMessageService {
         return toResponse(message);
     }
 
+    /**
+     * First X-Forwarded-For entry, else the remote address. Client-controlled, so it is
+     * cut to the column width; an oversized value must never reach the write-behind queue.
+     */
     private String resolveIp(HttpServletRequest request) {
         String forwarded = request.getHeader("X-Forwarded-For");
         if (forwarded != null && !forwarded.isBlank()) {
-            return forwarded.split(",")[0].trim();
+            return truncate(forwarded.split(",")[0].trim(), MAX_IP_LENGTH);
         }
-        return Optional.ofNullable(request.getRemoteAddr()).orElse("unknown");
+        return truncate(Optional.ofNullable(request.getRemoteAddr()).orElse("unknown"), MAX_IP_LENGTH);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
     }
 
-    private void verifyRecaptcha(String token, HttpServletRequest request) {
-        if (recaptchaSecret == null || recaptchaSecret.isBlank()) {
-            log.warn("reCAPTCHA secret not configured; skipping verification.");
-            return;
+    private static String normalizeStatus(String status) {
+        String value = blankToNull(status);
+        if (value == null) {
+            return null;
         }
-        if (token == null || token.isBlank()) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Captcha token missing");
+        value = value.trim().toLowerCase(Locale.ROOT);
+        if (!STATUSES.contains(value)) {
+            throw new BadRequestException("Status must be one of: new, read, archived", "status");
         }
+        return value;
+    }
 
-        String url = "https://www.google.com/recaptcha/api/siteverify";
-        Map<String, String> params = Map.of(
-                "secret", recaptchaSecret,
-                "response", token,
-                "remoteip", resolveIp(request)
-        );
-
-        ResponseEntity<RecaptchaResponse> resp = restTemplate.postForEntity(
-                url + "?secret={secret}&response={response}&remoteip={remoteip}",
-                null,
-                RecaptchaResponse.class,
-                params
-        );
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
 
-        RecaptchaResponse body = resp.getBody();
-        if (body == null || !Boolean.TRUE.equals(body.success)) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Captcha verification failed");
+    private static ContactMessageInboxRepository.Cursor decodeListCursor(String cursor) {
+        String[] parts = decodeCursor(cursor, 2);
+        if (parts == null) {
+            return null;
         }
+        try {
+            return new ContactMessageInboxRepository.Cursor(parseInstant(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor", "cursor");
+        }
+    }
+
+    private static OffsetDateTime parseInstant(String value) {
+        return Instant.parse(value).atOffset(ZoneOffset.UTC);
+    }
+
+    /**
+     * Cursors are the base64url form of the last row's sort key joined with "|", opaque to clients.
+     */
+    private static String encodeCursor(Object... sortKey) {
+        String key = Arrays.stream(sortKey).map(String::valueOf).collect(Collectors.joining("|"));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
     }
 
-    private record RecaptchaResponse(Boolean success, String challenge_ts, String hostname, String[] errorCodes) {}
+    private static String[] decodeCursor(String cursor, int parts) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] values;
+        try {
+            values = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8).split("\\|", -1);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor", "cursor");
+        }
+        if (values.length != parts) {
+            throw new BadRequestException("Invalid cursor", "cursor");
+        }
+        return values;
+    }
 
     private ContactMessageResponse toResponse(ContactMessage entity) {
         return ContactMessageResponse.builder()
@@ -21,6 +21,7 @@ public class ContactSettingsService {
 
     private final ContactSettingsRepository contactSettingsRepository;
     private final EntityMapper mapper;
+    private final PortfolioSnapshotCache snapshotCache;
 
     /**
      * Gets the contact settings.
@@ -50,6 +51,7 @@ public class ContactSettingsService {
 
         ContactSettings saved = contactSettingsRepository.save(settings);
         log.info("Updated contact settings");
+        snapshotCache.refreshAfterCommit();
 
         return mapper.toContactSettingsResponse(saved);
     }
@@ -1,11 +1,11 @@
 package com.sita.portfolio.service;
 
-import com.sita.portfolio.exception.BadRequestException;
 import com.sita.portfolio.exception.ResourceNotFoundException;
 import com.sita.portfolio.model.dto.request.*;
 import com.sita.portfolio.model.dto.response.EducationResponse;
 import com.sita.portfolio.model.entity.Education;
 import com.sita.portfolio.repository.EducationRepository;
+import com.sita.portfolio.repository.ReorderSupport;
 import com.sita.portfolio.service.mapper.EntityMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +25,8 @@ public class EducationService {
 
     private final EducationRepository educationRepository;
     private final EntityMapper mapper;
+    private final PortfolioSnapshotCache snapshotCache;
+    private final ReorderSupport reorderSupport;
 
     /**
      * Gets all education entries (admin view - includes unpublished).
@@ -69,6 +71,7 @@ public class EducationService {
 
         Education saved = educationRepository.save(education);
         log.info("Created education: {} at {}", saved.getDegree(), saved.getInstitution());
+        snapshotCache.refreshAfterCommit();
 
         return mapper.toEducationResponse(saved);
     }
@@ -95,6 +98,7 @@ public class EducationService {
 
         Education saved = educationRepository.save(education);
         log.info("Updated education: {}", id);
+        snapshotCache.refreshAfterCommit();
 
         return mapper.toEducationResponse(saved);
     }
@@ -109,6 +113,7 @@ public class EducationService {
         }
         educationRepository.deleteById(id);
         log.info("Deleted education: {}", id);
+        snapshotCache.refreshAfterCommit();
     }
 
     /**
@@ -123,42 +128,21 @@ public class EducationService {
         Education saved = educationRepository.save(education);
 
         log.info("Set education {} published={}", id, published);
+        snapshotCache.refreshAfterCommit();
         return mapper.toEducationResponse(saved);
     }
 
     /**
      * Reorders education entries.
-     * Validates all IDs exist before updating.
+     * Validates all IDs exist, then updates every sort order in one statement.
      */
     @Transactional
     public List<EducationResponse> reorderEducation(ReorderRequest request) {
         List<UUID> orderedIds = request.getOrderedIds();
-        
-        // Validate all IDs exist
-        List<Education> educations = educationRepository.findAllById(orderedIds);
-        if (educations.size() != orderedIds.size()) {
-            List<UUID> foundIds = educations.stream().map(Education::getId).toList();
-            List<UUID> missingIds = orderedIds.stream()
-                    .filter(id -> !foundIds.contains(id))
-                    .toList();
-            throw new BadRequestException(
-                    "Invalid education IDs: " + missingIds,
-                    "orderedIds"
-            );
-        }
-        
-        // Update sort orders in a single transaction
-        for (int i = 0; i < orderedIds.size(); i++) {
-            UUID targetId = orderedIds.get(i);
-            int newSortOrder = i;
-            educations.stream()
-                    .filter(edu -> edu.getId().equals(targetId))
-                    .findFirst()
-                    .ifPresent(edu -> edu.setSortOrder(newSortOrder));
-        }
-        educationRepository.saveAll(educations);
-        
+        reorderSupport.reorder(Education.class, orderedIds);
+
         log.info("Reordered {} education entries", orderedIds.size());
+        snapshotCache.refreshAfterCommit();
         return getAllEducation();
     }
 
@@ -1,6 +1,5 @@
 package com.sita.portfolio.service;
 
-import com.sita.portfolio.exception.BadRequestException;
 import com.sita.portfolio.exception.ResourceNotFoundException;
 import com.sita.portfolio.model.dto.request.*;
 import com.sita.portfolio.model.dto.response.ExperienceResponse;
@@ -8,6 +7,7 @@ import com.sita.portfolio.model.entity.Experience;
 import com.sita.portfolio.model.entity.ExperienceBullet;
 import com.sita.portfolio.repository.ExperienceBulletRepository;
 import com.sita.portfolio.repository.ExperienceRepository;
+import com.sita.portfolio.repository.ReorderSupport;
 import com.sita.portfolio.service.mapper.EntityMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +28,8 @@ public class ExperienceService {
     private final ExperienceRepository experienceRepository;
     private final ExperienceBulletRepository bulletRepository;
     private final EntityMapper mapper;
+    private final PortfolioSnapshotCache snapshotCache;
+    private final ReorderSupport reorderSupport;
 
     /**
      * Gets all experiences (admin view - includes unpublished).
@@ -73,6 +75,7 @@ public class ExperienceService {
 
         Experience saved = experienceRepository.save(experience);
         log.info("Created experience: {} at {}", saved.getRole(), saved.getCompany());
+        snapshotCache.refreshAfterCommit();
 
         return mapper.toExperienceResponse(saved);
     }
@@ -100,6 +103,7 @@ public class ExperienceService {
 
         Experience saved = experienceRepository.save(experience);
         log.info("Updated experience: {}", id);
+        snapshotCache.refreshAfterCommit();
 
         return mapper.toExperienceResponse(saved);
     }
@@ -114,6 +118,7 @@ public class ExperienceService {
         }
         experienceRepository.deleteById(id);
         log.info("Deleted experience: {}", id);
+        snapshotCache.refreshAfterCommit();
     }
 
     /**
@@ -128,42 +133,21 @@ public class ExperienceService {
         Experience saved = experienceRepository.save(experience);
 
         log.info("Set experience {} published={}", id, published);
+        snapshotCache.refreshAfterCommit();
         return mapper.toExperienceResponse(saved);
     }
 
     /**
      * Reorders experiences.
-     * Validates all IDs exist before updating.
+     * Validates all IDs exist, then updates every sort order in one statement.
      */
     @Transactional
     public List<ExperienceResponse> reorderExperiences(ReorderRequest request) {
         List<UUID> orderedIds = request.getOrderedIds();
-        
-        // Validate all IDs exist
-        List<Experience> experiences = experienceRepository.findAllById(orderedIds);
-        if (experiences.size() != orderedIds.size()) {
-            List<UUID> foundIds = experiences.stream().map(Experience::getId).toList();
-            List<UUID> missingIds = orderedIds.stream()
-                    .filter(id -> !foundIds.contains(id))
-                    .toList();
-            throw new BadRequestException(
-                    "Invalid experience IDs: " + missingIds,
-                    "orderedIds"
-            );
-        }
-        
-        // Update sort orders in a single transaction
-        for (int i = 0; i < orderedIds.size(); i++) {
-            UUID targetId = orderedIds.get(i);
-            int newSortOrder = i;
-            experiences.stream()
-                    .filter(exp -> exp.getId().equals(targetId))
-                    .findFirst()
-                    .ifPresent(exp -> exp.setSortOrder(newSortOrder));
-        }
-        experienceRepository.saveAll(experiences);
-        
+        reorderSupport.reorder(Experience.class, orderedIds);
+
         log.info("Reordered {} experiences", orderedIds.size());
+        snapshotCache.refreshAfterCommit();
         return getAllExperiences();
     }
 
@@ -186,6 +170,7 @@ public class ExperienceService {
         Experience saved = experienceRepository.save(experience);
 
         log.info("Added bullet to experience: {}", experienceId);
+        snapshotCache.refreshAfterCommit();
         return mapper.toExperienceResponse(saved);
     }
 
@@ -205,6 +190,7 @@ public class ExperienceService {
 
         bulletRepository.save(bullet);
         log.info("Updated bullet: {} in experience: {}", bulletId, experienceId);
+        snapshotCache.refreshAfterCommit();
 
         return mapper.toExperienceResponse(experience);
     }
@@ -224,6 +210,7 @@ public class ExperienceService {
         experienceRepository.save(experience);
 
         log.info("Deleted bullet: {} from experience: {}", bulletId, experienceId);
+        snapshotCache.refreshAfterCommit();
         return mapper.toExperienceResponse(experience);
     }
 
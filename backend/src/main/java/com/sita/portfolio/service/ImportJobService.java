@@ -0,0 +1,426 @@
+package com.sita.portfolio.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sita.portfolio.config.AppProperties;
+import com.sita.portfolio.config.BackgroundThreads;
+import com.sita.portfolio.exception.BadRequestException;
+import com.sita.portfolio.exception.ResourceNotFoundException;
+import com.sita.portfolio.model.dto.response.ImportJobResponse;
+import com.sita.portfolio.model.dto.response.ImportJobResponse.SectionProgress;
+import com.sita.portfolio.model.dto.response.ImportResultResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs resume imports one at a time, either on the calling thread or as background jobs.
+ * <p>
+ * Background jobs run on a single dedicated thread (virtual in virtual-thread mode), so a large import
+ * holds no Tomcat thread while the admin UI polls its progress. A single
+ * permit covers both kinds of import: while one is queued or running, another gets 409.
+ * </p>
+ * <p>
+ * With a database the permit spans all instances: on PostgreSQL each import runs in one
+ * transaction holding {@code pg_try_advisory_xact_lock}, and job state is stored in
+ * portfolio.import_job, so a poll can reach any replica. Progress is saved at most once
+ * a second in its own transaction. Finished jobs are dropped after the retention period.
+ * </p>
+ */
+@Service
+@Slf4j
+public class ImportJobService {
+
+    /** Advisory lock key shared by all instances for the import permit. */
+    private static final long IMPORT_LOCK_KEY = 0x706f7274_696d7074L;
+    private static final long PROGRESS_SAVE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final String FAILED = "Import failed; no changes were applied";
+    private static final TypeReference<Map<String, SectionProgress>> PROGRESS_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<ImportResultResponse> RESULT_TYPE = new TypeReference<>() {
+    };
+
+    private final AppProperties.ImportJobs config;
+    private final ExecutorService executor;
+    private final Semaphore importPermit = new Semaphore(1);
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    /** Null when jobs are kept in memory only. */
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate importTemplate;
+    private final TransactionTemplate saveTemplate;
+    private volatile Boolean postgres;
+
+    @Autowired
+    public ImportJobService(AppProperties appProperties, BackgroundThreads backgroundThreads, JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this(appProperties.getImportJobs(), backgroundThreads, jdbcTemplate, transactionManager, objectMapper);
+    }
+
+    public ImportJobService(AppProperties.ImportJobs config) {
+        this(config, BackgroundThreads.PLATFORM, null, null, null);
+    }
+
+    public ImportJobService(AppProperties.ImportJobs config, BackgroundThreads backgroundThreads, JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.config = config;
+        this.executor = Executors.newSingleThreadExecutor(backgroundThreads.factory("import-job"));
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        if (transactionManager != null) {
+            this.importTemplate = new TransactionTemplate(transactionManager);
+            this.saveTemplate = new TransactionTemplate(transactionManager);
+            this.saveTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        } else {
+            this.importTemplate = null;
+            this.saveTemplate = null;
+        }
+    }
+
+    /**
+     * Runs an import on the calling thread, or throws 409 while another import is queued or running.
+     */
+    public <T> T runExclusive(Supplier<T> work) {
+        acquire();
+        try {
+            return runLocked(work);
+        } finally {
+            importPermit.release();
+        }
+    }
+
+    /**
+     * Queues an import on the job thread and returns its initial state,
+     * or throws 409 while another import is queued or running.
+     */
+    public ImportJobResponse submit(String mode, Function<ImportProgress, ImportResultResponse> work) {
+        acquire();
+        ImportJob job;
+        try {
+            // Fails fast if another instance is importing; the job takes the lock again when it runs
+            runLocked(() -> null);
+            purgeExpired();
+            job = new ImportJob(UUID.randomUUID(), mode);
+            insert(job);
+        } catch (RuntimeException ex) {
+            importPermit.release();
+            throw ex;
+        }
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job, work));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.id);
+            delete(job.id);
+            importPermit.release();
+            throw ex;
+        }
+        log.info("Queued import job {} ({})", job.id, mode);
+        return job.toResponse();
+    }
+
+    /**
+     * Returns the current state of a job, or throws 404 if it is unknown or expired.
+     * Jobs of other instances are read from the database.
+     */
+    public ImportJobResponse getJob(UUID id) {
+        purgeExpired();
+        ImportJob job = jobs.get(id);
+        if (job != null) {
+            return job.toResponse();
+        }
+        ImportJobResponse stored = load(id);
+        if (stored == null) {
+            throw new ResourceNotFoundException("Import job", "id", id);
+        }
+        return stored;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Always publishes a final status, even if the import fails with an Error.
+     */
+    private void run(ImportJob job, Function<ImportProgress, ImportResultResponse> work) {
+        job.startedAt = Instant.now();
+        job.status = "running";
+        save(job);
+        ImportResultResponse result = null;
+        String error = FAILED;
+        try {
+            result = runLocked(() -> work.apply(job));
+            error = null;
+            log.info("Import job {} succeeded", job.id);
+        } catch (BadRequestException ex) {
+            error = ex.getMessage();
+            log.warn("Import job {} rejected: {}", job.id, ex.getMessage());
+        } catch (ResponseStatusException ex) {
+            error = ex.getReason();
+            log.warn("Import job {} rejected: {}", job.id, ex.getReason());
+        } catch (RuntimeException ex) {
+            log.error("Import job {} failed", job.id, ex);
+        } catch (Error ex) {
+            log.error("Import job {} failed", job.id, ex);
+            throw ex;
+        } finally {
+            // Free the permit before publishing a final status, so a poller that sees it can start the next import
+            importPermit.release();
+            job.result = result;
+            job.error = error;
+            job.finishedAt = Instant.now();
+            job.status = error == null ? "succeeded" : "failed";
+            save(job);
+        }
+    }
+
+    private void acquire() {
+        if (!importPermit.tryAcquire()) {
+            throw conflict();
+        }
+    }
+
+    /**
+     * Runs the work in one transaction holding the cross-instance import lock, on PostgreSQL.
+     * Imports join that transaction, so the lock is held until they commit or roll back.
+     */
+    private <T> T runLocked(Supplier<T> work) {
+        if (importTemplate == null || !isPostgres()) {
+            return work.get();
+        }
+        return importTemplate.execute(status -> {
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, IMPORT_LOCK_KEY))) {
+                throw conflict();
+            }
+            return work.get();
+        });
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            result = "PostgreSQL".equalsIgnoreCase(product);
+            postgres = result;
+        }
+        return result;
+    }
+
+    private static ResponseStatusException conflict() {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Another import is already in progress");
+    }
+
+    /**
+     * Drops finished jobs past their retention, then the oldest finished jobs beyond max-retained.
+     */
+    private void purgeExpired() {
+        Instant cutoff = Instant.now().minus(config.getRetention());
+        jobs.values().removeIf(job -> job.isFinished() && job.finishedAt.isBefore(cutoff));
+
+        int excess = jobs.size() - config.getMaxRetained();
+        if (excess > 0) {
+            jobs.values().stream()
+                    .filter(ImportJob::isFinished)
+                    .sorted(Comparator.comparing((ImportJob job) -> job.finishedAt))
+                    .limit(excess)
+                    .toList()
+                    .forEach(job -> jobs.remove(job.id));
+        }
+
+        if (jdbcTemplate != null) {
+            jdbcTemplate.update("DELETE FROM portfolio.import_job WHERE finished_at < ?", Timestamp.from(cutoff));
+            List<UUID> finished = jdbcTemplate.queryForList(
+                    "SELECT id FROM portfolio.import_job WHERE finished_at IS NOT NULL ORDER BY finished_at DESC",
+                    UUID.class);
+            finished.stream().skip(Math.max(0, config.getMaxRetained())).forEach(this::delete);
+        }
+    }
+
+    private void insert(ImportJob job) {
+        if (jdbcTemplate == null) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO portfolio.import_job (id, mode, status, submitted_at) VALUES (?, ?, ?, ?)",
+                job.id, job.mode, job.status, Timestamp.from(job.submittedAt));
+    }
+
+    /**
+     * Saves the job in its own transaction, so the state is visible while the import's
+     * transaction is still open. A failed save is logged; the in-memory state stays current.
+     */
+    private void save(ImportJob job) {
+        if (jdbcTemplate == null) {
+            return;
+        }
+        ImportJobResponse state = job.toResponse();
+        try {
+            String progress = objectMapper.writeValueAsString(state.getProgress());
+            String result = state.getResult() == null ? null : objectMapper.writeValueAsString(state.getResult());
+            saveTemplate.executeWithoutResult(status -> jdbcTemplate.update("""
+                            UPDATE portfolio.import_job
+                            SET status = ?, started_at = ?, finished_at = ?, progress = ?, result = ?, error = ?
+                            WHERE id = ?
+                            """, state.getStatus(), timestamp(state.getStartedAt()), timestamp(state.getFinishedAt()),
+                    progress, result, state.getError(), job.id));
+            job.savedAtNanos = System.nanoTime();
+        } catch (JsonProcessingException | DataAccessException ex) {
+            log.warn("Failed to save import job {}: {}", job.id, ex.getMessage());
+        }
+    }
+
+    private ImportJobResponse load(UUID id) {
+        if (jdbcTemplate == null) {
+            return null;
+        }
+        List<ImportJobResponse> found = jdbcTemplate.query(
+                "SELECT id, mode, status, submitted_at, started_at, finished_at, progress, result, error "
+                        + "FROM portfolio.import_job WHERE id = ?",
+                (rs, rowNum) -> ImportJobResponse.builder()
+                        .id(rs.getObject("id", UUID.class))
+                        .mode(rs.getString("mode"))
+                        .status(rs.getString("status"))
+                        .submittedAt(instant(rs.getTimestamp("submitted_at")))
+                        .startedAt(instant(rs.getTimestamp("started_at")))
+                        .finishedAt(instant(rs.getTimestamp("finished_at")))
+                        .progress(read(rs.getString("progress"), PROGRESS_TYPE, new LinkedHashMap<>()))
+                        .result(read(rs.getString("result"), RESULT_TYPE, null))
+                        .error(rs.getString("error"))
+                        .build(),
+                id);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    private void delete(UUID id) {
+        if (jdbcTemplate != null) {
+            jdbcTemplate.update("DELETE FROM portfolio.import_job WHERE id = ?", id);
+        }
+    }
+
+    private <T> T read(String json, TypeReference<T> type, T fallback) {
+        if (json == null) {
+            return fallback;
+        }
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException ex) {
+            log.warn("Unreadable stored import job state: {}", ex.getMessage());
+            return fallback;
+        }
+    }
+
+    private static Timestamp timestamp(Instant instant) {
+        return instant == null ? null : Timestamp.from(instant);
+    }
+
+    private static Instant instant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    /**
+     * Mutable job state. Written by the job thread, read by pollers; status is
+     * written last, so a final status implies the other fields are visible.
+     */
+    private final class ImportJob implements ImportProgress {
+
+        private final UUID id;
+        private final String mode;
+        private final Instant submittedAt = Instant.now();
+        private final Map<String, Section> sections = new LinkedHashMap<>();
+
+        private volatile String status = "queued";
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile ImportResultResponse result;
+        private volatile String error;
+        private volatile long savedAtNanos = System.nanoTime();
+
+        private record Section(Integer total, AtomicInteger processed) {
+        }
+
+        private ImportJob(UUID id, String mode) {
+            this.id = id;
+            this.mode = mode;
+        }
+
+        @Override
+        public void sectionStarted(String section, Integer total) {
+            synchronized (sections) {
+                sections.put(section, new Section(total, new AtomicInteger()));
+            }
+            save(this);
+        }
+
+        @Override
+        public void recordProcessed(String section) {
+            Section progress;
+            synchronized (sections) {
+                progress = sections.get(section);
+            }
+            if (progress != null) {
+                progress.processed().incrementAndGet();
+            }
+            if (System.nanoTime() - savedAtNanos >= PROGRESS_SAVE_INTERVAL_NANOS) {
+                save(this);
+            }
+        }
+
+        private boolean isFinished() {
+            return "succeeded".equals(status) || "failed".equals(status);
+        }
+
+        private ImportJobResponse toResponse() {
+            Map<String, SectionProgress> progress = new LinkedHashMap<>();
+            synchronized (sections) {
+                sections.forEach((name, section) -> progress.put(name, SectionProgress.builder()
+                        .processed(section.processed().get())
+                        .total(section.total())
+                        .build()));
+            }
+            return ImportJobResponse.builder()
+                    .id(id)
+                    .status(status)
+                    .mode(mode)
+                    .submittedAt(submittedAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .progress(progress)
+                    .result(result)
+                    .error(error)
+                    .build();
+        }
+
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.sita.portfolio.service;
+
+/**
+ * Receives progress from a running import, on the importing thread.
+ */
+public interface ImportProgress {
+
+    ImportProgress NONE = new ImportProgress() {
+    };
+
+    /**
+     * A list section was reached. {@code total} is null when the record count is not known up front.
+     */
+    default void sectionStarted(String section, Integer total) {
+    }
+
+    /**
+     * One record of the section was validated and handed to the writer.
+     */
+    default void recordProcessed(String section) {
+    }
+
+}
@@ -1,21 +1,56 @@
 package com.sita.portfolio.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sita.portfolio.exception.BadRequestException;
 import com.sita.portfolio.model.dto.request.ImportResumeRequest;
 import com.sita.portfolio.model.dto.request.ImportResumeRequest.*;
+import com.sita.portfolio.model.dto.response.ImportDryRunResponse;
+import com.sita.portfolio.model.dto.response.ImportDryRunResponse.Issue;
+import com.sita.portfolio.model.dto.response.ImportDryRunResponse.SectionReport;
 import com.sita.portfolio.model.dto.response.ImportResultResponse;
 import com.sita.portfolio.model.dto.response.ImportResultResponse.ImportCounts;
+import com.sita.portfolio.model.dto.response.ImportResultResponse.SectionChanges;
 import com.sita.portfolio.model.entity.*;
 import com.sita.portfolio.repository.*;
+import com.sita.portfolio.repository.ResumeImportRepository.ColumnIssue;
+import com.sita.portfolio.repository.ResumeImportRepository.SectionResult;
+import com.sita.portfolio.repository.ResumeImportRepository.SectionWriter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Service for importing complete resume data.
- * Handles bulk import in a single transaction.
+ * Handles bulk import in a single transaction. List sections are either replaced
+ * (bulk-deleted and re-inserted with JDBC batches) or merged: records are matched to
+ * existing rows by natural key and only the differences are written. Profile and
+ * contact settings are upserted in both modes. A dry run reports what either mode
+ * would do without writing.
  */
 @Service
 @RequiredArgsConstructor
@@ -28,7 +63,37 @@ public class ImportService {
     private final SkillCategoryRepository skillCategoryRepository;
     private final EducationRepository educationRepository;
     private final CertificationRepository certificationRepository;
+    private final ResumeImportRepository importRepository;
     private final ContactSettingsRepository contactSettingsRepository;
+    private final PortfolioSnapshotCache snapshotCache;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * How list sections are applied.
+     */
+    public enum Mode {
+        /** Delete every row of the section and insert the imported records. */
+        REPLACE,
+        /**
+         * Match records to rows by natural key; insert new records, update changed ones
+         * in place and delete rows that are no longer imported.
+         */
+        MERGE;
+
+        public static Mode parse(String value) {
+            for (Mode mode : values()) {
+                if (mode.name().equalsIgnoreCase(value)) {
+                    return mode;
+                }
+            }
+            throw new BadRequestException("Import mode must be one of: replace, merge", "mode");
+        }
+
+        public String value() {
+            return name().toLowerCase();
+        }
+    }
 
     /**
      * Imports a complete resume, clearing and replacing list sections.
@@ -36,9 +101,28 @@ public class ImportService {
      */
     @Transactional
     public ImportResultResponse importResume(ImportResumeRequest request) {
-        log.info("Starting resume import...");
+        return importResume(request, Mode.REPLACE);
+    }
+
+    /**
+     * Imports a complete resume, applying list sections in the given mode.
+     * Runs in a single transaction - all or nothing.
+     */
+    @Transactional
+    public ImportResultResponse importResume(ImportResumeRequest request, Mode mode) {
+        return importResume(request, mode, ImportProgress.NONE);
+    }
+
+    /**
+     * Imports a complete resume, reporting each record to {@code progress} as it is processed.
+     * Runs in a single transaction - all or nothing.
+     */
+    @Transactional
+    public ImportResultResponse importResume(ImportResumeRequest request, Mode mode, ImportProgress progress) {
+        log.info("Starting resume import ({})...", mode.value());
 
         ImportCounts.ImportCountsBuilder countsBuilder = ImportCounts.builder();
+        Map<String, SectionChanges> changes = new LinkedHashMap<>();
 
         // Import profile (upsert)
         if (request.getProfile() != null) {
@@ -47,47 +131,32 @@ public class ImportService {
             log.info("Imported profile");
         }
 
-        // Clear and import experiences
         if (request.getExperiences() != null) {
-            experienceRepository.deleteAll();
-            int[] expCounts = importExperiences(request.getExperiences());
-            countsBuilder.experiences(expCounts[0]);
-            countsBuilder.experienceBullets(expCounts[1]);
-            log.info("Imported {} experiences with {} bullets", expCounts[0], expCounts[1]);
+            SectionResult result = write(experienceSink(mode), "experiences",
+                    request.getExperiences(), changes, progress);
+            countsBuilder.experiences(result.records()).experienceBullets(result.children());
         }
 
-        // Clear and import projects
         if (request.getProjects() != null) {
-            projectRepository.deleteAll();
-            int[] projCounts = importProjects(request.getProjects());
-            countsBuilder.projects(projCounts[0]);
-            countsBuilder.projectBullets(projCounts[1]);
-            log.info("Imported {} projects with {} bullets", projCounts[0], projCounts[1]);
+            SectionResult result = write(projectSink(mode), "projects",
+                    request.getProjects(), changes, progress);
+            countsBuilder.projects(result.records()).projectBullets(result.children());
         }
 
-        // Clear and import skill categories
         if (request.getSkillCategories() != null) {
-            skillCategoryRepository.deleteAll();
-            int[] skillCounts = importSkillCategories(request.getSkillCategories());
-            countsBuilder.skillCategories(skillCounts[0]);
-            countsBuilder.skillItems(skillCounts[1]);
-            log.info("Imported {} skill categories with {} items", skillCounts[0], skillCounts[1]);
+            SectionResult result = write(skillCategorySink(mode), "skillCategories",
+                    request.getSkillCategories(), changes, progress);
+            countsBuilder.skillCategories(result.records()).skillItems(result.children());
         }
 
-        // Clear and import education
         if (request.getEducation() != null) {
-            educationRepository.deleteAll();
-            int eduCount = importEducation(request.getEducation());
-            countsBuilder.education(eduCount);
-            log.info("Imported {} education entries", eduCount);
+            countsBuilder.education(write(educationSink(mode), "education",
+                    request.getEducation(), changes, progress).records());
         }
 
-        // Clear and import certifications
         if (request.getCertifications() != null) {
-            certificationRepository.deleteAll();
-            int certCount = importCertifications(request.getCertifications());
-            countsBuilder.certifications(certCount);
-            log.info("Imported {} certifications", certCount);
+            countsBuilder.certifications(write(certificationSink(mode), "certifications",
+                    request.getCertifications(), changes, progress).records());
         }
 
         // Import contact settings (upsert)
@@ -98,179 +167,575 @@ public class ImportService {
         }
 
         log.info("Resume import completed successfully");
-        return ImportResultResponse.success(countsBuilder.build());
+        snapshotCache.refreshAfterCommit();
+        return ImportResultResponse.success(mode.value(), countsBuilder.build(), changes);
     }
 
-    private void importProfile(ProfileImport profileImport) {
-        Profile profile = profileRepository.findProfile()
-                .orElseGet(Profile::new);
-
-        profile.setName(profileImport.getName());
-        profile.setTitle(profileImport.getTitle());
-        profile.setTagline(profileImport.getTagline());
-        profile.setBio(profileImport.getBio());
-        profile.setAvatarUrl(profileImport.getAvatarUrl());
-        profile.setResumeUrl(profileImport.getResumeUrl());
-        profile.setEmail(profileImport.getEmail());
-        profile.setGithubUrl(profileImport.getGithubUrl());
-        profile.setLinkedinUrl(profileImport.getLinkedinUrl());
-        profile.setTwitterUrl(profileImport.getTwitterUrl());
-        profile.setNickname(profileImport.getNickname());
-        profileRepository.save(profile);
+    /**
+     * Imports a resume from a streamed JSON body, replacing list sections.
+     */
+    @Transactional
+    public ImportResultResponse importResume(InputStream body) {
+        return importResume(body, Mode.REPLACE);
     }
 
-    private int[] importExperiences(List<ExperienceImport> imports) {
-        int bulletCount = 0;
-        int sortOrder = 1;
-
-        for (ExperienceImport exp : imports) {
-            Experience experience = Experience.builder()
-                    .company(exp.getCompany())
-                    .role(exp.getRole())
-                    .location(exp.getLocation())
-                    .employmentType(exp.getEmploymentType())
-                    .startDate(exp.getStartDate())
-                    .endDate(exp.getEndDate())
-                    .description(exp.getDescription())
-                    .techStack(exp.getTechStack())
-                    .companyUrl(exp.getCompanyUrl())
-                    .logoUrl(exp.getLogoUrl())
-                    .published(exp.isPublished())
-                    .sortOrder(sortOrder++)
-                    .build();
-
-            if (exp.getBullets() != null) {
-                int bulletSortOrder = 1;
-                for (BulletImport bullet : exp.getBullets()) {
-                    ExperienceBullet expBullet = ExperienceBullet.builder()
-                            .content(bullet.getContent())
-                            .sortOrder(bulletSortOrder++)
-                            .build();
-                    experience.addBullet(expBullet);
-                    bulletCount++;
-                }
+    /**
+     * Imports a resume from a JSON body with the same shape as {@link ImportResumeRequest},
+     * reading it token by token instead of binding it whole.
+     * <p>
+     * Each section is opened when it is reached, and its records are validated and
+     * handed to batched writes as they are parsed, so memory holds one record plus
+     * one write batch (and, when merging, the section's existing rows) regardless of
+     * payload size. Sections are applied in document order. Runs in a single
+     * transaction - all or nothing; the connection is held while the body is read.
+     * </p>
+     */
+    @Transactional
+    public ImportResultResponse importResume(InputStream body, Mode mode) {
+        log.info("Starting streaming resume import ({})...", mode.value());
+
+        ImportCounts.ImportCountsBuilder countsBuilder = ImportCounts.builder();
+        Map<String, SectionChanges> changes = new LinkedHashMap<>();
+        Set<String> seen = new HashSet<>();
+
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new BadRequestException("Import body must be a JSON object");
             }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String section = parser.currentName();
+                if (!seen.add(section)) {
+                    throw new BadRequestException("Duplicate section: " + section, section);
+                }
+                if (parser.nextToken() == JsonToken.VALUE_NULL) {
+                    continue;
+                }
 
-            experienceRepository.save(experience);
-        }
-
-        return new int[]{imports.size(), bulletCount};
-    }
-
-    private int[] importProjects(List<ProjectImport> imports) {
-        int bulletCount = 0;
-        int sortOrder = 1;
-
-        for (ProjectImport proj : imports) {
-            Project project = Project.builder()
-                    .title(proj.getTitle())
-                    .slug(proj.getSlug() != null ? proj.getSlug() : generateSlug(proj.getTitle()))
-                    .description(proj.getDescription())
-                    .longDescription(proj.getLongDescription())
-                    .techStack(proj.getTechStack())
-                    .liveUrl(proj.getLiveUrl())
-                    .githubUrl(proj.getGithubUrl())
-                    .imageUrl(proj.getImageUrl())
-                    .thumbnailUrl(proj.getThumbnailUrl())
-                    .featured(proj.isFeatured())
-                    .published(proj.isPublished())
-                    .sortOrder(sortOrder++)
-                    .build();
-
-            if (proj.getBullets() != null) {
-                int bulletSortOrder = 1;
-                for (BulletImport bullet : proj.getBullets()) {
-                    ProjectBullet projBullet = ProjectBullet.builder()
-                            .content(bullet.getContent())
-                            .sortOrder(bulletSortOrder++)
-                            .build();
-                    project.addBullet(projBullet);
-                    bulletCount++;
+                switch (section) {
+                    case "profile" -> {
+                        importProfile(readRecord(parser, ProfileImport.class, section));
+                        countsBuilder.profileUpdated(true);
+                    }
+                    case "experiences" -> {
+                        SectionResult result = streamSection(parser, section, ExperienceImport.class,
+                                experienceSink(mode), changes);
+                        countsBuilder.experiences(result.records()).experienceBullets(result.children());
+                    }
+                    case "projects" -> {
+                        SectionResult result = streamSection(parser, section, ProjectImport.class,
+                                projectSink(mode), changes);
+                        countsBuilder.projects(result.records()).projectBullets(result.children());
+                    }
+                    case "skillCategories" -> {
+                        SectionResult result = streamSection(parser, section, SkillCategoryImport.class,
+                                skillCategorySink(mode), changes);
+                        countsBuilder.skillCategories(result.records()).skillItems(result.children());
+                    }
+                    case "education" -> countsBuilder.education(streamSection(parser, section,
+                            EducationImport.class, educationSink(mode), changes).records());
+                    case "certifications" -> countsBuilder.certifications(streamSection(parser, section,
+                            CertificationImport.class, certificationSink(mode), changes).records());
+                    case "contactSettings" -> {
+                        importContactSettings(readRecord(parser, ContactSettingsImport.class, section));
+                        countsBuilder.contactSettingsUpdated(true);
+                    }
+                    default -> parser.skipChildren();
                 }
+                log.info("Imported section {}", section);
             }
+        } catch (JsonProcessingException ex) {
+            throw new BadRequestException("Malformed import JSON: " + ex.getOriginalMessage());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read import body", ex);
+        }
+
+        log.info("Streaming resume import completed successfully");
+        snapshotCache.refreshAfterCommit();
+        return ImportResultResponse.success(mode.value(), countsBuilder.build(), changes);
+    }
+
+    /**
+     * Checks an import against the current database without writing anything.
+     * <p>
+     * Sections go through the same slug resolution, key matching and column mapping
+     * as {@link #importResume(ImportResumeRequest, Mode)}, with writers that only count
+     * and check. The report lists validation errors, slug collisions and values longer
+     * than their columns, the inserts, updates and deletes the import would make, breaks
+     * in the existing sort order, and the time each section took.
+     * </p>
+     */
+    @Transactional(readOnly = true)
+    public ImportDryRunResponse dryRun(ImportResumeRequest request, Mode mode) {
+        long started = System.nanoTime();
+        Map<String, List<Issue>> violations = validationIssues(request);
+        // Null records cannot be walked, so they are reported here and skipped by check()
+        reportNulls("experiences", "bullets", request.getExperiences(), ExperienceImport::getBullets, violations);
+        reportNulls("projects", "bullets", request.getProjects(), ProjectImport::getBullets, violations);
+        reportNulls("skillCategories", "skills", request.getSkillCategories(), SkillCategoryImport::getSkills,
+                violations);
+        reportNulls("education", null, request.getEducation(), null, violations);
+        reportNulls("certifications", null, request.getCertifications(), null, violations);
+        Map<String, SectionReport> sections = new LinkedHashMap<>();
+
+        if (request.getProfile() != null) {
+            sections.put("profile", recordReport("profile", violations));
+        }
+        if (request.getExperiences() != null) {
+            var writer = importRepository.experienceWriter().dryRun();
+            sections.put("experiences", check(experienceSink(mode, writer), writer.sortOrderGaps(),
+                    "experiences", "bullets", request.getExperiences(), ExperienceImport::getBullets, violations));
+        }
+        if (request.getProjects() != null) {
+            if (mode == Mode.REPLACE) {
+                // Merging reports duplicate slugs as duplicate keys; replacing would fail on the unique index
+                violations.computeIfAbsent("projects", section -> new ArrayList<>())
+                        .addAll(slugCollisions(request.getProjects()));
+            }
+            var writer = importRepository.projectWriter().dryRun();
+            sections.put("projects", check(projectSink(mode, writer), writer.sortOrderGaps(),
+                    "projects", "bullets", request.getProjects(), ProjectImport::getBullets, violations));
+        }
+        if (request.getSkillCategories() != null) {
+            var writer = importRepository.skillCategoryWriter().dryRun();
+            sections.put("skillCategories", check(skillCategorySink(mode, writer), writer.sortOrderGaps(),
+                    "skillCategories", "skills", request.getSkillCategories(), SkillCategoryImport::getSkills,
+                    violations));
+        }
+        if (request.getEducation() != null) {
+            var writer = importRepository.educationWriter().dryRun();
+            sections.put("education", check(educationSink(mode, writer), writer.sortOrderGaps(),
+                    "education", null, request.getEducation(), null, violations));
+        }
+        if (request.getCertifications() != null) {
+            var writer = importRepository.certificationWriter().dryRun();
+            sections.put("certifications", check(certificationSink(mode, writer), writer.sortOrderGaps(),
+                    "certifications", null, request.getCertifications(), null, violations));
+        }
+        if (request.getContactSettings() != null) {
+            sections.put("contactSettings", recordReport("contactSettings", violations));
+        }
+
+        boolean valid = sections.values().stream().allMatch(section -> section.getIssues().isEmpty());
+        double elapsedMillis = millisSince(started);
+        log.info("Import dry run ({}) finished in {} ms: {}", mode.value(), elapsedMillis, valid ? "valid" : "invalid");
+        return ImportDryRunResponse.builder()
+                .mode(mode.value())
+                .valid(valid)
+                .elapsedMillis(elapsedMillis)
+                .sections(sections)
+                .build();
+    }
+
+    // ===== Sections =====
+
+    /**
+     * Receives the records of one list section in import order.
+     */
+    private interface SectionSink<T> {
+
+        void accept(T value, String path);
+
+        SectionResult finish();
+
+    }
+
+    /**
+     * An existing row as an import record, with its ID and position.
+     */
+    private record Existing<T>(UUID id, int sortOrder, T value) {
+    }
+
+    private SectionSink<ExperienceImport> experienceSink(Mode mode) {
+        return experienceSink(mode, importRepository.experienceWriter());
+    }
+
+    private SectionSink<ExperienceImport> experienceSink(Mode mode, SectionWriter<ExperienceImport, BulletImport> writer) {
+        if (mode == Mode.REPLACE) {
+            return replace(writer, null);
+        }
+        return new MergeSink<>(writer, experienceRepository.findAllByOrderBySortOrderAsc().stream()
+                .map(exp -> new Existing<>(exp.getId(), exp.getSortOrder(), toImport(exp)))
+                .toList(),
+                exp -> Arrays.asList(exp.getCompany(), exp.getRole(), exp.getStartDate()),
+                ExperienceImport::getBullets, ExperienceImport::setBullets, null, "experience");
+    }
+
+    private SectionSink<ProjectImport> projectSink(Mode mode) {
+        return projectSink(mode, importRepository.projectWriter());
+    }
+
+    private SectionSink<ProjectImport> projectSink(Mode mode, SectionWriter<ProjectImport, BulletImport> writer) {
+        if (mode == Mode.REPLACE) {
+            return replace(writer, this::resolveSlug);
+        }
+        return new MergeSink<>(writer, projectRepository.findAllByOrderBySortOrderAsc().stream()
+                .map(proj -> new Existing<>(proj.getId(), proj.getSortOrder(), toImport(proj)))
+                .toList(),
+                ProjectImport::getSlug, ProjectImport::getBullets, ProjectImport::setBullets,
+                this::resolveSlug, "project");
+    }
+
+    private SectionSink<SkillCategoryImport> skillCategorySink(Mode mode) {
+        return skillCategorySink(mode, importRepository.skillCategoryWriter());
+    }
+
+    private SectionSink<SkillCategoryImport> skillCategorySink(Mode mode, SectionWriter<SkillCategoryImport, SkillItemImport> writer) {
+        if (mode == Mode.REPLACE) {
+            return replace(writer, null);
+        }
+        return new MergeSink<>(writer, skillCategoryRepository.findAllByOrderBySortOrderAsc().stream()
+                .map(cat -> new Existing<>(cat.getId(), cat.getSortOrder(), toImport(cat)))
+                .toList(),
+                SkillCategoryImport::getName, SkillCategoryImport::getSkills, SkillCategoryImport::setSkills,
+                null, "skill category");
+    }
+
+    private SectionSink<EducationImport> educationSink(Mode mode) {
+        return educationSink(mode, importRepository.educationWriter());
+    }
 
-            projectRepository.save(project);
+    private SectionSink<EducationImport> educationSink(Mode mode, SectionWriter<EducationImport, Void> writer) {
+        if (mode == Mode.REPLACE) {
+            return replace(writer, null);
         }
+        return new MergeSink<>(writer, educationRepository.findAllByOrderBySortOrderAsc().stream()
+                .map(edu -> new Existing<>(edu.getId(), edu.getSortOrder(), toImport(edu)))
+                .toList(),
+                edu -> Arrays.asList(edu.getInstitution(), edu.getDegree()), null, null, null, "education");
+    }
+
+    private SectionSink<CertificationImport> certificationSink(Mode mode) {
+        return certificationSink(mode, importRepository.certificationWriter());
+    }
+
+    private SectionSink<CertificationImport> certificationSink(Mode mode, SectionWriter<CertificationImport, Void> writer) {
+        if (mode == Mode.REPLACE) {
+            return replace(writer, null);
+        }
+        return new MergeSink<>(writer, certificationRepository.findAllByOrderBySortOrderAsc().stream()
+                .map(cert -> new Existing<>(cert.getId(), cert.getSortOrder(), toImport(cert)))
+                .toList(),
+                cert -> Arrays.asList(cert.getIssuer(), cert.getName()), null, null, null, "certification");
+    }
 
-        return new int[]{imports.size(), bulletCount};
+    /**
+     * Clears the section up front and inserts every record.
+     */
+    private static <T> SectionSink<T> replace(SectionWriter<T, ?> writer, Consumer<T> prepare) {
+        writer.clear();
+        return new SectionSink<>() {
+            @Override
+            public void accept(T value, String path) {
+                if (prepare != null) {
+                    prepare.accept(value);
+                }
+                writer.add(value);
+            }
+
+            @Override
+            public SectionResult finish() {
+                return writer.finish();
+            }
+        };
     }
 
-    private int[] importSkillCategories(List<SkillCategoryImport> imports) {
-        int itemCount = 0;
-        int sortOrder = 1;
+    /**
+     * Applies a section as a diff against the existing rows.
+     * <p>
+     * A record whose key matches a row is left alone if its content and position are
+     * unchanged; otherwise the row is updated in place, and its children are rewritten
+     * only if they differ. Records without a match are inserted, and rows no record
+     * matched are deleted when the section ends. Keys must be unique within the import.
+     * </p>
+     */
+    private static final class MergeSink<T, C> implements SectionSink<T> {
+
+        private final SectionWriter<T, C> writer;
+        private final Function<T, Object> keyOf;
+        private final Function<T, List<C>> childrenOf;
+        private final BiConsumer<T, List<C>> setChildren;
+        private final Consumer<T> prepare;
+        private final String label;
+
+        private final Map<Object, Existing<T>> existing = new HashMap<>();
+        private final Set<UUID> unmatched = new LinkedHashSet<>();
+        private final Set<Object> seenKeys = new HashSet<>();
+
+        private MergeSink(SectionWriter<T, C> writer, List<Existing<T>> rows, Function<T, Object> keyOf,
+                          Function<T, List<C>> childrenOf, BiConsumer<T, List<C>> setChildren,
+                          Consumer<T> prepare, String label) {
+            this.writer = writer;
+            this.keyOf = keyOf;
+            this.childrenOf = childrenOf;
+            this.setChildren = setChildren;
+            this.prepare = prepare;
+            this.label = label;
+            for (Existing<T> row : rows) {
+                // Rows sharing a key with an earlier row are never matched, so they are deleted
+                existing.putIfAbsent(keyOf.apply(row.value()), row);
+                unmatched.add(row.id());
+            }
+        }
 
-        for (SkillCategoryImport cat : imports) {
-            SkillCategory category = SkillCategory.builder()
-                    .name(cat.getName())
-                    .icon(cat.getIcon())
-                    .published(cat.isPublished())
-                    .sortOrder(sortOrder++)
-                    .build();
+        @Override
+        public void accept(T value, String path) {
+            if (prepare != null) {
+                prepare.accept(value);
+            }
+            Object key = keyOf.apply(value);
+            if (!seenKeys.add(key)) {
+                throw new BadRequestException("Duplicate " + label + " in import: " + key, path);
+            }
 
-            if (cat.getSkills() != null) {
-                int itemSortOrder = 1;
-                for (SkillItemImport skill : cat.getSkills()) {
-                    SkillItem item = SkillItem.builder()
-                            .name(skill.getName())
-                            .iconUrl(skill.getIconUrl())
-                            .proficiency(skill.getProficiency())
-                            .sortOrder(itemSortOrder++)
-                            .build();
-                    category.addSkill(item);
-                    itemCount++;
+            Existing<T> match = existing.remove(key);
+            if (match == null) {
+                writer.add(value);
+                return;
+            }
+            unmatched.remove(match.id());
+
+            boolean childrenChanged = false;
+            if (childrenOf != null) {
+                List<C> children = childrenOf.apply(value);
+                if (children != null && children.isEmpty()) {
+                    setChildren.accept(value, null);
                 }
+                childrenChanged = !Objects.equals(childrenOf.apply(match.value()), childrenOf.apply(value));
+                // Children are compared above; align them so equals() covers the remaining fields
+                setChildren.accept(match.value(), childrenOf.apply(value));
+            }
+
+            if (!childrenChanged && match.value().equals(value) && match.sortOrder() == writer.nextSortOrder()) {
+                writer.keep(value);
+            } else {
+                writer.update(match.id(), value, childrenChanged);
             }
+        }
 
-            skillCategoryRepository.save(category);
+        @Override
+        public SectionResult finish() {
+            writer.delete(unmatched);
+            return writer.finish();
         }
 
-        return new int[]{imports.size(), itemCount};
     }
 
-    private int importEducation(List<EducationImport> imports) {
-        int sortOrder = 1;
+    private <T> SectionResult write(SectionSink<T> sink, String section, List<T> values,
+                                    Map<String, SectionChanges> changes, ImportProgress progress) {
+        progress.sectionStarted(section, values.size());
+        for (int i = 0; i < values.size(); i++) {
+            sink.accept(values.get(i), section + "[" + i + "]");
+            progress.recordProcessed(section);
+        }
+        return finish(sink, section, changes);
+    }
 
-        for (EducationImport edu : imports) {
-            Education education = Education.builder()
-                    .institution(edu.getInstitution())
-                    .degree(edu.getDegree())
-                    .fieldOfStudy(edu.getFieldOfStudy())
-                    .location(edu.getLocation())
-                    .startYear(edu.getStartYear())
-                    .endYear(edu.getEndYear())
-                    .gpa(edu.getGpa())
-                    .description(edu.getDescription())
-                    .logoUrl(edu.getLogoUrl())
-                    .published(edu.isPublished())
-                    .sortOrder(sortOrder++)
-                    .build();
+    /**
+     * Reads an array of records one at a time, validating and writing each as it arrives.
+     */
+    private <T> SectionResult streamSection(JsonParser parser, String section, Class<T> type,
+                                            SectionSink<T> sink, Map<String, SectionChanges> changes)
+            throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new BadRequestException("Section must be an array: " + section, section);
+        }
+        int index = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String path = section + "[" + index++ + "]";
+            sink.accept(readRecord(parser, type, path), path);
+        }
+        return finish(sink, section, changes);
+    }
+
+    private static SectionResult finish(SectionSink<?> sink, String section, Map<String, SectionChanges> changes) {
+        SectionResult result = sink.finish();
+        changes.put(section, SectionChanges.builder()
+                .inserted(result.inserted())
+                .updated(result.updated())
+                .deleted(result.deleted())
+                .unchanged(result.unchanged())
+                .build());
+        log.info("Imported {}: {} inserted, {} updated, {} deleted, {} unchanged",
+                section, result.inserted(), result.updated(), result.deleted(), result.unchanged());
+        return result;
+    }
 
-            educationRepository.save(education);
+    // ===== Dry run =====
+
+    private <T> SectionReport check(SectionSink<T> sink, int sortOrderGaps, String section, String childField,
+                                    List<T> values, Function<T, List<?>> children,
+                                    Map<String, List<Issue>> violations) {
+        long started = System.nanoTime();
+        List<Issue> issues = new ArrayList<>(violations.getOrDefault(section, List.of()));
+        for (int i = 0; i < values.size(); i++) {
+            if (hasNulls(values.get(i), children)) {
+                continue;
+            }
+            try {
+                sink.accept(values.get(i), section + "[" + i + "]");
+            } catch (BadRequestException ex) {
+                issues.add(new Issue(ex.getField(), ex.getMessage()));
+            }
         }
+        SectionResult result = sink.finish();
+        for (ColumnIssue column : result.issues()) {
+            String field = section + "[" + column.record() + "]"
+                    + (column.child() >= 0 ? "." + childField + "[" + column.child() + "]" : "")
+                    + "." + toCamelCase(column.column());
+            issues.add(new Issue(field,
+                    column.length() + " characters exceeds column size " + column.maxLength()));
+        }
+        return SectionReport.builder()
+                .records(result.records())
+                .children(result.children())
+                .inserted(result.inserted())
+                .updated(result.updated())
+                .deleted(result.deleted())
+                .unchanged(result.unchanged())
+                .sortOrderGaps(sortOrderGaps)
+                .elapsedMillis(millisSince(started))
+                .issues(issues)
+                .build();
+    }
 
-        return imports.size();
+    private static SectionReport recordReport(String section, Map<String, List<Issue>> violations) {
+        return SectionReport.builder()
+                .records(1)
+                .issues(violations.getOrDefault(section, List.of()))
+                .build();
     }
 
-    private int importCertifications(List<CertificationImport> imports) {
-        int sortOrder = 1;
+    /**
+     * Bean validation errors of the whole request, grouped by section and ordered by path.
+     */
+    private Map<String, List<Issue>> validationIssues(ImportResumeRequest request) {
+        Map<String, List<Issue>> issues = new HashMap<>();
+        validator.validate(request).stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .forEach(violation -> {
+                    String field = violation.getPropertyPath().toString();
+                    String section = field.split("[.\\[]", 2)[0];
+                    issues.computeIfAbsent(section, key -> new ArrayList<>())
+                            .add(new Issue(field, violation.getMessage()));
+                });
+        return issues;
+    }
 
-        for (CertificationImport cert : imports) {
-            Certification certification = Certification.builder()
-                    .name(cert.getName())
-                    .issuer(cert.getIssuer())
-                    .issueDate(cert.getIssueDate())
-                    .expiryDate(cert.getExpiryDate())
-                    .credentialId(cert.getCredentialId())
-                    .credentialUrl(cert.getCredentialUrl())
-                    .badgeUrl(cert.getBadgeUrl())
-                    .published(cert.isPublished())
-                    .sortOrder(sortOrder++)
-                    .build();
+    /**
+     * Reports null records and null child records of a list section, with the same
+     * message the streaming import uses.
+     */
+    private static <T> void reportNulls(String section, String childField, List<T> values,
+                                        Function<T, List<?>> children, Map<String, List<Issue>> violations) {
+        if (values == null) {
+            return;
+        }
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < values.size(); i++) {
+            T value = values.get(i);
+            if (value == null) {
+                paths.add(section + "[" + i + "]");
+                continue;
+            }
+            List<?> childValues = children == null ? null : children.apply(value);
+            for (int j = 0; childValues != null && j < childValues.size(); j++) {
+                if (childValues.get(j) == null) {
+                    paths.add(section + "[" + i + "]." + childField + "[" + j + "]");
+                }
+            }
+        }
+        for (String path : paths) {
+            violations.computeIfAbsent(section, key -> new ArrayList<>())
+                    .add(new Issue(path, "Record must not be null: " + path));
+        }
+    }
 
-            certificationRepository.save(certification);
+    private static <T> boolean hasNulls(T value, Function<T, List<?>> children) {
+        if (value == null) {
+            return true;
         }
+        List<?> childValues = children == null ? null : children.apply(value);
+        return childValues != null && childValues.stream().anyMatch(Objects::isNull);
+    }
 
-        return imports.size();
+    private List<Issue> slugCollisions(List<ProjectImport> projects) {
+        Map<String, Integer> firstUse = new HashMap<>();
+        List<Issue> collisions = new ArrayList<>();
+        for (int i = 0; i < projects.size(); i++) {
+            ProjectImport proj = projects.get(i);
+            if (proj == null) {
+                continue;
+            }
+            resolveSlug(proj);
+            if (proj.getSlug() == null) {
+                continue;
+            }
+            Integer first = firstUse.putIfAbsent(proj.getSlug(), i);
+            if (first != null) {
+                collisions.add(new Issue("projects[" + i + "].slug",
+                        "Slug '" + proj.getSlug() + "' is already used by projects[" + first + "]"));
+            }
+        }
+        return collisions;
+    }
+
+    private static String toCamelCase(String column) {
+        StringBuilder name = new StringBuilder();
+        boolean upper = false;
+        for (char c : column.toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                name.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return name.toString();
+    }
+
+    private static double millisSince(long startedNanos) {
+        return Math.round((System.nanoTime() - startedNanos) / 10_000.0) / 100.0;
+    }
+
+    private <T> T readRecord(JsonParser parser, Class<T> type, String path) throws IOException {
+        T value = objectMapper.readValue(parser, type);
+        if (value == null) {
+            throw new BadRequestException("Record must not be null: " + path, path);
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(value);
+        if (!violations.isEmpty()) {
+            // Report the first violation by path so the error is deterministic
+            ConstraintViolation<T> violation = violations.stream()
+                    .min(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                    .orElseThrow();
+            String field = path + "." + violation.getPropertyPath();
+            throw new BadRequestException(field + ": " + violation.getMessage(), field);
+        }
+        return value;
+    }
+
+    private void importProfile(ProfileImport profileImport) {
+        Profile profile = profileRepository.findProfile()
+                .orElseGet(Profile::new);
+
+        profile.setName(profileImport.getName());
+        profile.setTitle(profileImport.getTitle());
+        profile.setTagline(profileImport.getTagline());
+        profile.setBio(profileImport.getBio());
+        profile.setAvatarUrl(profileImport.getAvatarUrl());
+        profile.setResumeUrl(profileImport.getResumeUrl());
+        profile.setEmail(profileImport.getEmail());
+        profile.setGithubUrl(profileImport.getGithubUrl());
+        profile.setLinkedinUrl(profileImport.getLinkedinUrl());
+        profile.setTwitterUrl(profileImport.getTwitterUrl());
+        profile.setNickname(profileImport.getNickname());
+        profileRepository.save(profile);
+    }
+
+    private void resolveSlug(ProjectImport proj) {
+        if (proj.getSlug() == null) {
+            proj.setSlug(generateSlug(proj.getTitle()));
+        }
     }
 
     private void importContactSettings(ContactSettingsImport settingsImport) {
@@ -288,7 +753,100 @@ public class ImportService {
         contactSettingsRepository.save(settings);
     }
 
-    private String generateSlug(String title) {
+    // ===== Existing rows as import records =====
+
+    private static ExperienceImport toImport(Experience exp) {
+        return ExperienceImport.builder()
+                .company(exp.getCompany())
+                .role(exp.getRole())
+                .location(exp.getLocation())
+                .employmentType(exp.getEmploymentType())
+                .startDate(exp.getStartDate())
+                .endDate(exp.getEndDate())
+                .description(exp.getDescription())
+                .techStack(exp.getTechStack())
+                .companyUrl(exp.getCompanyUrl())
+                .logoUrl(exp.getLogoUrl())
+                .published(exp.isPublished())
+                .bullets(bullets(exp.getBullets().stream().map(ExperienceBullet::getContent).toList()))
+                .build();
+    }
+
+    private static ProjectImport toImport(Project proj) {
+        return ProjectImport.builder()
+                .title(proj.getTitle())
+                .slug(proj.getSlug())
+                .description(proj.getDescription())
+                .longDescription(proj.getLongDescription())
+                .techStack(proj.getTechStack())
+                .liveUrl(proj.getLiveUrl())
+                .githubUrl(proj.getGithubUrl())
+                .imageUrl(proj.getImageUrl())
+                .thumbnailUrl(proj.getThumbnailUrl())
+                .featured(proj.isFeatured())
+                .published(proj.isPublished())
+                .bullets(bullets(proj.getBullets().stream().map(ProjectBullet::getContent).toList()))
+                .build();
+    }
+
+    private static SkillCategoryImport toImport(SkillCategory cat) {
+        List<SkillItemImport> skills = cat.getSkills().stream()
+                .map(skill -> SkillItemImport.builder()
+                        .name(skill.getName())
+                        .iconUrl(skill.getIconUrl())
+                        .proficiency(skill.getProficiency())
+                        .build())
+                .toList();
+        return SkillCategoryImport.builder()
+                .name(cat.getName())
+                .icon(cat.getIcon())
+                .published(cat.isPublished())
+                .skills(skills.isEmpty() ? null : skills)
+                .build();
+    }
+
+    private static EducationImport toImport(Education edu) {
+        return EducationImport.builder()
+                .institution(edu.getInstitution())
+                .degree(edu.getDegree())
+                .fieldOfStudy(edu.getFieldOfStudy())
+                .location(edu.getLocation())
+                .startYear(edu.getStartYear())
+                .endYear(edu.getEndYear())
+                .gpa(edu.getGpa())
+                .description(edu.getDescription())
+                .logoUrl(edu.getLogoUrl())
+                .published(edu.isPublished())
+                .build();
+    }
+
+    private static CertificationImport toImport(Certification cert) {
+        return CertificationImport.builder()
+                .name(cert.getName())
+                .issuer(cert.getIssuer())
+                .issueDate(cert.getIssueDate())
+                .expiryDate(cert.getExpiryDate())
+                .credentialId(cert.getCredentialId())
+                .credentialUrl(cert.getCredentialUrl())
+                .badgeUrl(cert.getBadgeUrl())
+                .published(cert.isPublished())
+                .build();
+    }
+
+    /**
+     * Empty child lists map to null, the same as an import record without children.
+     */
+    private static List<BulletImport> bullets(List<String> contents) {
+        if (contents.isEmpty()) {
+            return null;
+        }
+        return contents.stream()
+                .map(content -> BulletImport.builder().content(content).build())
+                .toList();
+    }
+
+    /** Package-private for ImportSlugBenchmark. */
+    static String generateSlug(String title) {
         if (title == null) return null;
         return title.toLowerCase()
                 .replaceAll("[^a-z0-9\\s-]", "")
@@ -0,0 +1,189 @@
+package com.sita.portfolio.service;
+
+import com.sita.portfolio.config.AppProperties;
+import com.sita.portfolio.config.BackgroundThreads;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+/**
+ * Rebuilds the local {@link PortfolioSnapshotCache} when another instance commits an admin write.
+ * <p>
+ * Listens on the change channel over a dedicated JDBC connection opened outside the
+ * Hikari pool, so the pool stays available for requests. The connection is validated
+ * between polls; on failure it is reopened with exponential backoff and the snapshot is
+ * rebuilt once, since notifications sent while disconnected are lost.
+ * Requires a session-mode connection (the Supabase session pooler or a direct connection).
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioChangeListener {
+
+    static final String APPLICATION_NAME = "portfolio-change-listener";
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final PortfolioSnapshotCache snapshotCache;
+    private final PortfolioChangeNotifier changeNotifier;
+    private final DataSourceProperties dataSourceProperties;
+    private final AppProperties appProperties;
+    private final BackgroundThreads backgroundThreads;
+
+    private volatile boolean running;
+    private volatile Thread worker;
+    private volatile Connection connection;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!changeNotifier.isActive() || running) {
+            return;
+        }
+        String channel = changeNotifier.channel();
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            log.error("Invalid change notification channel '{}'; listener not started", channel);
+            return;
+        }
+
+        running = true;
+        Thread thread = backgroundThreads.factory(APPLICATION_NAME).newThread(this::run);
+        worker = thread;
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        closeQuietly(connection);
+    }
+
+    /**
+     * Whether the listener currently holds a connection with LISTEN issued.
+     */
+    public boolean isListening() {
+        return connection != null;
+    }
+
+    private void run() {
+        AppProperties.ChangeNotifications settings = appProperties.getChangeNotifications();
+        Duration backoff = settings.getInitialBackoff();
+        boolean reconnecting = false;
+
+        while (running) {
+            try (Connection conn = connect()) {
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("LISTEN " + changeNotifier.channel());
+                }
+                connection = conn;
+                log.info("Listening for portfolio changes on channel {}", changeNotifier.channel());
+
+                if (reconnecting) {
+                    snapshotCache.refresh();
+                }
+                backoff = settings.getInitialBackoff();
+                reconnecting = true;
+
+                poll(conn, settings.getPollTimeout());
+            } catch (SQLException ex) {
+                if (!running) {
+                    break;
+                }
+                reconnecting = true;
+                log.warn("Portfolio change listener connection failed: {}; retrying in {}",
+                        ex.getMessage(), backoff);
+            } finally {
+                connection = null;
+            }
+
+            if (!sleep(backoff)) {
+                break;
+            }
+            backoff = min(backoff.multipliedBy(2), settings.getMaxBackoff());
+        }
+        log.info("Portfolio change listener stopped");
+    }
+
+    private void poll(Connection conn, Duration pollTimeout) throws SQLException {
+        PGConnection pgConnection = conn.unwrap(PGConnection.class);
+        int timeoutMillis = (int) pollTimeout.toMillis();
+
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+            if (notifications == null || notifications.length == 0) {
+                // Detects half-open connections that would otherwise wait forever
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                continue;
+            }
+
+            boolean fromOtherInstance = false;
+            for (PGNotification notification : notifications) {
+                if (!changeNotifier.instanceId().equals(notification.getParameter())) {
+                    fromOtherInstance = true;
+                }
+            }
+            if (fromOtherInstance) {
+                log.debug("Portfolio changed on another instance; rebuilding snapshot");
+                snapshotCache.refresh();
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Properties props = new Properties();
+        if (dataSourceProperties.getUsername() != null) {
+            props.setProperty("user", dataSourceProperties.getUsername());
+        }
+        if (dataSourceProperties.getPassword() != null) {
+            props.setProperty("password", dataSourceProperties.getPassword());
+        }
+        props.setProperty("ApplicationName", APPLICATION_NAME);
+        return DriverManager.getConnection(dataSourceProperties.getUrl(), props);
+    }
+
+    private boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return running;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static void closeQuietly(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.close();
+        } catch (SQLException ex) {
+            log.debug("Error closing change listener connection: {}", ex.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.sita.portfolio.service;
+
+import com.sita.portfolio.config.AppProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Publishes published-content changes to other instances over PostgreSQL NOTIFY.
+ * <p>
+ * The payload is this instance's id, so {@link PortfolioChangeListener} can skip
+ * notifications it sent itself. NOTIFY is transactional: when sent inside the
+ * admin write transaction it is only delivered if that transaction commits.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioChangeNotifier {
+
+    private static final String POSTGRES_URL_PREFIX = "jdbc:postgresql:";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final AppProperties appProperties;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * Whether change notifications are enabled and the database is PostgreSQL.
+     */
+    public boolean isActive() {
+        String url = dataSourceProperties.getUrl();
+        return appProperties.getChangeNotifications().isEnabled()
+                && url != null
+                && url.startsWith(POSTGRES_URL_PREFIX);
+    }
+
+    /**
+     * Sends a change notification on the configured channel.
+     * Participates in the current transaction, if any.
+     */
+    public void notifyChanged() {
+        if (!isActive()) {
+            return;
+        }
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null,
+                channel(), instanceId);
+        log.debug("Sent portfolio change notification on {}", channel());
+    }
+
+    public String instanceId() {
+        return instanceId;
+    }
+
+    public String channel() {
+        return appProperties.getChangeNotifications().getChannel();
+    }
+
+}
@@ -1,131 +1,101 @@
 package com.sita.portfolio.service;
 
 import com.sita.portfolio.model.dto.response.*;
-import com.sita.portfolio.repository.*;
-import com.sita.portfolio.service.mapper.EntityMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 /**
  * Service for retrieving published portfolio data.
  * All methods return only published content, sorted by sort_order.
+ * Reads are served from the in-memory {@link PortfolioSnapshot}, not the database.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
 public class PortfolioService {
 
-    private final ProfileRepository profileRepository;
-    private final ExperienceRepository experienceRepository;
-    private final ProjectRepository projectRepository;
-    private final SkillCategoryRepository skillCategoryRepository;
-    private final EducationRepository educationRepository;
-    private final CertificationRepository certificationRepository;
-    private final ContactSettingsRepository contactSettingsRepository;
-    private final EntityMapper mapper;
+    private final PortfolioSnapshotCache snapshotCache;
 
     /**
      * Gets all published portfolio data in a single response.
      */
     public PortfolioResponse getPortfolio() {
         log.debug("Fetching complete portfolio data");
-
-        return PortfolioResponse.builder()
-                .profile(getProfile())
-                .experiences(getPublishedExperiences())
-                .projects(getPublishedProjects())
-                .featuredProjects(getFeaturedProjects())
-                .skills(getPublishedSkills())
-                .education(getPublishedEducation())
-                .certifications(getPublishedCertifications())
-                .contact(getContactSettings())
-                .build();
+        return snapshotCache.get().portfolio();
     }
 
     /**
      * Gets the profile.
      */
     public ProfileResponse getProfile() {
-        return profileRepository.findProfile()
-                .map(mapper::toProfileResponse)
-                .orElse(null);
+        return getPortfolio().getProfile();
     }
 
     /**
      * Gets all published experiences sorted by sort_order.
      */
     public List<ExperienceResponse> getPublishedExperiences() {
-        return mapper.toExperienceResponseList(
-                experienceRepository.findByPublishedTrueOrderBySortOrderAsc()
-        );
+        return getPortfolio().getExperiences();
     }
 
     /**
      * Gets all published projects sorted by sort_order.
      */
     public List<ProjectResponse> getPublishedProjects() {
-        return mapper.toProjectResponseList(
-                projectRepository.findByPublishedTrueOrderBySortOrderAsc()
-        );
+        return getPortfolio().getProjects();
     }
 
     /**
      * Gets all featured and published projects sorted by sort_order.
      */
     public List<ProjectResponse> getFeaturedProjects() {
-        return mapper.toProjectResponseList(
-                projectRepository.findByFeaturedTrueAndPublishedTrueOrderBySortOrderAsc()
-        );
+        return getPortfolio().getFeaturedProjects();
     }
 
     /**
      * Gets a published project by slug.
      */
     public ProjectResponse getProjectBySlug(String slug) {
-        return projectRepository.findBySlugAndPublishedTrue(slug)
-                .map(mapper::toProjectResponse)
-                .orElse(null);
+        return snapshotCache.get().projectsBySlug().get(slug);
     }
 
     /**
      * Gets all published skill categories with their skills, sorted by sort_order.
      */
     public List<SkillCategoryResponse> getPublishedSkills() {
-        return mapper.toSkillCategoryResponseList(
-                skillCategoryRepository.findByPublishedTrueOrderBySortOrderAsc()
-        );
+        return getPortfolio().getSkills();
     }
 
     /**
      * Gets all published education entries sorted by sort_order.
      */
     public List<EducationResponse> getPublishedEducation() {
-        return mapper.toEducationResponseList(
-                educationRepository.findByPublishedTrueOrderBySortOrderAsc()
-        );
+        return getPortfolio().getEducation();
     }
 
     /**
      * Gets all published certifications sorted by sort_order.
      */
     public List<CertificationResponse> getPublishedCertifications() {
-        return mapper.toCertificationResponseList(
-                certificationRepository.findByPublishedTrueOrderBySortOrderAsc()
-        );
+        return getPortfolio().getCertifications();
     }
 
     /**
      * Gets the contact settings.
      */
     public ContactSettingsResponse getContactSettings() {
-        return contactSettingsRepository.findSettings()
-                .map(mapper::toContactSettingsResponse)
-                .orElse(null);
+        return getPortfolio().getContact();
+    }
+
+    /**
+     * Gets the pre-rendered response for a public endpoint path,
+     * or null if there is no published content at that path.
+     */
+    public RenderedView getRenderedView(String path) {
+        return snapshotCache.get().views().get(path);
     }
 
 }
@@ -0,0 +1,50 @@
+package com.sita.portfolio.service;
+
+import com.sita.portfolio.model.dto.response.PortfolioResponse;
+import com.sita.portfolio.model.dto.response.ProjectResponse;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable, pre-built view of all published portfolio content.
+ * Built from {@link PortfolioSnapshotLoader} output and held by {@link PortfolioSnapshotCache}.
+ *
+ * @param portfolio      the aggregated published portfolio
+ * @param projectsBySlug published projects keyed by slug
+ * @param views          pre-rendered public responses keyed by request path
+ * @param builtAt        when the snapshot was built
+ */
+public record PortfolioSnapshot(
+        PortfolioResponse portfolio,
+        Map<String, ProjectResponse> projectsBySlug,
+        Map<String, RenderedView> views,
+        Instant builtAt
+) {
+
+    /**
+     * Builds a snapshot from loaded portfolio data, rendering all public views.
+     * Views unchanged since {@code previous} (nullable) are carried over as-is.
+     */
+    public static PortfolioSnapshot of(
+            PortfolioResponse portfolio,
+            PublicViewRenderer renderer,
+            PortfolioSnapshot previous) {
+        Map<String, ProjectResponse> projectsBySlug = new LinkedHashMap<>();
+        for (ProjectResponse project : portfolio.getProjects()) {
+            if (project.getSlug() != null) {
+                projectsBySlug.put(project.getSlug(), project);
+            }
+        }
+
+        Instant builtAt = Instant.now();
+        return new PortfolioSnapshot(
+                portfolio,
+                Map.copyOf(projectsBySlug),
+                renderer.render(portfolio, previous != null ? previous.views() : Map.of(), builtAt),
+                builtAt
+        );
+    }
+
+}
@@ -0,0 +1,209 @@
+package com.sita.portfolio.service;
+
+import com.sita.portfolio.config.AppProperties;
+import com.sita.portfolio.config.BackgroundThreads;
+import com.sita.portfolio.model.dto.response.PortfolioResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the in-memory {@link PortfolioSnapshot} served by the public API.
+ * <p>
+ * Admin write services call {@link #refreshAfterCommit()}; the snapshot is then
+ * rebuilt once the surrounding transaction commits and swapped in atomically,
+ * so public reads never touch the connection pool. Other instances are told to
+ * rebuild through {@link PortfolioChangeNotifier}.
+ * </p>
+ * <p>
+ * A failed rebuild keeps the previous snapshot and is retried in the background with
+ * exponential backoff, so public reads keep being served from memory meanwhile.
+ * </p>
+ */
+@Component
+@Slf4j
+public class PortfolioSnapshotCache {
+
+    private final PortfolioSnapshotLoader loader;
+    private final PublicViewRenderer renderer;
+    private final PortfolioChangeNotifier changeNotifier;
+    private final TransactionTemplate refreshTemplate;
+    private final AtomicReference<PortfolioSnapshot> current = new AtomicReference<>();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final AppProperties.Snapshot config;
+    private final ScheduledExecutorService retryScheduler;
+
+    /** Guarded by rebuildLock. */
+    private Duration retryDelay;
+    private ScheduledFuture<?> pendingRetry;
+
+    @Autowired
+    public PortfolioSnapshotCache(
+            PortfolioSnapshotLoader loader,
+            PublicViewRenderer renderer,
+            PortfolioChangeNotifier changeNotifier,
+            PlatformTransactionManager transactionManager,
+            AppProperties appProperties,
+            BackgroundThreads backgroundThreads) {
+        this(loader, renderer, changeNotifier, transactionManager, appProperties.getSnapshot(), backgroundThreads);
+    }
+
+    public PortfolioSnapshotCache(
+            PortfolioSnapshotLoader loader,
+            PublicViewRenderer renderer,
+            PortfolioChangeNotifier changeNotifier,
+            PlatformTransactionManager transactionManager,
+            AppProperties.Snapshot config,
+            BackgroundThreads backgroundThreads) {
+        this.loader = loader;
+        this.renderer = renderer;
+        this.changeNotifier = changeNotifier;
+        this.config = config;
+        this.refreshTemplate = new TransactionTemplate(transactionManager);
+        this.refreshTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.refreshTemplate.setReadOnly(true);
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(backgroundThreads.factory("snapshot-retry"));
+    }
+
+    /**
+     * Returns the current snapshot, building it on demand if none is available.
+     */
+    public PortfolioSnapshot get() {
+        PortfolioSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        rebuildLock.lock();
+        try {
+            snapshot = current.get();
+            if (snapshot == null) {
+                snapshot = PortfolioSnapshot.of(loader.load(), renderer, null);
+                current.set(snapshot);
+            }
+            return snapshot;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Schedules a rebuild for when the current transaction commits.
+     * Rebuilds immediately when called outside a transaction.
+     * Multiple calls within one transaction trigger a single rebuild.
+     * Other instances are notified in the same transaction, so they only hear about committed changes.
+     */
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            changeNotifier.notifyChanged();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                changeNotifier.notifyChanged();
+            }
+
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PortfolioSnapshotCache.this);
+            }
+        });
+    }
+
+    /**
+     * Rebuilds the snapshot in its own read-only transaction and swaps it in.
+     * On failure the current snapshot is kept and a background retry is scheduled.
+     */
+    public void refresh() {
+        rebuildLock.lock();
+        try {
+            PortfolioResponse portfolio = refreshTemplate.execute(status -> loader.load());
+            current.set(PortfolioSnapshot.of(portfolio, renderer, current.get()));
+            retryDelay = null;
+            if (pendingRetry != null) {
+                pendingRetry.cancel(false);
+                pendingRetry = null;
+            }
+            log.debug("Rebuilt published portfolio snapshot");
+        } catch (RuntimeException ex) {
+            scheduleRetry(ex);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Drops the current snapshot; the next read rebuilds it.
+     */
+    public void evict() {
+        current.set(null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+    }
+
+    /**
+     * Schedules a retry unless one is already pending. Called with rebuildLock held.
+     */
+    private void scheduleRetry(RuntimeException ex) {
+        if (pendingRetry != null || retryScheduler.isShutdown()) {
+            log.error("Failed to rebuild portfolio snapshot: {}", ex.getMessage());
+            return;
+        }
+        retryDelay = retryDelay == null
+                ? config.getInitialBackoff()
+                : min(retryDelay.multipliedBy(2), config.getMaxBackoff());
+        log.error("Failed to rebuild portfolio snapshot; {}retrying in {} ms: {}",
+                current.get() != null ? "serving the previous one, " : "", retryDelay.toMillis(), ex.getMessage());
+        pendingRetry = retryScheduler.schedule(this::retry, retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void retry() {
+        rebuildLock.lock();
+        try {
+            pendingRetry = null;
+            refresh();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.sita.portfolio.service;
+
+import com.sita.portfolio.model.dto.response.*;
+import com.sita.portfolio.repository.*;
+import com.sita.portfolio.service.mapper.EntityMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Loads all published portfolio content from the database for a {@link PortfolioSnapshot}.
+ * Only used when the snapshot is (re)built, never on the public read path.
+ * <p>
+ * On PostgreSQL the content is read in a single statement via {@link PortfolioReadRepository};
+ * elsewhere (H2 in tests) it falls back to one JPA query per content type.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioSnapshotLoader {
+
+    private final PortfolioReadRepository portfolioReadRepository;
+    private final ProfileRepository profileRepository;
+    private final ExperienceRepository experienceRepository;
+    private final ProjectRepository projectRepository;
+    private final SkillCategoryRepository skillCategoryRepository;
+    private final EducationRepository educationRepository;
+    private final CertificationRepository certificationRepository;
+    private final ContactSettingsRepository contactSettingsRepository;
+    private final EntityMapper mapper;
+
+    /**
+     * Reads all published content, sorted by sort_order.
+     * Featured projects are derived from the published project list.
+     */
+    @Transactional(readOnly = true)
+    public PortfolioResponse load() {
+        log.debug("Loading published portfolio snapshot");
+
+        PortfolioResponse loaded = portfolioReadRepository.supportsAggregation()
+                ? portfolioReadRepository.findPublishedPortfolio()
+                : loadFromRepositories();
+
+        List<ProjectResponse> projects = List.copyOf(loaded.getProjects());
+
+        return PortfolioResponse.builder()
+                .profile(loaded.getProfile())
+                .experiences(List.copyOf(loaded.getExperiences()))
+                .projects(projects)
+                .featuredProjects(projects.stream()
+                        .filter(ProjectResponse::isFeatured)
+                        .toList())
+                .skills(List.copyOf(loaded.getSkills()))
+                .education(List.copyOf(loaded.getEducation()))
+                .certifications(List.copyOf(loaded.getCertifications()))
+                .contact(loaded.getContact())
+                .build();
+    }
+
+    private PortfolioResponse loadFromRepositories() {
+        return PortfolioResponse.builder()
+                .profile(profileRepository.findProfile()
+                        .map(mapper::toProfileResponse)
+                        .orElse(null))
+                .experiences(mapper.toExperienceResponseList(
+                        experienceRepository.findByPublishedTrueOrderBySortOrderAsc()))
+                .projects(mapper.toProjectResponseList(
+                        projectRepository.findByPublishedTrueOrderBySortOrderAsc()))
+                .skills(mapper.toSkillCategoryResponseList(
+                        skillCategoryRepository.findByPublishedTrueOrderBySortOrderAsc()))
+                .education(mapper.toEducationResponseList(
+                        educationRepository.findByPublishedTrueOrderBySortOrderAsc()))
+                .certifications(mapper.toCertificationResponseList(
+                        certificationRepository.findByPublishedTrueOrderBySortOrderAsc()))
+                .contact(contactSettingsRepository.findSettings()
+                        .map(mapper::toContactSettingsResponse)
+                        .orElse(null))
+                .build();
+    }
+
+}
@@ -21,6 +21,7 @@ public class ProfileService {
 
     private final ProfileRepository profileRepository;
     private final EntityMapper mapper;
+    private final PortfolioSnapshotCache snapshotCache;
 
     /**
      * Gets the profile.
@@ -53,6 +54,7 @@ public class ProfileService {
         if (request.getNickname() != null) profile.setNickname(request.getNickname());
         Profile saved = profileRepository.save(profile);
         log.info("Updated profile: {}", saved.getName());
+        snapshotCache.refreshAfterCommit();
 
         return mapper.toProfileResponse(saved);
     }
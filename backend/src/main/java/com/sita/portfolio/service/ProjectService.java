@@ -8,6 +8,7 @@ import com.sita.portfolio.model.entity.Project;
 import com.sita.portfolio.model.entity.ProjectBullet;
 import com.sita.portfolio.repository.ProjectBulletRepository;
 import com.sita.portfolio.repository.ProjectRepository;
+import com.sita.portfolio.repository.ReorderSupport;
 import com.sita.portfolio.service.mapper.EntityMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +29,8 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final ProjectBulletRepository bulletRepository;
     private final EntityMapper mapper;
+    private final PortfolioSnapshotCache snapshotCache;
+    private final ReorderSupport reorderSupport;
 
     /**
      * Gets all projects (admin view - includes unpublished).
@@ -77,6 +80,7 @@ public class ProjectService {
 
         Project saved = projectRepository.save(project);
         log.info("Created project: {}", saved.getTitle());
+        snapshotCache.refreshAfterCommit();
 
         return mapper.toProjectResponse(saved);
     }
@@ -110,6 +114,7 @@ public class ProjectService {
 
         Project saved = projectRepository.save(project);
         log.info("Updated project: {}", id);
+        snapshotCache.refreshAfterCommit();
 
         return mapper.toProjectResponse(saved);
     }
@@ -124,6 +129,7 @@ public class ProjectService {
         }
         projectRepository.deleteById(id);
         log.info("Deleted project: {}", id);
+        snapshotCache.refreshAfterCommit();
     }
 
     /**
@@ -138,42 +144,21 @@ public class ProjectService {
         Project saved = projectRepository.save(project);
 
         log.info("Set project {} published={}", id, published);
+        snapshotCache.refreshAfterCommit();
         return mapper.toProjectResponse(saved);
     }
 
     /**
      * Reorders projects.
-     * Validates all IDs exist before updating.
+     * Validates all IDs exist, then updates every sort order in one statement.
      */
     @Transactional
     public List<ProjectResponse> reorderProjects(ReorderRequest request) {
         List<UUID> orderedIds = request.getOrderedIds();
-        
-        // Validate all IDs exist
-        List<Project> projects = projectRepository.findAllById(orderedIds);
-        if (projects.size() != orderedIds.size()) {
-            List<UUID> foundIds = projects.stream().map(Project::getId).toList();
-            List<UUID> missingIds = orderedIds.stream()
-                    .filter(id -> !foundIds.contains(id))
-                    .toList();
-            throw new BadRequestException(
-                    "Invalid project IDs: " + missingIds,
-                    "orderedIds"
-            );
-        }
-        
-        // Update sort orders in a single transaction
-        for (int i = 0; i < orderedIds.size(); i++) {
-            UUID targetId = orderedIds.get(i);
-            int newSortOrder = i;
-            projects.stream()
-                    .filter(proj -> proj.getId().equals(targetId))
-                    .findFirst()
-                    .ifPresent(proj -> proj.setSortOrder(newSortOrder));
-        }
-        projectRepository.saveAll(projects);
-        
+        reorderSupport.reorder(Project.class, orderedIds);
+
         log.info("Reordered {} projects", orderedIds.size());
+        snapshotCache.refreshAfterCommit();
         return getAllProjects();
     }
 
@@ -196,6 +181,7 @@ public class ProjectService {
         Project saved = projectRepository.save(project);
 
         log.info("Added bullet to project: {}", projectId);
+        snapshotCache.refreshAfterCommit();
         return mapper.toProjectResponse(saved);
     }
 
@@ -215,6 +201,7 @@ public class ProjectService {
 
         bulletRepository.save(bullet);
         log.info("Updated bullet: {} in project: {}", bulletId, projectId);
+        snapshotCache.refreshAfterCommit();
 
         return mapper.toProjectResponse(project);
     }
@@ -234,6 +221,7 @@ public class ProjectService {
         projectRepository.save(project);
 
         log.info("Deleted bullet: {} from project: {}", bulletId, projectId);
+        snapshotCache.refreshAfterCommit();
         return mapper.toProjectResponse(project);
     }
 
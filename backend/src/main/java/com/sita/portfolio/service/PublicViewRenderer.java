@@ -0,0 +1,139 @@
+package com.sita.portfolio.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sita.portfolio.model.dto.ApiResponse;
+import com.sita.portfolio.model.dto.response.PortfolioResponse;
+import com.sita.portfolio.model.dto.response.ProjectResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Renders every public read endpoint into pre-serialized, pre-compressed bytes.
+ * Each body is the usual {@link ApiResponse} envelope, with {@code path} set to the
+ * endpoint path and {@code timestamp} set to the time the content last changed.
+ * <p>
+ * The entity tag is a hash of the path and data only, so it is stable across
+ * rebuilds and replicas as long as the published content is unchanged.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class PublicViewRenderer {
+
+    public static final String BASE_PATH = "/api/public";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Renders all public views of the given portfolio, keyed by request path.
+     * Profile and contact views are omitted when the underlying data is absent.
+     * Views whose content matches {@code previous} keep their last-modified time.
+     */
+    public Map<String, RenderedView> render(
+            PortfolioResponse portfolio,
+            Map<String, RenderedView> previous,
+            Instant renderedAt) {
+        Map<String, RenderedView> views = new HashMap<>();
+
+        put(views, previous, "/portfolio", portfolio, renderedAt);
+        put(views, previous, "/experience", portfolio.getExperiences(), renderedAt);
+        put(views, previous, "/experiences", portfolio.getExperiences(), renderedAt);
+        put(views, previous, "/projects", portfolio.getProjects(), renderedAt);
+        put(views, previous, "/projects/featured", portfolio.getFeaturedProjects(), renderedAt);
+        put(views, previous, "/skills", portfolio.getSkills(), renderedAt);
+        put(views, previous, "/education", portfolio.getEducation(), renderedAt);
+        put(views, previous, "/certifications", portfolio.getCertifications(), renderedAt);
+
+        if (portfolio.getProfile() != null) {
+            put(views, previous, "/profile", portfolio.getProfile(), renderedAt);
+        }
+        if (portfolio.getContact() != null) {
+            put(views, previous, "/contact", portfolio.getContact(), renderedAt);
+        }
+        for (ProjectResponse project : portfolio.getProjects()) {
+            if (project.getSlug() != null) {
+                put(views, previous, "/projects/" + project.getSlug(), project, renderedAt);
+            }
+        }
+
+        return Map.copyOf(views);
+    }
+
+    private void put(
+            Map<String, RenderedView> views,
+            Map<String, RenderedView> previous,
+            String relativePath,
+            Object data,
+            Instant renderedAt) {
+        String path = BASE_PATH + relativePath;
+        views.put(path, renderView(path, data, previous.get(path), renderedAt));
+    }
+
+    private RenderedView renderView(String path, Object data, RenderedView previous, Instant renderedAt) {
+        try {
+            String hash = contentHash(path, objectMapper.writeValueAsBytes(data));
+            String etag = "\"" + hash + "\"";
+            if (previous != null && previous.etag().equals(etag)) {
+                return previous;
+            }
+
+            ApiResponse<Object> envelope = ApiResponse.builder()
+                    .timestamp(renderedAt)
+                    .path(path)
+                    .data(data)
+                    .build();
+            byte[] identity = objectMapper.writeValueAsBytes(envelope);
+            return new RenderedView(identity, gzip(identity), etag, "\"" + hash + "-gzip\"", renderedAt);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to render public view " + path, ex);
+        }
+    }
+
+    private static String contentHash(String path, byte[] data) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(path.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(data);
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (OutputStream out = new BestCompressionGzipOutputStream(buffer)) {
+            out.write(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Bodies are compressed once per content change, so spend the extra CPU on ratio.
+     */
+    private static final class BestCompressionGzipOutputStream extends GZIPOutputStream {
+        BestCompressionGzipOutputStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+
+}
@@ -0,0 +1,197 @@
+package com.sita.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sita.portfolio.config.AppProperties;
+import com.sita.portfolio.config.BackgroundThreads;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Verifies reCAPTCHA tokens without blocking request threads.
+ * <p>
+ * Uses a shared JDK {@link HttpClient} with connect and read timeouts, running on a
+ * small dedicated thread pool (virtual threads in virtual-thread mode). At most
+ * max-concurrent-verifications calls are in flight; further submissions get 503
+ * straight away instead of queueing behind a slow endpoint.
+ * </p>
+ * <p>
+ * Tokens are single-use at Google, so a submission that verified but was then rejected
+ * (e.g. the queue was full) could not be retried with the same token. For that case the
+ * caller passes the token to {@link #allowRetry}; it is then accepted once more from the
+ * same client IP within a short TTL, without another call to Google. A token is never
+ * accepted twice after a submission went through.
+ * </p>
+ */
+@Component
+@Slf4j
+public class RecaptchaVerifier {
+
+    private final AppProperties.Recaptcha config;
+    private final ObjectMapper objectMapper;
+    private final String secret;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+    private final Semaphore inFlight;
+
+    /** Token and client IP allowed one retry, to expiry (System.nanoTime). */
+    private final Map<String, Long> retryTokens = new ConcurrentHashMap<>();
+
+    public RecaptchaVerifier(
+            AppProperties appProperties,
+            ObjectMapper objectMapper,
+            BackgroundThreads backgroundThreads,
+            @Value("${recaptcha.secret:}") String secret) {
+        this.config = appProperties.getRecaptcha();
+        this.objectMapper = objectMapper;
+        this.secret = secret;
+
+        this.executor = Executors.newFixedThreadPool(config.getMaxConcurrentVerifications(),
+                backgroundThreads.factory("recaptcha"));
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(config.getConnectTimeout())
+                .executor(executor)
+                .build();
+        this.inFlight = new Semaphore(config.getMaxConcurrentVerifications());
+    }
+
+    public boolean isEnabled() {
+        return secret != null && !secret.isBlank();
+    }
+
+    /**
+     * Verifies a token asynchronously.
+     * The future fails with 400 for a missing or rejected token and 503 when
+     * the verification endpoint is unreachable, slow or returns an error, or when
+     * too many verifications are already in flight.
+     */
+    public CompletableFuture<Void> verify(String token, String remoteIp) {
+        if (!isEnabled()) {
+            log.warn("reCAPTCHA secret not configured; skipping verification.");
+            return CompletableFuture.completedFuture(null);
+        }
+        if (token == null || token.isBlank()) {
+            return CompletableFuture.failedFuture(
+                    new ResponseStatusException(HttpStatus.BAD_REQUEST, "Captcha token missing"));
+        }
+        if (consumeRetry(token, remoteIp)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(config.getVerifyUrl()))
+                .timeout(config.getReadTimeout())
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form(Map.of(
+                        "secret", secret,
+                        "response", token,
+                        "remoteip", remoteIp))))
+                .build();
+
+        if (!inFlight.tryAcquire()) {
+            log.warn("reCAPTCHA verification rejected: max={} in flight", config.getMaxConcurrentVerifications());
+            return CompletableFuture.failedFuture(unavailable());
+        }
+        CompletableFuture<HttpResponse<byte[]>> sent;
+        try {
+            sent = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (RuntimeException ex) {
+            inFlight.release();
+            throw ex;
+        }
+        return sent
+                .whenComplete((ignored, ex) -> inFlight.release())
+                .handle((response, ex) -> {
+                    if (ex != null) {
+                        log.warn("reCAPTCHA verification unavailable: {}", ex.toString());
+                        throw unavailable();
+                    }
+                    if (response.statusCode() != 200) {
+                        log.warn("reCAPTCHA verification returned HTTP {}", response.statusCode());
+                        throw unavailable();
+                    }
+                    if (!isSuccess(response.body())) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Captcha verification failed");
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Lets a verified token be used once more from the same client, for a submission that
+     * was rejected after verification. The token is not kept if the cache is still full
+     * after purging expired entries.
+     */
+    public void allowRetry(String token, String remoteIp) {
+        if (!isEnabled() || token == null || token.isBlank()) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (retryTokens.size() >= config.getTokenCacheSize()) {
+            retryTokens.values().removeIf(expiresAt -> expiresAt - now <= 0);
+            if (retryTokens.size() >= config.getTokenCacheSize()) {
+                return;
+            }
+        }
+        retryTokens.put(retryKey(token, remoteIp), now + config.getTokenCacheTtl().toNanos());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private boolean isSuccess(byte[] body) {
+        try {
+            return objectMapper.readTree(body).path("success").asBoolean(false);
+        } catch (IOException ex) {
+            log.warn("Unreadable reCAPTCHA response: {}", ex.getMessage());
+            throw unavailable();
+        }
+    }
+
+    /**
+     * Removes the retry entry, so concurrent submissions with one token cannot both use it.
+     */
+    private boolean consumeRetry(String token, String remoteIp) {
+        Long expiresAt = retryTokens.remove(retryKey(token, remoteIp));
+        return expiresAt != null && expiresAt - System.nanoTime() > 0;
+    }
+
+    private static String retryKey(String token, String remoteIp) {
+        return remoteIp + ' ' + token;
+    }
+
+    private static ResponseStatusException unavailable() {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                "Captcha verification is temporarily unavailable. Please try again.");
+    }
+
+    private static String form(Map<String, String> params) {
+        StringBuilder body = new StringBuilder();
+        params.forEach((key, value) -> {
+            if (body.length() > 0) {
+                body.append('&');
+            }
+            body.append(key).append('=').append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+        });
+        return body.toString();
+    }
+
+}
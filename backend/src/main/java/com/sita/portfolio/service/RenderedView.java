@@ -0,0 +1,17 @@
+package com.sita.portfolio.service;
+
+import java.time.Instant;
+
+/**
+ * A public API response rendered ahead of time into UTF-8 JSON bytes,
+ * together with its gzip-compressed variant and HTTP validators.
+ * The arrays are shared between requests and must not be modified.
+ *
+ * @param identity     the uncompressed JSON body
+ * @param gzip         the same body, gzip-compressed
+ * @param etag         strong entity tag of the uncompressed body (quoted)
+ * @param gzipEtag     strong entity tag of the gzip variant (quoted)
+ * @param lastModified when the content of this view last changed
+ */
+public record RenderedView(byte[] identity, byte[] gzip, String etag, String gzipEtag, Instant lastModified) {
+}
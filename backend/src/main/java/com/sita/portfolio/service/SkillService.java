@@ -1,11 +1,11 @@
 package com.sita.portfolio.service;
 
-import com.sita.portfolio.exception.BadRequestException;
 import com.sita.portfolio.exception.ResourceNotFoundException;
 import com.sita.portfolio.model.dto.request.*;
 import com.sita.portfolio.model.dto.response.SkillCategoryResponse;
 import com.sita.portfolio.model.entity.SkillCategory;
 import com.sita.portfolio.model.entity.SkillItem;
+import com.sita.portfolio.repository.ReorderSupport;
 import com.sita.portfolio.repository.SkillCategoryRepository;
 import com.sita.portfolio.repository.SkillItemRepository;
 import com.sita.portfolio.service.mapper.EntityMapper;
@@ -15,9 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Service for skill management (admin operations).
@@ -30,6 +28,8 @@ public class SkillService {
     private final SkillCategoryRepository categoryRepository;
     private final SkillItemRepository itemRepository;
     private final EntityMapper mapper;
+    private final PortfolioSnapshotCache snapshotCache;
+    private final ReorderSupport reorderSupport;
 
     /**
      * Gets all skill categories (admin view - includes unpublished).
@@ -67,6 +67,7 @@ public class SkillService {
 
         SkillCategory saved = categoryRepository.save(category);
         log.info("Created skill category: {}", saved.getName());
+        snapshotCache.refreshAfterCommit();
 
         return mapper.toSkillCategoryResponse(saved);
     }
@@ -86,6 +87,7 @@ public class SkillService {
 
         SkillCategory saved = categoryRepository.save(category);
         log.info("Updated skill category: {}", id);
+        snapshotCache.refreshAfterCommit();
 
         return mapper.toSkillCategoryResponse(saved);
     }
@@ -100,6 +102,7 @@ public class SkillService {
         }
         categoryRepository.deleteById(id);
         log.info("Deleted skill category: {}", id);
+        snapshotCache.refreshAfterCommit();
     }
 
     /**
@@ -114,96 +117,42 @@ public class SkillService {
         SkillCategory saved = categoryRepository.save(category);
 
         log.info("Set skill category {} published={}", id, published);
+        snapshotCache.refreshAfterCommit();
         return mapper.toSkillCategoryResponse(saved);
     }
 
     /**
      * Reorders skill categories.
-     * Validates all IDs exist before updating.
+     * Validates all IDs exist, then updates every sort order in one statement.
      */
     @Transactional
     public List<SkillCategoryResponse> reorderCategories(ReorderRequest request) {
         List<UUID> orderedIds = request.getOrderedIds();
-        
-        // Validate all IDs exist
-        List<SkillCategory> categories = categoryRepository.findAllById(orderedIds);
-        if (categories.size() != orderedIds.size()) {
-            List<UUID> foundIds = categories.stream().map(SkillCategory::getId).toList();
-            List<UUID> missingIds = orderedIds.stream()
-                    .filter(id -> !foundIds.contains(id))
-                    .toList();
-            throw new BadRequestException(
-                    "Invalid skill category IDs: " + missingIds,
-                    "orderedIds"
-            );
-        }
-        
-        // Update sort orders in a single transaction
-        for (int i = 0; i < orderedIds.size(); i++) {
-            UUID targetId = orderedIds.get(i);
-            int newSortOrder = i;
-            categories.stream()
-                    .filter(cat -> cat.getId().equals(targetId))
-                    .findFirst()
-                    .ifPresent(cat -> cat.setSortOrder(newSortOrder));
-        }
-        categoryRepository.saveAll(categories);
-        
+        reorderSupport.reorder(SkillCategory.class, orderedIds);
+
         log.info("Reordered {} skill categories", orderedIds.size());
+        snapshotCache.refreshAfterCommit();
         return getAllCategories();
     }
 
     /**
      * Reorders skill items within a category.
-     * Validates category and all item IDs exist before updating.
+     * Validates the category and that all items exist and belong to it, then
+     * updates every sort order in one statement.
      */
     @Transactional
     public SkillCategoryResponse reorderSkillItems(ReorderSkillItemsRequest request) {
         // Validate category exists
-        SkillCategory category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new ResourceNotFoundException("SkillCategory", "id", request.getCategoryId()));
-
-        // Extract ordered IDs and validate all exist
-        List<UUID> orderedIds = request.getOrderedIds();
-
-        List<SkillItem> items = itemRepository.findAllById(orderedIds);
-        if (items.size() != orderedIds.size()) {
-            List<UUID> foundIds = items.stream().map(SkillItem::getId).toList();
-            List<UUID> missingIds = orderedIds.stream()
-                    .filter(id -> !foundIds.contains(id))
-                    .toList();
-            throw new BadRequestException(
-                    "Invalid skill item IDs: " + missingIds,
-                    "orderedIds"
-            );
+        if (!categoryRepository.existsById(request.getCategoryId())) {
+            throw new ResourceNotFoundException("SkillCategory", "id", request.getCategoryId());
         }
 
-        Map<UUID, SkillItem> itemsById = items.stream()
-                .collect(Collectors.toMap(SkillItem::getId, item -> item));
-
-        // Validate all items belong to the specified category
-        for (UUID itemId : orderedIds) {
-            SkillItem item = itemsById.get(itemId);
-            if (!item.getCategory().getId().equals(request.getCategoryId())) {
-                throw new BadRequestException(
-                        "Skill item " + item.getId() + " does not belong to category " + request.getCategoryId(),
-                        "orderedIds"
-                );
-            }
-        }
+        List<UUID> orderedIds = request.getOrderedIds();
+        reorderSupport.reorderChildren(SkillItem.class, "category_id", request.getCategoryId(), orderedIds);
 
-        // Update sort orders based on provided order
-        for (int i = 0; i < orderedIds.size(); i++) {
-            UUID itemId = orderedIds.get(i);
-            SkillItem item = itemsById.get(itemId);
-            item.setSortOrder(i);
-        }
-        itemRepository.saveAll(items);
-        
-        log.info("Reordered {} skill items in category {}", items.size(), request.getCategoryId());
-        
-        // Refresh and return the category
-        return mapper.toSkillCategoryResponse(categoryRepository.findById(request.getCategoryId()).orElse(category));
+        log.info("Reordered {} skill items in category {}", orderedIds.size(), request.getCategoryId());
+        snapshotCache.refreshAfterCommit();
+        return getCategory(request.getCategoryId());
     }
 
     /**
@@ -227,6 +176,7 @@ public class SkillService {
         SkillCategory saved = categoryRepository.save(category);
 
         log.info("Added skill item {} to category {}", request.getName(), request.getCategoryId());
+        snapshotCache.refreshAfterCommit();
         return mapper.toSkillCategoryResponse(saved);
     }
 
@@ -245,6 +195,7 @@ public class SkillService {
 
         itemRepository.save(item);
         log.info("Updated skill item: {}", itemId);
+        snapshotCache.refreshAfterCommit();
 
         return mapper.toSkillCategoryResponse(item.getCategory());
     }
@@ -262,6 +213,7 @@ public class SkillService {
         categoryRepository.save(category);
 
         log.info("Deleted skill item: {}", itemId);
+        snapshotCache.refreshAfterCommit();
     }
 
 }
@@ -0,0 +1,82 @@
+-- Range-partition contact_message by created_at into monthly partitions, so old
+-- months can be detached or dropped whole instead of deleted row by row, and vacuum
+-- and index maintenance only touch the partitions still being written.
+-- ContactMessagePartitionMaintainer creates future months and expires old ones.
+--
+-- PostgreSQL requires the partition key in every unique constraint, so the primary
+-- key becomes (id, created_at). Ids are still generated UUIDs, and id-only lookups
+-- use the leading column of that key in each partition.
+
+ALTER TABLE portfolio.contact_message RENAME TO contact_message_legacy;
+ALTER TABLE portfolio.contact_message_legacy RENAME CONSTRAINT contact_message_pkey TO contact_message_legacy_pkey;
+
+CREATE TABLE portfolio.contact_message (
+  id UUID NOT NULL DEFAULT gen_random_uuid(),
+  name VARCHAR(120) NOT NULL,
+  email VARCHAR(180) NOT NULL,
+  subject VARCHAR(200),
+  message TEXT NOT NULL,
+  created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+  status VARCHAR(30) NOT NULL DEFAULT 'new',
+  user_agent TEXT,
+  ip_address VARCHAR(64),
+  search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(email, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(subject, '')), 'B') ||
+    setweight(to_tsvector('english', coalesce(message, '')), 'C')
+  ) STORED,
+  CONSTRAINT contact_message_pkey PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Catches rows outside the maintained months, e.g. journal replays of old messages
+CREATE TABLE portfolio.contact_message_default PARTITION OF portfolio.contact_message DEFAULT;
+
+-- One partition per UTC month from the oldest message through three months ahead
+DO $$
+DECLARE
+  month_start DATE := date_trunc('month',
+      coalesce((SELECT min(created_at) FROM portfolio.contact_message_legacy), now()) AT TIME ZONE 'UTC')::DATE;
+  last_month DATE := (date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '3 months')::DATE;
+BEGIN
+  WHILE month_start <= last_month LOOP
+    EXECUTE format(
+      'CREATE TABLE portfolio.%I PARTITION OF portfolio.contact_message FOR VALUES FROM (%L) TO (%L)',
+      'contact_message_p' || to_char(month_start, 'YYYYMM'),
+      month_start::TIMESTAMP AT TIME ZONE 'UTC',
+      (month_start + INTERVAL '1 month')::TIMESTAMP AT TIME ZONE 'UTC');
+    month_start := (month_start + INTERVAL '1 month')::DATE;
+  END LOOP;
+END $$;
+
+INSERT INTO portfolio.contact_message
+  (id, name, email, subject, message, created_at, status, user_agent, ip_address)
+SELECT id, name, email, subject, message, created_at, status, user_agent, ip_address
+FROM portfolio.contact_message_legacy;
+
+DROP TABLE portfolio.contact_message_legacy;
+
+-- Indexes from V8 and V9, now defined once on the parent and created on every partition
+
+CREATE INDEX idx_contact_message_created_id
+ON portfolio.contact_message (created_at DESC, id DESC)
+INCLUDE (name, email, subject, status, ip_address);
+
+CREATE INDEX idx_contact_message_new
+ON portfolio.contact_message (created_at DESC, id DESC)
+INCLUDE (name, email, subject, ip_address)
+WHERE status = 'new';
+
+CREATE INDEX idx_contact_message_status_created_id
+ON portfolio.contact_message (status, created_at DESC, id DESC)
+WHERE status <> 'new';
+
+CREATE INDEX idx_contact_message_email_created_id
+ON portfolio.contact_message (lower(email), created_at DESC, id DESC);
+
+CREATE INDEX idx_contact_message_ip_created_id
+ON portfolio.contact_message (ip_address, created_at DESC, id DESC)
+WHERE ip_address IS NOT NULL;
+
+CREATE INDEX idx_contact_message_search
+ON portfolio.contact_message USING GIN (search_vector);
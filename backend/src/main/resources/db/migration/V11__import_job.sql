@@ -0,0 +1,18 @@
+-- Background import jobs, shared by all instances so a poll can reach any replica.
+-- ImportJobService writes the rows; finished jobs are deleted after app.import-jobs.retention.
+
+CREATE TABLE portfolio.import_job (
+  id UUID PRIMARY KEY,
+  mode VARCHAR(20) NOT NULL,
+  status VARCHAR(20) NOT NULL,
+  submitted_at TIMESTAMPTZ NOT NULL,
+  started_at TIMESTAMPTZ,
+  finished_at TIMESTAMPTZ,
+  progress TEXT,
+  result TEXT,
+  error TEXT
+);
+
+CREATE INDEX idx_import_job_finished_at
+ON portfolio.import_job (finished_at DESC)
+WHERE finished_at IS NOT NULL;
@@ -0,0 +1,29 @@
+-- Keyset pagination of the admin inbox: ORDER BY created_at DESC, id DESC with a
+-- (created_at, id) < (?, ?) continuation. The id column breaks ties between
+-- messages written in the same microsecond, so the index must include it.
+-- INCLUDE carries the list columns, letting the unfiltered and "new" views run as
+-- index-only scans without touching the TEXT message body.
+DROP INDEX IF EXISTS portfolio.idx_contact_message_created_at;
+
+CREATE INDEX IF NOT EXISTS idx_contact_message_created_id
+ON portfolio.contact_message (created_at DESC, id DESC)
+INCLUDE (name, email, subject, status, ip_address);
+
+-- Unread messages are the default admin view and a small slice of the table
+CREATE INDEX IF NOT EXISTS idx_contact_message_new
+ON portfolio.contact_message (created_at DESC, id DESC)
+INCLUDE (name, email, subject, ip_address)
+WHERE status = 'new';
+
+-- Read and archived views; 'new' is already covered above
+CREATE INDEX IF NOT EXISTS idx_contact_message_status_created_id
+ON portfolio.contact_message (status, created_at DESC, id DESC)
+WHERE status <> 'new';
+
+-- Sender lookups for spam triage
+CREATE INDEX IF NOT EXISTS idx_contact_message_email_created_id
+ON portfolio.contact_message (lower(email), created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_contact_message_ip_created_id
+ON portfolio.contact_message (ip_address, created_at DESC, id DESC)
+WHERE ip_address IS NOT NULL;
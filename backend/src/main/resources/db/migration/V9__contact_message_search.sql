@@ -0,0 +1,14 @@
+-- Full-text search over the admin inbox. The vector is a stored generated column,
+-- so it is computed once on insert and never drifts from the row. Weights follow
+-- what identifies a sender: name and email (A), subject (B), body (C).
+ALTER TABLE portfolio.contact_message
+ADD COLUMN IF NOT EXISTS search_vector tsvector
+GENERATED ALWAYS AS (
+  setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+  setweight(to_tsvector('english', coalesce(email, '')), 'A') ||
+  setweight(to_tsvector('english', coalesce(subject, '')), 'B') ||
+  setweight(to_tsvector('english', coalesce(message, '')), 'C')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_contact_message_search
+ON portfolio.contact_message USING GIN (search_vector);
@@ -0,0 +1,224 @@
+package com.sita.portfolio.test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sita.portfolio.repository.ContactMessageInboxRepository;
+import com.sita.portfolio.repository.ContactMessageRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the keyset-paginated admin inbox and its search endpoint.
+ */
+@Import(TestConfig.class)
+class ContactMessageInboxIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String URL = "/api/admin/contact/messages";
+    private static final Instant BASE = Instant.parse("2026-01-01T12:00:00Z");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestHelper testHelper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ContactMessageRepository contactMessageRepository;
+
+    @BeforeEach
+    void setUp() {
+        contactMessageRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        contactMessageRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Cursor pages walk every message once, newest first, including timestamp ties")
+    void cursorPagesCoverAllMessages() throws Exception {
+        List<UUID> expected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            // Pairs share a timestamp so the id tiebreaker is exercised
+            expected.add(insert("Sender " + i, "s" + i + "@example.com", "new", "203.0.113.1", i / 2));
+        }
+        List<UUID> ordered = jdbcTemplate.queryForList(
+                "SELECT id FROM portfolio.contact_message ORDER BY created_at DESC, id DESC", UUID.class);
+
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder request = admin(get(URL).param("size", "3"));
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode data = read(request);
+            data.get("content").forEach(row -> seen.add(UUID.fromString(row.get("id").asText())));
+            cursor = data.get("nextCursor").isNull() ? null : data.get("nextCursor").asText();
+            assertThat(data.get("hasMore").asBoolean()).isEqualTo(cursor != null);
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyElementsOf(ordered).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("List rows omit the message body, which the detail endpoint returns")
+    void listOmitsBody() throws Exception {
+        UUID id = insert("Ada", "ada@example.com", "new", "203.0.113.1", 0);
+
+        JsonNode row = read(admin(get(URL))).get("content").get(0);
+        assertThat(row.has("message")).isFalse();
+        assertThat(row.has("userAgent")).isFalse();
+        assertThat(row.get("email").asText()).isEqualTo("ada@example.com");
+
+        mockMvc.perform(admin(get(URL + "/" + id)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.message").value("Body of Ada"));
+    }
+
+    @Test
+    @DisplayName("Status, email and IP filters narrow the list")
+    void filters() throws Exception {
+        insert("Ada", "Ada@Example.com", "new", "203.0.113.1", 0);
+        insert("Ada", "ada@example.com", "archived", "203.0.113.1", 1);
+        insert("Bob", "bob@example.com", "new", "203.0.113.2", 2);
+
+        assertThat(read(admin(get(URL).param("status", "NEW"))).get("content")).hasSize(2);
+        assertThat(read(admin(get(URL).param("email", "ADA@example.com"))).get("content")).hasSize(2);
+        assertThat(read(admin(get(URL).param("ip", "203.0.113.2"))).get("content")).hasSize(1);
+        assertThat(read(admin(get(URL).param("status", "archived").param("email", "ada@example.com")))
+                .get("content")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Unknown status and malformed cursor are rejected with 400")
+    void invalidParameters() throws Exception {
+        mockMvc.perform(admin(get(URL).param("status", "spam")))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(admin(get(URL).param("cursor", "not-a-cursor")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Search ranks sender matches above body matches")
+    void searchRanksSenderFirst() throws Exception {
+        insert("Carol", "carol@example.com", "new", "203.0.113.1", 0, "Please contact Zephyr about the role");
+        insert("Zephyr", "zephyr@example.com", "new", "203.0.113.2", 1, "Hello there");
+        insert("Dave", "dave@example.com", "new", "203.0.113.3", 2, "Unrelated");
+
+        JsonNode content = read(admin(get(URL + "/search").param("q", "zephyr"))).get("content");
+
+        assertThat(content).hasSize(2);
+        assertThat(content.get(0).get("name").asText()).isEqualTo("Zephyr");
+        assertThat(content.get(1).get("name").asText()).isEqualTo("Carol");
+        assertThat(content.get(0).has("message")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Search pages through equally ranked matches with a cursor")
+    void searchPages() throws Exception {
+        List<UUID> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(insert("Sender " + i, "s" + i + "@example.com", "new", "203.0.113.1", i / 2,
+                    "Question about the portfolio"));
+        }
+        insert("Other", "other@example.com", "new", "203.0.113.1", 9, "Nothing to see");
+
+        JsonNode first = read(admin(get(URL + "/search").param("q", "portfolio").param("size", "3")));
+        JsonNode second = read(admin(get(URL + "/search").param("q", "portfolio").param("size", "3")
+                .param("cursor", first.get("nextCursor").asText())));
+
+        List<UUID> seen = new ArrayList<>();
+        first.get("content").forEach(row -> seen.add(UUID.fromString(row.get("id").asText())));
+        second.get("content").forEach(row -> seen.add(UUID.fromString(row.get("id").asText())));
+        assertThat(first.get("hasMore").asBoolean()).isTrue();
+        assertThat(second.get("hasMore").asBoolean()).isFalse();
+        assertThat(seen).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Search ranks only the newest matches")
+    void searchRanksOnlyNewestMatches() throws Exception {
+        UUID oldest = insert("Zephyr", "zephyr@example.com", "new", "203.0.113.1", 0, "Hello there");
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= ContactMessageInboxRepository.MAX_RANKED_MATCHES; i++) {
+            rows.add(new Object[]{UUID.randomUUID(), "Sender " + i, "s" + i + "@example.com", "Hello",
+                    "Please forward to Zephyr", OffsetDateTime.ofInstant(BASE.plusSeconds(60L * i), ZoneOffset.UTC),
+                    "new", "203.0.113.2"});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO portfolio.contact_message (id, name, email, subject, message, created_at, status, ip_address)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+
+        JsonNode content = read(admin(get(URL + "/search").param("q", "zephyr").param("size", "5"))).get("content");
+
+        // The sender match outranks every body match but is the oldest, so it is never ranked
+        assertThat(content).hasSize(5);
+        content.forEach(row -> assertThat(row.get("id").asText()).isNotEqualTo(oldest.toString()));
+    }
+
+    @Test
+    @DisplayName("Blank search query is rejected with 400")
+    void blankSearchRejected() throws Exception {
+        mockMvc.perform(admin(get(URL + "/search").param("q", " ")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Inbox requires admin authentication")
+    void requiresAdmin() throws Exception {
+        mockMvc.perform(get(URL)).andExpect(status().isUnauthorized());
+    }
+
+    private UUID insert(String name, String email, String status, String ip, int minutesAfterBase) {
+        return insert(name, email, status, ip, minutesAfterBase, "Body of " + name);
+    }
+
+    private UUID insert(String name, String email, String status, String ip, int minutesAfterBase, String body) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                        INSERT INTO portfolio.contact_message (id, name, email, subject, message, created_at, status, ip_address)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                        """,
+                id, name, email, "Hello", body,
+                OffsetDateTime.ofInstant(BASE.plusSeconds(60L * minutesAfterBase), ZoneOffset.UTC), status, ip);
+        return id;
+    }
+
+    private MockHttpServletRequestBuilder admin(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", testHelper.adminBearerToken());
+    }
+
+    private JsonNode read(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("data");
+    }
+}
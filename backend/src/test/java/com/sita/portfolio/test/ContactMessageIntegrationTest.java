@@ -0,0 +1,250 @@
+package com.sita.portfolio.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sita.portfolio.repository.ContactMessageRepository;
+import com.sita.portfolio.service.RecaptchaVerifier;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for public contact submissions.
+ * reCAPTCHA verification runs against a local stub server, so no network access is needed.
+ */
+@Import(TestConfig.class)
+class ContactMessageIntegrationTest extends AbstractIntegrationTest {
+
+    private static final HttpServer STUB = startStub();
+    private static final AtomicInteger VERIFY_CALLS = new AtomicInteger();
+    private static volatile String stubBody;
+    private static volatile long stubDelayMs;
+
+    private static final AtomicInteger CLIENT_IPS = new AtomicInteger();
+
+    @DynamicPropertySource
+    static void recaptchaProperties(DynamicPropertyRegistry registry) {
+        registry.add("recaptcha.secret", () -> "test-recaptcha-secret");
+        registry.add("app.recaptcha.verify-url",
+                () -> "http://localhost:" + STUB.getAddress().getPort() + "/siteverify");
+        registry.add("app.recaptcha.read-timeout", () -> "500ms");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ContactMessageRepository contactMessageRepository;
+
+    @Autowired
+    private RecaptchaVerifier recaptchaVerifier;
+
+    private String clientIp;
+
+    @BeforeEach
+    void setUp() {
+        contactMessageRepository.deleteAll();
+        VERIFY_CALLS.set(0);
+        stubBody = "{\"success\": true}";
+        stubDelayMs = 0;
+        // Each test gets its own client so rate-limit state does not leak between tests
+        clientIp = "198.51.100." + CLIENT_IPS.incrementAndGet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        contactMessageRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Verified submission is stored")
+    void verifiedSubmissionStored() throws Exception {
+        submit(message("token-ok")).andExpect(status().isOk());
+
+        assertThat(VERIFY_CALLS.get()).isEqualTo(1);
+        awaitStoredMessages(1);
+    }
+
+    @Test
+    @DisplayName("Rejected captcha returns 400 and stores nothing")
+    void rejectedCaptcha() throws Exception {
+        stubBody = "{\"success\": false, \"error-codes\": [\"invalid-input-response\"]}";
+
+        submit(message("token-bad")).andExpect(status().isBadRequest());
+
+        assertThat(contactMessageRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Slow verification endpoint times out with 503")
+    void slowVerificationTimesOut() throws Exception {
+        stubDelayMs = 2000;
+
+        submit(message("token-slow")).andExpect(status().isServiceUnavailable());
+
+        assertThat(contactMessageRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Verifications beyond the concurrency limit get 503 without calling reCAPTCHA")
+    void concurrencyLimit() {
+        stubDelayMs = 2000;
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            inFlight.add(recaptchaVerifier.verify("token-busy-" + i, clientIp));
+        }
+
+        CompletableFuture<Void> rejected = recaptchaVerifier.verify("token-over-limit", clientIp);
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(rejected).failsWithin(Duration.ZERO).withThrowableOfType(ExecutionException.class)
+                .havingCause().isInstanceOf(ResponseStatusException.class)
+                .matches(ex -> ((ResponseStatusException) ex).getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE);
+        inFlight.forEach(future -> assertThat(future).failsWithin(Duration.ofSeconds(5)));
+
+        // Permits come back once the timed-out calls finish
+        stubDelayMs = 0;
+        assertThat(recaptchaVerifier.verify("token-after-limit", clientIp)).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(VERIFY_CALLS.get()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("Honeypot rejects without calling reCAPTCHA")
+    void honeypotSkipsVerification() throws Exception {
+        Map<String, Object> body = message("token-honeypot");
+        body.put("honeypot", "I am a bot");
+
+        mockMvc.perform(post("/api/public/contact/messages")
+                        .header("X-Forwarded-For", clientIp)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andExpect(status().isBadRequest());
+
+        assertThat(VERIFY_CALLS.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Rate-limited submission is rejected without calling reCAPTCHA")
+    void rateLimitSkipsVerification() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            submit(message("token-" + i)).andExpect(status().isOk());
+        }
+
+        mockMvc.perform(post("/api/public/contact/messages")
+                        .header("X-Forwarded-For", clientIp)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(message("token-over-limit"))))
+                .andExpect(status().isTooManyRequests());
+
+        assertThat(VERIFY_CALLS.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("A token that went through is verified again when replayed")
+    void verifiedTokenNotReusable() throws Exception {
+        submit(message("token-replay")).andExpect(status().isOk());
+        stubBody = "{\"success\": false, \"error-codes\": [\"timeout-or-duplicate\"]}";
+        submit(message("token-replay")).andExpect(status().isBadRequest());
+
+        assertThat(VERIFY_CALLS.get()).isEqualTo(2);
+        awaitStoredMessages(1);
+    }
+
+    @Test
+    @DisplayName("A token whose submission was rejected downstream is accepted once more from the same client")
+    void rejectedSubmissionTokenRetriedOnce() throws Exception {
+        recaptchaVerifier.allowRetry("token-retry", clientIp);
+
+        submit(message("token-retry")).andExpect(status().isOk());
+        assertThat(VERIFY_CALLS.get()).isZero();
+
+        submit(message("token-retry")).andExpect(status().isOk());
+        assertThat(VERIFY_CALLS.get()).isEqualTo(1);
+        awaitStoredMessages(2);
+    }
+
+    private ResultActions submit(Map<String, Object> body) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/public/contact/messages")
+                        .header("X-Forwarded-For", clientIp)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private void awaitStoredMessages(long expected) {
+        // Messages are written by the background queue writer
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(contactMessageRepository.count()).isEqualTo(expected));
+    }
+
+    private Map<String, Object> message(String captchaToken) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", "Test Sender");
+        body.put("email", "sender@example.com");
+        body.put("subject", "Hello");
+        body.put("message", "Test message body");
+        body.put("captchaToken", captchaToken);
+        return body;
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/siteverify", exchange -> {
+                VERIFY_CALLS.incrementAndGet();
+                try {
+                    Thread.sleep(stubDelayMs);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                byte[] response = stubBody.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, response.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(response);
+                } catch (IOException ex) {
+                    // Client gave up after its read timeout
+                }
+            });
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            return server;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+}
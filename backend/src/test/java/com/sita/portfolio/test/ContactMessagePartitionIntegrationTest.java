@@ -0,0 +1,192 @@
+package com.sita.portfolio.test;
+
+import com.sita.portfolio.config.AppProperties;
+import com.sita.portfolio.model.entity.ContactMessage;
+import com.sita.portfolio.repository.ContactMessageRepository;
+import com.sita.portfolio.service.ContactMessagePartitionMaintainer;
+import com.sita.portfolio.service.ContactMessagePartitionMaintainer.MaintenanceReport;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the monthly contact_message partitions (V10) and their upkeep.
+ * Partitioning is PostgreSQL-only, so most tests are skipped on H2.
+ */
+@Import(TestConfig.class)
+class ContactMessagePartitionIntegrationTest extends AbstractIntegrationTest {
+
+    /** Far enough back that the months never collide with partitions made by V10. */
+    private static final YearMonth OLD = YearMonth.of(1999, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ContactMessageRepository contactMessageRepository;
+
+    @Autowired
+    private ContactMessagePartitionMaintainer maintainer;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestHelper testHelper;
+
+    @BeforeEach
+    void setUp() {
+        contactMessageRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        contactMessageRepository.deleteAll();
+        if (isUsingPostgres()) {
+            for (YearMonth month : List.of(OLD, OLD.plusMonths(1), OLD.plusMonths(14))) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS portfolio." + partition(month));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Maintenance is active exactly when running on PostgreSQL")
+    void activeOnlyOnPostgres() throws Exception {
+        assertThat(maintainer.isActive()).isEqualTo(isUsingPostgres());
+
+        mockMvc.perform(get("/api/admin/diag/contact-partitions")
+                        .header("Authorization", testHelper.adminBearerToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.active").value(isUsingPostgres()))
+                .andExpect(jsonPath("$.data.retainMonths").value(13));
+    }
+
+    @Test
+    @DisplayName("Entity writes land in the current month's partition and read back by id")
+    void entityRoundTripThroughPartitions() {
+        assumeTrue(isUsingPostgres(), "partitioning requires PostgreSQL");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT relkind FROM pg_class WHERE oid = 'portfolio.contact_message'::regclass", String.class))
+                .isEqualTo("p");
+
+        ContactMessage message = new ContactMessage();
+        message.setName("Ada");
+        message.setEmail("ada@example.com");
+        message.setMessage("Hello");
+        UUID id = contactMessageRepository.save(message).getId();
+
+        ContactMessage loaded = contactMessageRepository.findById(id).orElseThrow();
+        loaded.setStatus("read");
+        contactMessageRepository.save(loaded);
+
+        assertThat(contactMessageRepository.findById(id).orElseThrow().getStatus()).isEqualTo("read");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM portfolio.contact_message WHERE id = ?", String.class, id))
+                .isEqualTo("portfolio." + partition(YearMonth.now(ZoneOffset.UTC)));
+    }
+
+    @Test
+    @DisplayName("Maintenance creates partitions ahead of the current month")
+    void createsFuturePartitions() {
+        assumeTrue(isUsingPostgres(), "partitioning requires PostgreSQL");
+
+        MaintenanceReport report = maintainer(1, 1000).maintain(OLD);
+
+        assertThat(report.created()).containsExactly(partition(OLD), partition(OLD.plusMonths(1)));
+        assertThat(report.warnings()).isEmpty();
+        assertThat(attached()).contains(partition(OLD), partition(OLD.plusMonths(1)));
+        // Idempotent once the partitions exist
+        assertThat(maintainer(1, 1000).maintain(OLD).created()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("In drop mode expired partitions are dropped when empty and stay attached while they hold rows")
+    void expiresOldPartitions() {
+        assumeTrue(isUsingPostgres(), "partitioning requires PostgreSQL");
+        maintainer(1, 1000).maintain(OLD);
+        insertAt(OLD);
+
+        // Retaining 12 months from OLD + 14 expires both OLD partitions but none made by V10
+        MaintenanceReport report = maintainer(0, 12).maintain(OLD.plusMonths(14));
+
+        assertThat(report.detached()).isEmpty();
+        assertThat(report.dropped()).containsExactly(partition(OLD.plusMonths(1)));
+        assertThat(report.warnings()).anyMatch(warning -> warning.contains(partition(OLD)));
+        assertThat(attached()).contains(partition(OLD)).doesNotContain(partition(OLD.plusMonths(1)));
+        assertThat(contactMessageRepository.count()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NULL", Boolean.class, "portfolio." + partition(OLD.plusMonths(1)))).isTrue();
+    }
+
+    @Test
+    @DisplayName("In detach mode expired partitions are detached whole")
+    void detachesOldPartitions() {
+        assumeTrue(isUsingPostgres(), "partitioning requires PostgreSQL");
+        maintainer(1, 1000).maintain(OLD);
+        insertAt(OLD);
+
+        MaintenanceReport report = maintainer(0, 12, "detach").maintain(OLD.plusMonths(14));
+
+        assertThat(report.detached()).containsExactly(partition(OLD), partition(OLD.plusMonths(1)));
+        assertThat(attached()).doesNotContain(partition(OLD), partition(OLD.plusMonths(1)));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM portfolio." + partition(OLD), Long.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Rows in the default partition are moved into a partition for their month")
+    void movesRowsOutOfDefaultPartition() {
+        assumeTrue(isUsingPostgres(), "partitioning requires PostgreSQL");
+        insertAt(OLD);
+        assertThat(maintainer.status().defaultPartitionRows()).isEqualTo(1);
+
+        MaintenanceReport report = maintainer(0, 1000).maintain(YearMonth.now(ZoneOffset.UTC));
+
+        assertThat(report.moved()).containsExactly(partition(OLD) + " (1 rows)");
+        assertThat(maintainer.status().defaultPartitionRows()).isZero();
+        assertThat(attached()).contains(partition(OLD), "contact_message_default");
+        assertThat(contactMessageRepository.count()).isEqualTo(1);
+    }
+
+    private void insertAt(YearMonth month) {
+        jdbcTemplate.update("""
+                INSERT INTO portfolio.contact_message (name, email, message, created_at)
+                VALUES ('Ada', 'ada@example.com', 'Old', ?)
+                """, month.atDay(15).atStartOfDay().atOffset(ZoneOffset.UTC));
+    }
+
+    private ContactMessagePartitionMaintainer maintainer(int premakeMonths, int retainMonths) {
+        return maintainer(premakeMonths, retainMonths, "drop");
+    }
+
+    private ContactMessagePartitionMaintainer maintainer(int premakeMonths, int retainMonths, String expiredAction) {
+        AppProperties.ContactPartitions config = new AppProperties.ContactPartitions();
+        config.setPremakeMonths(premakeMonths);
+        config.setRetainMonths(retainMonths);
+        config.setExpiredAction(expiredAction);
+        return new ContactMessagePartitionMaintainer(jdbcTemplate, config);
+    }
+
+    private List<String> attached() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'portfolio.contact_message'::regclass
+                """, String.class);
+    }
+
+    private static String partition(YearMonth month) {
+        return "contact_message_p" + month.toString().replace("-", "");
+    }
+}
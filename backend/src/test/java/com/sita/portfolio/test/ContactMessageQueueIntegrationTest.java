@@ -0,0 +1,207 @@
+package com.sita.portfolio.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sita.portfolio.config.AppProperties;
+import com.sita.portfolio.repository.ContactMessageRepository;
+import com.sita.portfolio.service.ContactMessageQueue;
+import com.sita.portfolio.service.ContactMessageQueue.PendingMessage;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the contact message write-behind queue.
+ * Uses standalone queue instances so capacity and journal can be set per test.
+ */
+@Import(TestConfig.class)
+class ContactMessageQueueIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ContactMessageRepository contactMessageRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestHelper testHelper;
+
+    @TempDir
+    Path tempDir;
+
+    private ContactMessageQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        contactMessageRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.stop();
+        }
+        contactMessageRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Queued messages are batch-inserted by the writer")
+    void writerInsertsQueuedMessages() {
+        queue = newQueue(100, null);
+        queue.start();
+
+        for (int i = 0; i < 25; i++) {
+            queue.enqueue(pending("Sender " + i));
+        }
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(contactMessageRepository.count()).isEqualTo(25));
+        assertThat(queue.stats().written()).isEqualTo(25);
+        assertThat(queue.stats().depth()).isZero();
+    }
+
+    @Test
+    @DisplayName("Full queue rejects with 503 and Retry-After")
+    void fullQueueRejects() {
+        queue = newQueue(2, null);
+
+        queue.enqueue(pending("First"));
+        queue.enqueue(pending("Second"));
+
+        assertThatThrownBy(() -> queue.enqueue(pending("Third")))
+                .isInstanceOfSatisfying(ResponseStatusException.class, ex -> {
+                    assertThat(ex.getStatusCode().value()).isEqualTo(503);
+                    assertThat(ex.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isNotBlank();
+                });
+        assertThatThrownBy(() -> queue.ensureCapacity()).isInstanceOf(ResponseStatusException.class);
+        assertThat(queue.stats().rejected()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Journaled messages left by a crash are replayed on start")
+    void journalReplayedOnStart() throws Exception {
+        Path journal = tempDir.resolve("contact-queue.jsonl");
+        Files.writeString(journal, objectMapper.writeValueAsString(pending("Crashed")) + "\n");
+
+        queue = newQueue(10, journal);
+        queue.start();
+
+        assertThat(contactMessageRepository.count()).isEqualTo(1);
+        assertThat(Files.size(journal)).isZero();
+    }
+
+    @Test
+    @DisplayName("Replaying an already written message does not duplicate it")
+    void replayIsIdempotent() throws Exception {
+        Path journal = tempDir.resolve("contact-queue.jsonl");
+        String line = objectMapper.writeValueAsString(pending("Once")) + "\n";
+
+        Files.writeString(journal, line);
+        ContactMessageQueue first = newQueue(10, journal);
+        first.start();
+        first.stop();
+
+        Files.writeString(journal, line);
+        queue = newQueue(10, journal);
+        queue.start();
+
+        assertThat(contactMessageRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A row the database rejects is dead-lettered without blocking the rest of its batch")
+    void rejectedRowIsDeadLettered() throws Exception {
+        Path journal = tempDir.resolve("contact-queue.jsonl");
+        queue = newQueue(100, journal);
+        queue.start();
+
+        queue.enqueue(pending("Before"));
+        queue.enqueue(pending("Poison", "203.0.113.1,".repeat(10)));
+        queue.enqueue(pending("After"));
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(contactMessageRepository.count()).isEqualTo(2));
+        assertThat(queue.stats().deadLettered()).isEqualTo(1);
+        assertThat(Files.readString(tempDir.resolve("contact-queue.jsonl.rejected"))).contains("Poison");
+
+        queue.enqueue(pending("Later"));
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(contactMessageRepository.count()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("Journal at its size cap rejects with 503")
+    void fullJournalRejects() {
+        queue = newQueue(1000, tempDir.resolve("contact-queue.jsonl"), DataSize.ofKilobytes(1));
+        queue.start();
+
+        // The writer truncates the journal once it catches up, so submit faster than it writes
+        assertThatThrownBy(() -> {
+            for (int i = 0; i < 1000; i++) {
+                queue.enqueue(pending("Sender " + i));
+            }
+        }).isInstanceOfSatisfying(ResponseStatusException.class, ex ->
+                assertThat(ex.getStatusCode().value()).isEqualTo(503));
+        assertThat(queue.stats().rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Admin diagnostics expose queue depth and flush timings")
+    void diagnosticsEndpoint() throws Exception {
+        mockMvc.perform(get("/api/admin/diag/contact-queue")
+                        .header("Authorization", testHelper.adminBearerToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.depth").isNumber())
+                .andExpect(jsonPath("$.data.capacity").value(1000))
+                .andExpect(jsonPath("$.data.lastFlushMillis").isNumber());
+    }
+
+    private ContactMessageQueue newQueue(int capacity, Path journal) {
+        return newQueue(capacity, journal, DataSize.ofMegabytes(16));
+    }
+
+    private ContactMessageQueue newQueue(int capacity, Path journal, DataSize journalMaxSize) {
+        AppProperties.ContactQueue config = new AppProperties.ContactQueue();
+        config.setCapacity(capacity);
+        config.setBatchSize(10);
+        config.setFlushInterval(Duration.ofMillis(50));
+        config.setMaxRetryBackoff(Duration.ofMillis(500));
+        config.setJournal(journal != null ? journal.toString() : "");
+        config.setJournalMaxSize(journalMaxSize);
+        return new ContactMessageQueue(jdbcTemplate, objectMapper, config);
+    }
+
+    private PendingMessage pending(String name) {
+        return pending(name, "198.51.100.200");
+    }
+
+    private PendingMessage pending(String name, String ipAddress) {
+        return new PendingMessage(UUID.randomUUID(), name, "sender@example.com", "Subject",
+                "Body", OffsetDateTime.now(ZoneOffset.UTC), "JUnit", ipAddress);
+    }
+
+}
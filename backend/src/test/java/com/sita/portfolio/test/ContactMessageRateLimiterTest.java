@@ -0,0 +1,149 @@
+package com.sita.portfolio.test;
+
+import com.sita.portfolio.config.AppProperties;
+import com.sita.portfolio.service.ContactMessageRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the bounded sliding-window contact rate limiter.
+ */
+class ContactMessageRateLimiterTest {
+
+    private MutableClock clock;
+    private AppProperties.ContactRateLimit config;
+
+    @BeforeEach
+    void setUp() {
+        // Start of a window, so the previous window carries full weight
+        clock = new MutableClock(Instant.ofEpochMilli(Duration.ofMinutes(5).toMillis() * 1000));
+        config = new AppProperties.ContactRateLimit();
+        config.setMaxRequests(5);
+        config.setWindow(Duration.ofMinutes(5));
+        config.setMaxTrackedClients(1024);
+    }
+
+    @Test
+    @DisplayName("Allows up to the limit, then rejects within the window")
+    void rejectsOverLimit() {
+        ContactMessageRateLimiter limiter = new ContactMessageRateLimiter(config, clock);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.allow("203.0.113.1")).isTrue();
+        }
+        assertThat(limiter.allow("203.0.113.1")).isFalse();
+        assertThat(limiter.allow("203.0.113.2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Previous window counts decay as the window slides")
+    void slidingWindowDecays() {
+        ContactMessageRateLimiter limiter = new ContactMessageRateLimiter(config, clock);
+        for (int i = 0; i < 5; i++) {
+            limiter.allow("203.0.113.1");
+        }
+
+        clock.advance(Duration.ofMinutes(5));
+        assertThat(limiter.allow("203.0.113.1")).isFalse();
+
+        // 60% into the next window, previous count weighs 2
+        clock.advance(Duration.ofMinutes(3));
+        assertThat(limiter.allow("203.0.113.1")).isTrue();
+        assertThat(limiter.allow("203.0.113.1")).isTrue();
+        assertThat(limiter.allow("203.0.113.1")).isTrue();
+        assertThat(limiter.allow("203.0.113.1")).isFalse();
+
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(limiter.allow("203.0.113.1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Spoofed keys cannot grow memory or reset an active client")
+    void boundedUnderKeySpray() {
+        config.setMaxTrackedClients(64);
+        ContactMessageRateLimiter limiter = new ContactMessageRateLimiter(config, clock);
+        for (int i = 0; i < 5; i++) {
+            limiter.allow("203.0.113.1");
+        }
+
+        for (int i = 0; i < 100_000; i++) {
+            limiter.allow("198.51." + (i >> 8) + "." + (i & 0xFF));
+        }
+
+        // Sprayed keys each made one request, so the saturated client is never the eviction victim
+        assertThat(limiter.allow("203.0.113.1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Concurrent submissions never exceed the limit")
+    void concurrentSubmissionsRespectLimit() throws Exception {
+        config.setMaxRequests(50);
+        ContactMessageRateLimiter limiter = new ContactMessageRateLimiter(config, clock);
+        AtomicInteger allowed = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> {
+                if (limiter.allow("203.0.113.1")) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Rejects limits that do not fit the packed counters")
+    void rejectsInvalidLimits() {
+        config.setMaxRequests(256);
+        assertThatThrownBy(() -> new ContactMessageRateLimiter(config, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+    }
+
+}
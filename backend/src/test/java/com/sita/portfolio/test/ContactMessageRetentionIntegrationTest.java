@@ -0,0 +1,198 @@
+package com.sita.portfolio.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sita.portfolio.config.AppProperties;
+import com.sita.portfolio.repository.ContactMessageRepository;
+import com.sita.portfolio.service.ContactMessageRetention;
+import com.sita.portfolio.service.ContactMessageRetention.ArchivedMessage;
+import com.sita.portfolio.service.ContactMessageRetention.RunReport;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for contact message retention.
+ * Uses standalone instances so the archive directory and batch size can be set per test.
+ */
+@Import(TestConfig.class)
+class ContactMessageRetentionIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ContactMessageRepository contactMessageRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestHelper testHelper;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        contactMessageRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        contactMessageRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Old messages and aged archived messages move to monthly archive files")
+    void archivesDueMessages() throws IOException {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        UUID old = insert("new", now.minusDays(400));
+        UUID archived = insert("archived", now.minusDays(45));
+        UUID recentArchived = insert("archived", now.minusDays(5));
+        UUID recent = insert("read", now.minusDays(45));
+
+        RunReport report = retention(500).runNow();
+
+        assertThat(report.rowsMoved()).isEqualTo(2);
+        assertThat(report.complete()).isTrue();
+        assertThat(report.bytesReclaimed()).isPositive();
+        assertThat(report.archiveBytes()).isPositive();
+        assertThat(remainingIds()).containsExactlyInAnyOrder(recentArchived, recent);
+
+        List<ArchivedMessage> restored = readArchive();
+        assertThat(restored).extracting(ArchivedMessage::id).containsExactlyInAnyOrder(old, archived);
+        assertThat(restored).extracting(ArchivedMessage::message).containsOnly("Message body");
+        // 400 and 45 days ago always fall in different months
+        assertThat(report.files()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Rows are deleted in bounded batches and each batch appends a readable gzip member")
+    void deletesInBatches() throws IOException {
+        OffsetDateTime created = OffsetDateTime.of(2020, 3, 10, 12, 0, 0, 0, ZoneOffset.UTC);
+        for (int i = 0; i < 7; i++) {
+            insert("new", created.plusMinutes(i));
+        }
+
+        RunReport report = retention(3).runNow();
+
+        assertThat(report.batches()).isEqualTo(3);
+        assertThat(report.rowsMoved()).isEqualTo(7);
+        assertThat(report.files()).containsExactly("contact-messages-2020-03.ndjson.gz");
+        assertThat(readArchive()).hasSize(7);
+        assertThat(contactMessageRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Run stops at the batch limit and reports itself incomplete")
+    void stopsAtBatchLimit() {
+        AppProperties.ContactRetention config = config(2);
+        config.setMaxBatchesPerRun(1);
+        OffsetDateTime created = OffsetDateTime.of(2020, 3, 10, 12, 0, 0, 0, ZoneOffset.UTC);
+        for (int i = 0; i < 5; i++) {
+            insert("new", created.plusMinutes(i));
+        }
+
+        RunReport report = new ContactMessageRetention(jdbcTemplate, objectMapper, config).runNow();
+
+        assertThat(report.rowsMoved()).isEqualTo(2);
+        assertThat(report.complete()).isFalse();
+        assertThat(contactMessageRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Retention is off by default and refuses to run without an archive directory")
+    void requiresArchiveDir() throws Exception {
+        insert("new", OffsetDateTime.now(ZoneOffset.UTC).minusDays(400));
+
+        mockMvc.perform(post("/api/admin/contact-retention/run")
+                        .header("Authorization", testHelper.adminBearerToken()))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(get("/api/admin/contact-retention")
+                        .header("Authorization", testHelper.adminBearerToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.enabled").value(false))
+                .andExpect(jsonPath("$.data.statuses[0]").value("archived"));
+
+        mockMvc.perform(post("/api/admin/contact-retention/run"))
+                .andExpect(status().isUnauthorized());
+        assertThat(contactMessageRepository.count()).isEqualTo(1);
+
+        AppProperties.ContactRetention config = new AppProperties.ContactRetention();
+        config.setEnabled(true);
+        assertThatThrownBy(() -> new ContactMessageRetention(jdbcTemplate, objectMapper, config))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private ContactMessageRetention retention(int batchSize) {
+        return new ContactMessageRetention(jdbcTemplate, objectMapper, config(batchSize));
+    }
+
+    private AppProperties.ContactRetention config(int batchSize) {
+        AppProperties.ContactRetention config = new AppProperties.ContactRetention();
+        config.setArchiveDir(tempDir.toString());
+        config.setBatchSize(batchSize);
+        config.setBatchPause(Duration.ZERO);
+        return config;
+    }
+
+    private UUID insert(String status, OffsetDateTime createdAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                        INSERT INTO portfolio.contact_message (id, name, email, subject, message, created_at, status, ip_address)
+                        VALUES (?, 'Ada', 'ada@example.com', 'Hello', 'Message body', ?, ?, '203.0.113.1')
+                        """,
+                id, createdAt, status);
+        return id;
+    }
+
+    private List<UUID> remainingIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM portfolio.contact_message", UUID.class);
+    }
+
+    /**
+     * Reads every archive file; GZIPInputStream continues across concatenated members.
+     */
+    private List<ArchivedMessage> readArchive() throws IOException {
+        List<ArchivedMessage> messages = new ArrayList<>();
+        try (var files = Files.list(tempDir)) {
+            for (Path file : files.toList()) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                        new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        messages.add(objectMapper.readValue(line, ArchivedMessage.class));
+                    }
+                }
+            }
+        }
+        return messages;
+    }
+}
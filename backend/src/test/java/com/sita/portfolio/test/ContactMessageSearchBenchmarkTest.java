@@ -0,0 +1,126 @@
+package com.sita.portfolio.test;
+
+import com.sita.portfolio.repository.ContactMessageInboxRepository;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Benchmarks inbox search as the table grows to one million synthetic messages:
+ * a selective query must stay on the GIN index, and neither it nor a term matching
+ * every row may get slower as the table grows, since only the newest
+ * {@link ContactMessageInboxRepository#MAX_RANKED_MATCHES} matches are ranked. Seeding takes minutes, so the test only runs on PostgreSQL with
+ * {@code -Dbenchmark.search=true}.
+ */
+@Import(TestConfig.class)
+class ContactMessageSearchBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ContactMessageSearchBenchmarkTest.class);
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int NEEDLES = 50;
+    private static final int RUNS = 30;
+
+    @Autowired
+    private ContactMessageInboxRepository inboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(isUsingPostgres(), "tsvector search requires PostgreSQL");
+        assumeTrue(Boolean.getBoolean("benchmark.search"), "enable with -Dbenchmark.search=true");
+        jdbcTemplate.update("DELETE FROM portfolio.contact_message");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (isUsingPostgres()) {
+            jdbcTemplate.update("DELETE FROM portfolio.contact_message");
+        }
+    }
+
+    @Test
+    @DisplayName("Selective and common-term search latency stays flat from 10k to 1M messages")
+    void searchLatencyIsFlat() {
+        // A fixed number of rows carry the search term, so only table size varies
+        jdbcTemplate.update("""
+                INSERT INTO portfolio.contact_message (name, email, subject, message, status)
+                SELECT 'Needle ' || g, 'needle' || g || '@example.com', 'Kumquat question',
+                       'Do you know anything about kumquat farming?', 'new'
+                FROM generate_series(1, ?) g
+                """, NEEDLES);
+
+        Map<Integer, Double> medianBySize = new LinkedHashMap<>();
+        Map<Integer, Double> commonBySize = new LinkedHashMap<>();
+        int seeded = 0;
+        for (int size : SIZES) {
+            seed(seeded + 1, size);
+            seeded = size;
+            jdbcTemplate.execute("ANALYZE portfolio.contact_message");
+
+            double median = medianMillis(() -> inboxRepository.search("kumquat", null, 21));
+            double common = medianMillis(() -> inboxRepository.search("portfolio", null, 21));
+            medianBySize.put(size, median);
+            commonBySize.put(size, common);
+            log.info("search rows={} selective={}ms common={}ms", size,
+                    String.format("%.2f", median), String.format("%.2f", common));
+        }
+
+        String plan = String.join("\n", jdbcTemplate.queryForList("""
+                EXPLAIN SELECT id FROM portfolio.contact_message, websearch_to_tsquery('english', 'kumquat') AS query
+                WHERE search_vector @@ query
+                """, String.class));
+        assertThat(plan).contains("idx_contact_message_search");
+
+        // Allow noise on tiny timings; a table scan at 1M rows would be orders of magnitude slower
+        assertFlat(medianBySize);
+        // Every row matches, so ranking all matches would grow a hundredfold
+        assertFlat(commonBySize);
+    }
+
+    private static void assertFlat(Map<Integer, Double> medianBySize) {
+        double smallest = medianBySize.get(SIZES[0]);
+        double largest = medianBySize.get(SIZES[SIZES.length - 1]);
+        assertThat(largest).isLessThan(Math.max(smallest * 3, smallest + 20));
+    }
+
+    private void seed(int from, int to) {
+        jdbcTemplate.update("""
+                INSERT INTO portfolio.contact_message (name, email, subject, message, created_at, status, ip_address)
+                SELECT 'Sender ' || g, 'sender' || g || '@example.com', 'Question ' || (g % 500),
+                       'Hello, I ' || (ARRAY['liked', 'enjoyed', 'admired', 'reviewed'])[1 + g % 4]
+                           || ' the ' || (ARRAY['projects', 'resume', 'blog', 'talks'])[1 + (g / 4) % 4]
+                           || ' on your portfolio.',
+                       now() - g * interval '1 second',
+                       (ARRAY['new', 'read', 'archived'])[1 + g % 3],
+                       '10.0.' || (g % 250) || '.' || (g % 200)
+                FROM generate_series(?, ?) g
+                """, from, to);
+    }
+
+    private static double medianMillis(Runnable search) {
+        for (int i = 0; i < 5; i++) {
+            search.run();
+        }
+        double[] samples = new double[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long started = System.nanoTime();
+            search.run();
+            samples[i] = (System.nanoTime() - started) / 1_000_000.0;
+        }
+        Arrays.sort(samples);
+        return samples[RUNS / 2];
+    }
+}
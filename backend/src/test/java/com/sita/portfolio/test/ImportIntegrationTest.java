@@ -1,19 +1,33 @@
 package com.sita.portfolio.test;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sita.portfolio.config.AppProperties;
+import com.sita.portfolio.config.BackgroundThreads;
+import com.sita.portfolio.exception.BadRequestException;
 import com.sita.portfolio.model.dto.request.ImportResumeRequest;
 import com.sita.portfolio.model.dto.request.ImportResumeRequest.*;
 import com.sita.portfolio.repository.*;
+import com.sita.portfolio.model.dto.response.ImportJobResponse;
+import com.sita.portfolio.service.ImportJobService;
+import com.sita.portfolio.service.ImportService;
 import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -30,6 +44,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @Import(TestConfig.class)
 class ImportIntegrationTest extends AbstractIntegrationTest {
 
+    private static final Logger log = LoggerFactory.getLogger(ImportIntegrationTest.class);
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -60,6 +76,15 @@ class ImportIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private ContactSettingsRepository contactSettingsRepository;
 
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void setUp() {
         testHelper.clearAllData();
@@ -435,8 +460,469 @@ class ImportIntegrationTest extends AbstractIntegrationTest {
         assertThat(experienceRepository.findAll().get(0).getCompany()).isEqualTo("Existing");
     }
 
+    @Test
+    @DisplayName("Import is atomic - a database error in a later section rolls back earlier sections")
+    void importIsAtomicOnDatabaseError() {
+        testHelper.createExperience("Existing", "Dev", 1, true);
+
+        // Duplicate slugs violate the unique constraint after experiences were replaced
+        ImportResumeRequest request = ImportResumeRequest.builder()
+                .experiences(List.of(
+                        ExperienceImport.builder()
+                                .company("New Company")
+                                .role("Role")
+                                .startDate(LocalDate.of(2024, 1, 1))
+                                .build()
+                ))
+                .projects(List.of(
+                        ProjectImport.builder().title("Same").slug("same").build(),
+                        ProjectImport.builder().title("Same").slug("same").build()
+                ))
+                .build();
+
+        assertThatThrownBy(() -> importService.importResume(request))
+                .isInstanceOf(DataAccessException.class);
+
+        assertThat(experienceRepository.count()).isEqualTo(1);
+        assertThat(experienceRepository.findAll().get(0).getCompany()).isEqualTo("Existing");
+        assertThat(projectRepository.count()).isZero();
+    }
+
+    // ===== Bulk Import =====
+
+    @Test
+    @DisplayName("Large import with tens of thousands of bullets is batch-inserted")
+    void largeImport() {
+        int projects = 100;
+        int bulletsPerProject = 200;
+
+        List<ProjectImport> projectImports = new ArrayList<>();
+        for (int p = 0; p < projects; p++) {
+            List<BulletImport> bullets = new ArrayList<>();
+            for (int b = 0; b < bulletsPerProject; b++) {
+                bullets.add(BulletImport.builder().content("Bullet " + b).build());
+            }
+            projectImports.add(ProjectImport.builder()
+                    .title("Project " + p)
+                    .published(true)
+                    .bullets(bullets)
+                    .build());
+        }
+
+        long started = System.nanoTime();
+        var result = importService.importResume(ImportResumeRequest.builder().projects(projectImports).build());
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("import projects={} bullets={} elapsedMs={}", projects, projects * bulletsPerProject, elapsedMillis);
+
+        assertThat(result.getCounts().getProjects()).isEqualTo(projects);
+        assertThat(result.getCounts().getProjectBullets()).isEqualTo(projects * bulletsPerProject);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM portfolio.project_bullet", Long.class))
+                .isEqualTo(projects * bulletsPerProject);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT MAX(sort_order) FROM portfolio.project_bullet", Integer.class))
+                .isEqualTo(bulletsPerProject);
+        assertThat(projectRepository.findBySlug("project-99")).isPresent();
+    }
+
+    // ===== Streaming Import =====
+
+    @Test
+    @DisplayName("Streaming import accepts the same document as the bound import")
+    void streamingImportMatchesBoundImport() throws Exception {
+        ImportResumeRequest request = createFullImportRequest();
+
+        mockMvc.perform(post("/api/admin/import/stream")
+                        .header("Authorization", testHelper.adminBearerToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.success").value(true))
+                .andExpect(jsonPath("$.data.counts.experiences").value(2))
+                .andExpect(jsonPath("$.data.counts.experienceBullets").value(3))
+                .andExpect(jsonPath("$.data.counts.projects").value(2))
+                .andExpect(jsonPath("$.data.counts.projectBullets").value(2))
+                .andExpect(jsonPath("$.data.counts.skillCategories").value(2))
+                .andExpect(jsonPath("$.data.counts.skillItems").value(4))
+                .andExpect(jsonPath("$.data.counts.education").value(1))
+                .andExpect(jsonPath("$.data.counts.certifications").value(1))
+                .andExpect(jsonPath("$.data.counts.profileUpdated").value(true))
+                .andExpect(jsonPath("$.data.counts.contactSettingsUpdated").value(true));
+
+        assertThat(profileRepository.findProfile()).isPresent();
+        assertThat(experienceRepository.count()).isEqualTo(2);
+        assertThat(projectRepository.count()).isEqualTo(2);
+        assertThat(projectRepository.findAll()).allSatisfy(project -> assertThat(project.getSlug()).isNotBlank());
+    }
+
+    @Test
+    @DisplayName("Streaming import rejects an invalid record and rolls back earlier sections")
+    void streamingImportValidatesEachRecord() throws Exception {
+        testHelper.createExperience("Existing", "Dev", 1, true);
+
+        String body = """
+                {
+                  "experiences": [
+                    {"company": "Valid", "role": "Dev", "startDate": "2024-01-01"},
+                    {"company": "", "role": "Dev", "startDate": "2024-01-01"}
+                  ]
+                }
+                """;
+
+        mockMvc.perform(post("/api/admin/import/stream")
+                        .header("Authorization", testHelper.adminBearerToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors[0].field").value("experiences[1].company"));
+
+        assertThat(experienceRepository.count()).isEqualTo(1);
+        assertThat(experienceRepository.findAll().get(0).getCompany()).isEqualTo("Existing");
+    }
+
+    @Test
+    @DisplayName("Streaming import rejects malformed JSON")
+    void streamingImportRejectsMalformedJson() throws Exception {
+        mockMvc.perform(post("/api/admin/import/stream")
+                        .header("Authorization", testHelper.adminBearerToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"experiences\": [{\"company\": "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Streaming import handles a large payload")
+    void streamingImportLargePayload() throws Exception {
+        int projects = 50;
+        int bulletsPerProject = 400;
+
+        StringBuilder body = new StringBuilder("{\"projects\": [");
+        for (int p = 0; p < projects; p++) {
+            body.append(p == 0 ? "" : ",").append("{\"title\": \"Project ").append(p).append("\", \"bullets\": [");
+            for (int b = 0; b < bulletsPerProject; b++) {
+                body.append(b == 0 ? "" : ",").append("{\"content\": \"Bullet ").append(b).append("\"}");
+            }
+            body.append("]}");
+        }
+        body.append("]}");
+
+        mockMvc.perform(post("/api/admin/import/stream")
+                        .header("Authorization", testHelper.adminBearerToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.counts.projects").value(projects))
+                .andExpect(jsonPath("$.data.counts.projectBullets").value(projects * bulletsPerProject));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM portfolio.project_bullet", Long.class))
+                .isEqualTo(projects * bulletsPerProject);
+    }
+
+    // ===== Differential Import =====
+
+    @Test
+    @DisplayName("Merging an identical document leaves every row untouched")
+    void mergeIdenticalIsNoOp() {
+        importService.importResume(createFullImportRequest());
+        List<UUID> experienceIds = ids("portfolio.experience");
+        List<UUID> bulletIds = ids("portfolio.experience_bullet");
+
+        var result = importService.importResume(createFullImportRequest(), ImportService.Mode.MERGE);
+
+        assertThat(result.getMode()).isEqualTo("merge");
+        assertThat(result.getCounts().getExperiences()).isEqualTo(2);
+        assertThat(result.getCounts().getExperienceBullets()).isEqualTo(3);
+        assertThat(result.getChanges()).containsOnlyKeys(
+                "experiences", "projects", "skillCategories", "education", "certifications");
+        assertThat(result.getChanges().values()).allSatisfy(changes -> {
+            assertThat(changes.getInserted()).isZero();
+            assertThat(changes.getUpdated()).isZero();
+            assertThat(changes.getDeleted()).isZero();
+            assertThat(changes.getUnchanged()).isPositive();
+        });
+        assertThat(ids("portfolio.experience")).isEqualTo(experienceIds);
+        assertThat(ids("portfolio.experience_bullet")).isEqualTo(bulletIds);
+    }
+
+    @Test
+    @DisplayName("Merge inserts, updates and deletes by natural key and keeps matched IDs")
+    void mergeAppliesDiff() {
+        importService.importResume(createFullImportRequest());
+        UUID companyA = experienceId("Company A");
+        UUID projectA = projectRepository.findBySlug("project-a").orElseThrow().getId();
+        List<UUID> projectBulletIds = ids("portfolio.project_bullet");
+
+        ImportResumeRequest changed = createFullImportRequest();
+        changed.setExperiences(List.of(
+                ExperienceImport.builder()
+                        .company("Company A")
+                        .role("Senior Dev")
+                        .startDate(LocalDate.of(2023, 1, 1))
+                        .published(true)
+                        .bullets(List.of(
+                                BulletImport.builder().content("Bullet 1").build(),
+                                BulletImport.builder().content("Bullet 2 revised").build()
+                        ))
+                        .build(),
+                ExperienceImport.builder()
+                        .company("Company C")
+                        .role("Lead")
+                        .startDate(LocalDate.of(2024, 1, 1))
+                        .build()
+        ));
+        changed.getProjects().get(0).setDescription("Description A revised");
+
+        var result = importService.importResume(changed, ImportService.Mode.MERGE);
+
+        var experiences = result.getChanges().get("experiences");
+        assertThat(experiences.getInserted()).isEqualTo(1);
+        assertThat(experiences.getUpdated()).isEqualTo(1);
+        assertThat(experiences.getDeleted()).isEqualTo(1);
+        assertThat(experiences.getUnchanged()).isZero();
+        var projects = result.getChanges().get("projects");
+        assertThat(projects.getUpdated()).isEqualTo(1);
+        assertThat(projects.getUnchanged()).isEqualTo(1);
+        assertThat(result.getChanges().get("education").getUnchanged()).isEqualTo(1);
+
+        assertThat(experienceId("Company A")).isEqualTo(companyA);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT content FROM portfolio.experience_bullet WHERE experience_id = ? ORDER BY sort_order",
+                String.class, companyA))
+                .containsExactly("Bullet 1", "Bullet 2 revised");
+        assertThat(jdbcTemplate.queryForList("SELECT company FROM portfolio.experience ORDER BY sort_order",
+                String.class))
+                .containsExactly("Company A", "Company C");
+
+        // Project A's row is updated in place and its unchanged bullets are not rewritten
+        assertThat(projectRepository.findBySlug("project-a").orElseThrow().getId()).isEqualTo(projectA);
+        assertThat(projectRepository.findBySlug("project-a").orElseThrow().getDescription())
+                .isEqualTo("Description A revised");
+        assertThat(ids("portfolio.project_bullet")).isEqualTo(projectBulletIds);
+    }
+
+    @Test
+    @DisplayName("Merge reports a moved record as updated")
+    void mergeReordersRecords() {
+        importService.importResume(createFullImportRequest());
+
+        ImportResumeRequest reordered = createFullImportRequest();
+        reordered.setSkillCategories(List.of(
+                reordered.getSkillCategories().get(1), reordered.getSkillCategories().get(0)));
+
+        var result = importService.importResume(reordered, ImportService.Mode.MERGE);
+
+        assertThat(result.getChanges().get("skillCategories").getUpdated()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT name FROM portfolio.skill_category ORDER BY sort_order",
+                String.class))
+                .containsExactly("Frameworks", "Languages");
+    }
+
+    @Test
+    @DisplayName("Merge rejects records sharing a natural key")
+    void mergeRejectsDuplicateKeys() {
+        ImportResumeRequest request = ImportResumeRequest.builder()
+                .education(List.of(
+                        EducationImport.builder().institution("Uni").degree("BS").startYear(2015).build(),
+                        EducationImport.builder().institution("Uni").degree("BS").startYear(2016).build()
+                ))
+                .build();
+
+        assertThatThrownBy(() -> importService.importResume(request, ImportService.Mode.MERGE))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Duplicate education");
+        assertThat(educationRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Streaming import supports merge mode and rejects unknown modes")
+    void streamingMergeMode() throws Exception {
+        importService.importResume(createFullImportRequest());
+
+        mockMvc.perform(post("/api/admin/import/stream")
+                        .param("mode", "merge")
+                        .header("Authorization", testHelper.adminBearerToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createFullImportRequest())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.mode").value("merge"))
+                .andExpect(jsonPath("$.data.changes.projects.unchanged").value(2))
+                .andExpect(jsonPath("$.data.changes.projects.inserted").value(0));
+
+        mockMvc.perform(post("/api/admin/import")
+                        .param("mode", "upsert")
+                        .header("Authorization", testHelper.adminBearerToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ===== Import Jobs =====
+
+    @Test
+    @DisplayName("Async import returns a job ID and the job can be polled to completion")
+    void asyncImportJob() throws Exception {
+        String response = mockMvc.perform(post("/api/admin/import")
+                        .param("async", "true")
+                        .param("mode", "merge")
+                        .header("Authorization", testHelper.adminBearerToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createFullImportRequest())))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", startsWith("/api/admin/import/jobs/")))
+                .andExpect(jsonPath("$.data.mode").value("merge"))
+                .andReturn().getResponse().getContentAsString();
+        String jobId = objectMapper.readTree(response).path("data").path("id").asText();
+
+        String status = "queued";
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!status.equals("succeeded") && !status.equals("failed") && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            String poll = mockMvc.perform(get("/api/admin/import/jobs/{id}", jobId)
+                            .header("Authorization", testHelper.adminBearerToken()))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            status = objectMapper.readTree(poll).path("data").path("status").asText();
+        }
+
+        mockMvc.perform(get("/api/admin/import/jobs/{id}", jobId)
+                        .header("Authorization", testHelper.adminBearerToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("succeeded"))
+                .andExpect(jsonPath("$.data.progress.experiences.processed").value(2))
+                .andExpect(jsonPath("$.data.progress.experiences.total").value(2))
+                .andExpect(jsonPath("$.data.result.counts.projects").value(2))
+                .andExpect(jsonPath("$.data.result.changes.projects.inserted").value(2));
+        assertThat(experienceRepository.count()).isEqualTo(2);
+
+        // Job state is stored, so another instance can answer the poll
+        ImportJobService otherInstance = new ImportJobService(new AppProperties.ImportJobs(), BackgroundThreads.PLATFORM,
+                jdbcTemplate, transactionManager, objectMapper);
+        try {
+            ImportJobResponse stored = otherInstance.getJob(UUID.fromString(jobId));
+            assertThat(stored.getStatus()).isEqualTo("succeeded");
+            assertThat(stored.getProgress().get("experiences").getProcessed()).isEqualTo(2);
+            assertThat(stored.getResult().getCounts().getProjects()).isEqualTo(2);
+        } finally {
+            otherInstance.shutdown();
+        }
+
+        mockMvc.perform(get("/api/admin/import/jobs/{id}", UUID.randomUUID())
+                        .header("Authorization", testHelper.adminBearerToken()))
+                .andExpect(status().isNotFound());
+    }
+
+    // ===== Dry Run =====
+
+    @Test
+    @DisplayName("Dry run reports the expected diff without writing")
+    void dryRunReportsDiffWithoutWriting() {
+        importService.importResume(createFullImportRequest());
+        List<UUID> experienceIds = ids("portfolio.experience");
+
+        ImportResumeRequest changed = createFullImportRequest();
+        changed.setExperiences(List.of(
+                changed.getExperiences().get(0),
+                ExperienceImport.builder()
+                        .company("Company C")
+                        .role("Lead")
+                        .startDate(LocalDate.of(2024, 1, 1))
+                        .build()
+        ));
+        changed.getExperiences().get(0).setLocation("Remote");
+
+        var report = importService.dryRun(changed, ImportService.Mode.MERGE);
+
+        assertThat(report.isValid()).isTrue();
+        var experiences = report.getSections().get("experiences");
+        assertThat(experiences.getInserted()).isEqualTo(1);
+        assertThat(experiences.getUpdated()).isEqualTo(1);
+        assertThat(experiences.getDeleted()).isEqualTo(1);
+        assertThat(experiences.getRecords()).isEqualTo(2);
+        assertThat(experiences.getElapsedMillis()).isNotNegative();
+        assertThat(report.getSections().get("projects").getUnchanged()).isEqualTo(2);
+        assertThat(report.getSections()).containsKeys("profile", "contactSettings");
+
+        var replace = importService.dryRun(createFullImportRequest(), ImportService.Mode.REPLACE);
+        assertThat(replace.getSections().get("experiences").getDeleted()).isEqualTo(2);
+        assertThat(replace.getSections().get("experiences").getInserted()).isEqualTo(2);
+
+        assertThat(ids("portfolio.experience")).isEqualTo(experienceIds);
+        assertThat(jdbcTemplate.queryForList("SELECT company FROM portfolio.experience ORDER BY sort_order",
+                String.class))
+                .containsExactly("Company A", "Company B");
+    }
+
+    @Test
+    @DisplayName("Dry run lists validation errors, slug collisions, column overflows and sort-order gaps")
+    void dryRunReportsProblems() throws Exception {
+        testHelper.createEducation("Old University", "BS", 3, true);
+        testHelper.createEducation("Older University", "MS", 7, true);
+
+        ImportResumeRequest request = ImportResumeRequest.builder()
+                .experiences(List.of(
+                        ExperienceImport.builder().company("").role("Dev").startDate(LocalDate.of(2024, 1, 1)).build()
+                ))
+                .projects(List.of(
+                        ProjectImport.builder().title("Same Title").build(),
+                        ProjectImport.builder().title("Same  title!").build()
+                ))
+                .education(List.of(
+                        EducationImport.builder()
+                                .institution("Uni")
+                                .degree("BS")
+                                .startYear(2015)
+                                .gpa("3.9 out of 4.0 overall, magna")
+                                .build()
+                ))
+                .build();
+
+        mockMvc.perform(post("/api/admin/import/dry-run")
+                        .header("Authorization", testHelper.adminBearerToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.mode").value("replace"))
+                .andExpect(jsonPath("$.data.valid").value(false))
+                .andExpect(jsonPath("$.data.sections.experiences.issues[0].field").value("experiences[0].company"))
+                .andExpect(jsonPath("$.data.sections.projects.issues[0].field").value("projects[1].slug"))
+                .andExpect(jsonPath("$.data.sections.projects.issues[0].message", containsString("same-title")))
+                .andExpect(jsonPath("$.data.sections.education.issues[*].message",
+                        hasItem("29 characters exceeds column size 20")))
+                .andExpect(jsonPath("$.data.sections.education.sortOrderGaps").value(1))
+                .andExpect(jsonPath("$.data.sections.education.deleted").value(2));
+
+        assertThat(experienceRepository.count()).isZero();
+        assertThat(educationRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Dry run reports null records as issues instead of failing")
+    void dryRunReportsNullRecords() throws Exception {
+        String body = """
+                {"projects": [null, {"title": "Kept", "bullets": [null]}], "education": [null]}
+                """;
+
+        mockMvc.perform(post("/api/admin/import/dry-run")
+                        .header("Authorization", testHelper.adminBearerToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.valid").value(false))
+                .andExpect(jsonPath("$.data.sections.projects.issues[*].field",
+                        containsInAnyOrder("projects[0]", "projects[1].bullets[0]")))
+                .andExpect(jsonPath("$.data.sections.education.issues[0].field").value("education[0]"));
+    }
+
     // ===== Helper Methods =====
 
+    private List<UUID> ids(String table) {
+        return jdbcTemplate.queryForList("SELECT id FROM " + table + " ORDER BY id", UUID.class);
+    }
+
+    private UUID experienceId(String company) {
+        return jdbcTemplate.queryForObject(
+                "SELECT id FROM portfolio.experience WHERE company = ?", UUID.class, company);
+    }
+
     private ImportResumeRequest createFullImportRequest() {
         return ImportResumeRequest.builder()
                 .profile(ProfileImport.builder()
@@ -0,0 +1,157 @@
+package com.sita.portfolio.test;
+
+import com.sita.portfolio.config.AppProperties;
+import com.sita.portfolio.exception.BadRequestException;
+import com.sita.portfolio.exception.ResourceNotFoundException;
+import com.sita.portfolio.model.dto.response.ImportJobResponse;
+import com.sita.portfolio.model.dto.response.ImportResultResponse;
+import com.sita.portfolio.service.ImportJobService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for background import jobs and the single-import permit.
+ */
+class ImportJobServiceTest {
+
+    private AppProperties.ImportJobs config;
+    private ImportJobService jobs;
+
+    @BeforeEach
+    void setUp() {
+        config = new AppProperties.ImportJobs();
+        jobs = new ImportJobService(config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobs.shutdown();
+    }
+
+    @Test
+    @DisplayName("A job reports per-section progress and its final result")
+    void reportsProgressAndResult() throws Exception {
+        CountDownLatch halfway = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+
+        ImportJobResponse queued = jobs.submit("replace", progress -> {
+            progress.sectionStarted("projects", 3);
+            progress.recordProcessed("projects");
+            progress.recordProcessed("projects");
+            halfway.countDown();
+            await(resume);
+            progress.recordProcessed("projects");
+            return ImportResultResponse.success("replace", null, Map.of());
+        });
+        assertThat(queued.getStatus()).isIn("queued", "running");
+
+        assertThat(halfway.await(5, TimeUnit.SECONDS)).isTrue();
+        ImportJobResponse running = jobs.getJob(queued.getId());
+        assertThat(running.getStatus()).isEqualTo("running");
+        assertThat(running.getProgress().get("projects").getProcessed()).isEqualTo(2);
+        assertThat(running.getProgress().get("projects").getTotal()).isEqualTo(3);
+        assertThat(running.getResult()).isNull();
+
+        resume.countDown();
+        ImportJobResponse finished = awaitFinished(queued.getId());
+        assertThat(finished.getStatus()).isEqualTo("succeeded");
+        assertThat(finished.getProgress().get("projects").getProcessed()).isEqualTo(3);
+        assertThat(finished.getResult().isSuccess()).isTrue();
+        assertThat(finished.getFinishedAt()).isAfterOrEqualTo(finished.getStartedAt());
+    }
+
+    @Test
+    @DisplayName("Only one import runs at a time")
+    void oneImportAtATime() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ImportJobResponse first = jobs.submit("replace", progress -> {
+            await(release);
+            return ImportResultResponse.success("replace", null, Map.of());
+        });
+
+        assertThatThrownBy(() -> jobs.submit("merge", progress -> null))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        assertThatThrownBy(() -> jobs.runExclusive(() -> "sync"))
+                .isInstanceOf(ResponseStatusException.class);
+
+        release.countDown();
+        awaitFinished(first.getId());
+        assertThat(jobs.runExclusive(() -> "sync")).isEqualTo("sync");
+    }
+
+    @Test
+    @DisplayName("A failed job reports the error and frees the permit")
+    void failedJobReleasesPermit() throws Exception {
+        ImportJobResponse job = jobs.submit("merge", progress -> {
+            throw new BadRequestException("Duplicate project in import: a", "projects[1]");
+        });
+
+        ImportJobResponse finished = awaitFinished(job.getId());
+        assertThat(finished.getStatus()).isEqualTo("failed");
+        assertThat(finished.getError()).contains("Duplicate project");
+        assertThat(finished.getResult()).isNull();
+        assertThat(jobs.runExclusive(() -> "next")).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("A job that dies with an Error still finishes as failed and frees the permit")
+    void errorFinishesJob() throws Exception {
+        ImportJobResponse job = jobs.submit("replace", progress -> {
+            throw new StackOverflowError();
+        });
+
+        ImportJobResponse finished = awaitFinished(job.getId());
+        assertThat(finished.getStatus()).isEqualTo("failed");
+        assertThat(finished.getError()).isNotBlank();
+        assertThat(finished.getFinishedAt()).isNotNull();
+        assertThat(jobs.runExclusive(() -> "next")).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("Unknown and evicted jobs are not found")
+    void evictsOldestFinishedJobs() throws Exception {
+        config.setMaxRetained(1);
+        ImportJobResponse first = jobs.submit("replace", progress -> null);
+        awaitFinished(first.getId());
+        ImportJobResponse second = jobs.submit("replace", progress -> null);
+        awaitFinished(second.getId());
+
+        assertThatThrownBy(() -> jobs.getJob(first.getId())).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> jobs.getJob(UUID.randomUUID())).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(jobs.getJob(second.getId()).getStatus()).isEqualTo("succeeded");
+    }
+
+    private ImportJobResponse awaitFinished(UUID id) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            ImportJobResponse job = jobs.getJob(id);
+            if (job.getStatus().equals("succeeded") || job.getStatus().equals("failed")) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Import job " + id + " did not finish");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.sita.portfolio.test;
+
+import com.sita.portfolio.config.AppProperties;
+import com.sita.portfolio.security.JwtAuthenticationFilter.JwtAuthenticatedUser;
+import com.sita.portfolio.security.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for JWT verification and the verified-principal cache.
+ */
+class JwtTokenProviderTest {
+
+    private AppProperties appProperties;
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        appProperties = new AppProperties();
+        appProperties.getJwt().setSecret("test-secret-key-that-is-at-least-32-characters-long");
+        appProperties.getJwt().setExpirationMs(60_000);
+        appProperties.getJwt().setClaimsCacheSize(4);
+        provider = new JwtTokenProvider(appProperties);
+    }
+
+    @Test
+    @DisplayName("Valid token authenticates to its principal")
+    void validTokenAuthenticates() {
+        UUID userId = UUID.randomUUID();
+        String token = provider.generateAccessToken(userId, "admin@example.com", "ADMIN");
+
+        Optional<JwtAuthenticatedUser> user = provider.authenticate(token);
+
+        assertThat(user).contains(new JwtAuthenticatedUser(userId, "admin@example.com", "ADMIN"));
+    }
+
+    @Test
+    @DisplayName("Repeated authentication is served from the cache")
+    void repeatedAuthenticationCached() {
+        String token = provider.generateAccessToken(UUID.randomUUID(), "admin@example.com", "ADMIN");
+
+        JwtAuthenticatedUser first = provider.authenticate(token).orElseThrow();
+        JwtAuthenticatedUser second = provider.authenticate(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Tampered token is rejected")
+    void tamperedTokenRejected() {
+        String token = provider.generateAccessToken(UUID.randomUUID(), "admin@example.com", "ADMIN");
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(provider.authenticate(tampered)).isEmpty();
+        assertThat(provider.validateToken(tampered)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Token signed with another key is rejected")
+    void foreignKeyRejected() {
+        AppProperties other = new AppProperties();
+        other.getJwt().setSecret("another-secret-key-that-is-at-least-32-characters");
+        String token = new JwtTokenProvider(other)
+                .generateAccessToken(UUID.randomUUID(), "admin@example.com", "ADMIN");
+
+        assertThat(provider.authenticate(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Expired token is rejected")
+    void expiredTokenRejected() {
+        appProperties.getJwt().setExpirationMs(-1_000);
+        String token = provider.generateAccessToken(UUID.randomUUID(), "admin@example.com", "ADMIN");
+
+        assertThat(provider.authenticate(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Cache stays bounded but tokens beyond the bound still authenticate")
+    void cacheBounded() {
+        for (int i = 0; i < 10; i++) {
+            String token = provider.generateAccessToken(UUID.randomUUID(), "user" + i + "@example.com", "ADMIN");
+            assertThat(provider.authenticate(token)).isPresent();
+        }
+
+        String uncached = provider.generateAccessToken(UUID.randomUUID(), "late@example.com", "ADMIN");
+        JwtAuthenticatedUser first = provider.authenticate(uncached).orElseThrow();
+        JwtAuthenticatedUser second = provider.authenticate(uncached).orElseThrow();
+
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+    }
+
+}
@@ -0,0 +1,210 @@
+package com.sita.portfolio.test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop HTTP load generator used by {@link PublicApiLoadTest}.
+ * <p>
+ * Each virtual user is a thread that sends a request, waits for the response and sends
+ * the next one, so offered load adapts to server speed. A closed loop under-reports tail
+ * latency when the server stalls (coordinated omission); compare runs with the same
+ * user count rather than reading the percentiles as absolute SLO numbers. Latencies are
+ * kept per request and sorted at the end, so percentiles are exact.
+ * </p>
+ */
+final class LoadTestHarness {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final int users;
+    private final Duration warmup;
+    private final Duration duration;
+
+    LoadTestHarness(int users, Duration warmup, Duration duration) {
+        this.users = users;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    /**
+     * Latency summary in milliseconds.
+     */
+    record Latency(double p50, double p90, double p99, double p999, double max, double mean) {
+    }
+
+    /**
+     * Result of one scenario. {@code errors} counts non-2xx responses and I/O failures.
+     */
+    record ScenarioReport(
+            String name,
+            String method,
+            String path,
+            int users,
+            long requests,
+            long errors,
+            double requestsPerSecond,
+            Map<String, Long> statusCounts,
+            Latency latencyMs
+    ) {
+    }
+
+    /**
+     * Runs {@code requests} with every user for the warmup period, then measures for the
+     * configured duration. {@code requests} is called once per request and must be thread-safe.
+     */
+    ScenarioReport run(String name, String method, String path, Supplier<HttpRequest> requests) {
+        drive(requests, warmup, null);
+
+        Recorder[] recorders = new Recorder[users];
+        for (int i = 0; i < users; i++) {
+            recorders[i] = new Recorder();
+        }
+        long elapsed = drive(requests, duration, recorders);
+
+        long total = 0;
+        long errors = 0;
+        Map<String, Long> statusCounts = new TreeMap<>();
+        for (Recorder recorder : recorders) {
+            total += recorder.count;
+            errors += recorder.errors;
+            recorder.statusCounts.forEach((status, count) -> statusCounts.merge(status, count, Long::sum));
+        }
+        long[] latencies = new long[(int) total];
+        int offset = 0;
+        for (Recorder recorder : recorders) {
+            System.arraycopy(recorder.latencies, 0, latencies, offset, recorder.count);
+            offset += recorder.count;
+        }
+        Arrays.sort(latencies);
+
+        double seconds = elapsed / 1e9;
+        return new ScenarioReport(name, method, path, users, total, errors, round(total / seconds),
+                statusCounts, summarize(latencies));
+    }
+
+    /**
+     * Runs all users for {@code length} and returns the measured wall time in nanoseconds.
+     */
+    private long drive(Supplier<HttpRequest> requests, Duration length, Recorder[] recorders) {
+        if (length.isZero()) {
+            return 0;
+        }
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>(users);
+        long[] deadline = new long[1];
+        for (int i = 0; i < users; i++) {
+            Recorder recorder = recorders == null ? null : recorders[i];
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                while (System.nanoTime() < deadline[0]) {
+                    HttpRequest request = requests.get();
+                    long sent = System.nanoTime();
+                    String status;
+                    try {
+                        status = Integer.toString(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+                    } catch (IOException ex) {
+                        status = "io-error";
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (recorder != null) {
+                        recorder.record(System.nanoTime() - sent, status);
+                    }
+                }
+            }, "load-user-" + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+
+        long started = System.nanoTime();
+        deadline[0] = started + length.toNanos();
+        start.countDown();
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Load test interrupted", ex);
+            }
+        }
+        return System.nanoTime() - started;
+    }
+
+    HttpRequest.Builder request(String baseUrl, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+    }
+
+    private static Latency summarize(long[] sorted) {
+        if (sorted.length == 0) {
+            return new Latency(0, 0, 0, 0, 0, 0);
+        }
+        double sum = 0;
+        for (long value : sorted) {
+            sum += value;
+        }
+        return new Latency(
+                millis(percentile(sorted, 0.50)),
+                millis(percentile(sorted, 0.90)),
+                millis(percentile(sorted, 0.99)),
+                millis(percentile(sorted, 0.999)),
+                millis(sorted[sorted.length - 1]),
+                millis(sum / sorted.length));
+    }
+
+    /** Nearest-rank percentile. */
+    private static long percentile(long[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(double nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    /**
+     * Per-user results; only touched by its own thread until the run ends.
+     */
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+        private final Map<String, Long> statusCounts = new TreeMap<>();
+
+        void record(long nanos, String status) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            statusCounts.merge(status, 1L, Long::sum);
+            if (!status.startsWith("2")) {
+                errors++;
+            }
+        }
+    }
+}
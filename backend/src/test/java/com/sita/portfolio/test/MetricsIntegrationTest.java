@@ -0,0 +1,133 @@
+package com.sita.portfolio.test;
+
+import com.sita.portfolio.service.ContactMessageRateLimiter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the Prometheus endpoint and the application meters behind it.
+ * Metrics export is off in Spring Boot tests by default; this class turns it back on.
+ */
+@Import(TestConfig.class)
+@AutoConfigureObservability(tracing = false)
+@TestPropertySource(properties = "app.metrics.scrape-token=test-scrape-token")
+class MetricsIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String PROMETHEUS = "/actuator/prometheus";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestHelper testHelper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ContactMessageRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        testHelper.clearAllData();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testHelper.clearAllData();
+    }
+
+    @Test
+    @DisplayName("Health is public; Prometheus needs the scrape token or an admin JWT")
+    void endpointSecurity() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+
+        mockMvc.perform(get(PROMETHEUS)).andExpect(status().isUnauthorized());
+        mockMvc.perform(get(PROMETHEUS).header("Authorization", "Bearer wrong-token"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get(PROMETHEUS).header("Authorization", "Bearer test-scrape-token"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(PROMETHEUS).header("Authorization", testHelper.adminBearerToken()))
+                .andExpect(status().isOk());
+        // The scrape token grants nothing outside actuator
+        mockMvc.perform(get("/api/admin/projects").header("Authorization", "Bearer test-scrape-token"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Endpoint, service, repository and pool meters are exported with stable tags")
+    void exportsApplicationMeters() throws Exception {
+        testHelper.createProjectWithBullets("Metrics Project", 1, true, false, "A", "B");
+        mockMvc.perform(get("/api/public/health")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/admin/projects").header("Authorization", testHelper.adminBearerToken()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/admin/contact/messages").header("Authorization", testHelper.adminBearerToken()))
+                .andExpect(status().isOk());
+
+        String body = scrape();
+
+        assertThat(body)
+                .containsPattern("http_server_requests_seconds_count\\{[^}]*uri=\"/api/admin/projects\"")
+                .containsPattern("portfolio_service_calls_seconds_count\\{[^}]*class=\"ProjectService\"[^}]*exception=\"none\"")
+                .containsPattern("portfolio_repository_calls_seconds_count\\{[^}]*class=\"ContactMessageInboxRepository\"")
+                .containsPattern("spring_data_repository_invocations_seconds_count\\{[^}]*repository=\"ProjectRepository\"")
+                .containsPattern("hikaricp_connections_active\\{[^}]*pool=\"PortfolioHikariPool\"")
+                .containsPattern("portfolio_request_statements_count\\{[^}]*uri=\"/api/admin/projects\"")
+                .containsPattern("(?m)^portfolio_contact_queue_depth[{ ]")
+                .containsPattern("(?m)^portfolio_contact_queue_rejected_total[{ ]");
+    }
+
+    @Test
+    @DisplayName("Hibernate statements are counted per request")
+    void countsStatementsPerRequest() throws Exception {
+        testHelper.createProjectWithBullets("Metrics Project", 1, true, false, "A", "B");
+
+        mockMvc.perform(get("/api/admin/projects").header("Authorization", testHelper.adminBearerToken()))
+                .andExpect(status().isOk());
+
+        DistributionSummary summary = meterRegistry.find("portfolio.request.statements")
+                .tags("method", "GET", "uri", "/api/admin/projects")
+                .summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.count()).isPositive();
+        assertThat(summary.max()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Rate-limiter rejections are counted")
+    void countsRateLimitRejections() throws Exception {
+        double before = sample(scrape(), "portfolio_contact_rate_limit_rejections_total");
+        String client = "metrics-test-" + System.nanoTime();
+        while (rateLimiter.allow(client)) {
+            // use up the client's allowance
+        }
+        rateLimiter.allow(client);
+
+        assertThat(sample(scrape(), "portfolio_contact_rate_limit_rejections_total")).isEqualTo(before + 2);
+    }
+
+    private String scrape() throws Exception {
+        return mockMvc.perform(get(PROMETHEUS).header("Authorization", "Bearer test-scrape-token"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private static double sample(String body, String name) {
+        Matcher matcher = Pattern.compile("(?m)^" + name + "(\\{[^}]*})? (\\S+)$").matcher(body);
+        assertThat(matcher.find()).as(name).isTrue();
+        return Double.parseDouble(matcher.group(2));
+    }
+}
@@ -0,0 +1,98 @@
+package com.sita.portfolio.test;
+
+import com.sita.portfolio.service.PortfolioChangeListener;
+import com.sita.portfolio.service.PortfolioChangeNotifier;
+import com.sita.portfolio.service.PortfolioService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Integration tests for cross-instance snapshot invalidation over LISTEN/NOTIFY.
+ * Notifications from "another instance" are simulated with a plain NOTIFY; these
+ * tests need the Testcontainers PostgreSQL database and are skipped on H2.
+ */
+@Import(TestConfig.class)
+class PortfolioChangeNotificationIntegrationTest extends AbstractIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(15);
+
+    @Autowired
+    private TestHelper testHelper;
+
+    @Autowired
+    private PortfolioService portfolioService;
+
+    @Autowired
+    private PortfolioChangeListener changeListener;
+
+    @Autowired
+    private PortfolioChangeNotifier changeNotifier;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        testHelper.clearAllData();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testHelper.clearAllData();
+    }
+
+    @Test
+    @DisplayName("Listener only runs against PostgreSQL")
+    void listenerOnlyRunsOnPostgres() {
+        assertThat(changeNotifier.isActive()).isEqualTo(isUsingPostgres());
+        if (!isUsingPostgres()) {
+            assertThat(changeListener.isListening()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Notification from another instance rebuilds the local snapshot")
+    void notificationRebuildsSnapshot() {
+        assumeTrue(isUsingPostgres(), "LISTEN/NOTIFY requires PostgreSQL");
+        await().atMost(TIMEOUT).until(changeListener::isListening);
+        assertThat(portfolioService.getPublishedProjects()).isEmpty();
+
+        // Written directly, as if by another instance
+        testHelper.createProject("Remote Project", 1, true, false);
+        notifyFromOtherInstance();
+
+        await().atMost(TIMEOUT).untilAsserted(() ->
+                assertThat(portfolioService.getPublishedProjects()).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("Listener reconnects after its connection is terminated")
+    void listenerReconnects() {
+        assumeTrue(isUsingPostgres(), "LISTEN/NOTIFY requires PostgreSQL");
+        await().atMost(TIMEOUT).until(changeListener::isListening);
+
+        jdbcTemplate.queryForList(
+                "SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE application_name = ?",
+                "portfolio-change-listener");
+        await().atMost(TIMEOUT).until(changeListener::isListening);
+
+        testHelper.createProject("After Reconnect", 1, true, false);
+        notifyFromOtherInstance();
+
+        await().atMost(TIMEOUT).untilAsserted(() ->
+                assertThat(portfolioService.getPublishedProjects()).hasSize(1));
+    }
+
+    private void notifyFromOtherInstance() {
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", changeNotifier.channel(), "other-instance");
+    }
+
+}
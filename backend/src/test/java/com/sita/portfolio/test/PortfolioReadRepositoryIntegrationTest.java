@@ -0,0 +1,103 @@
+package com.sita.portfolio.test;
+
+import com.sita.portfolio.model.dto.response.PortfolioResponse;
+import com.sita.portfolio.repository.PortfolioReadRepository;
+import com.sita.portfolio.service.*;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Integration tests for the single-statement published portfolio read.
+ * The aggregation itself only runs against PostgreSQL; on H2 the loader's JPA fallback is checked.
+ */
+@Import(TestConfig.class)
+class PortfolioReadRepositoryIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private TestHelper testHelper;
+
+    @Autowired
+    private PortfolioReadRepository portfolioReadRepository;
+
+    @Autowired
+    private PortfolioSnapshotLoader snapshotLoader;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ExperienceService experienceService;
+
+    @Autowired
+    private SkillService skillService;
+
+    @Autowired
+    private EducationService educationService;
+
+    @Autowired
+    private CertificationService certificationService;
+
+    @BeforeEach
+    void setUp() {
+        testHelper.clearAllData();
+
+        testHelper.createProfile("Test User", "Engineer");
+        testHelper.createContactSettings("test@example.com");
+        testHelper.createProjectWithBullets("Second Project", 2, true, false, "B1", "B2");
+        testHelper.createProjectWithBullets("First Project", 1, true, true, "A1");
+        testHelper.createExperienceWithBullets("Company B", "Role", 2, true, "B1", "B2");
+        testHelper.createExperienceWithBullets("Company A", "Role", 1, true, "A1");
+        testHelper.createSkillCategoryWithItems("Backend", 1, true, "Java", "SQL");
+        testHelper.createEducation("University", "BS", 1, true);
+        testHelper.createCertification("Cert", "Issuer", 1, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        testHelper.clearAllData();
+    }
+
+    @Test
+    @DisplayName("Read path matches the database")
+    void readPathMatchesDatabase() {
+        assertThat(portfolioReadRepository.supportsAggregation()).isEqualTo(isUsingPostgres());
+    }
+
+    @Test
+    @DisplayName("Loader returns published content ordered by sort_order")
+    void loaderReturnsOrderedContent() {
+        PortfolioResponse portfolio = snapshotLoader.load();
+
+        assertThat(portfolio.getProfile().getName()).isEqualTo("Test User");
+        assertThat(portfolio.getContact().getEmail()).isEqualTo("test@example.com");
+        assertThat(portfolio.getProjects()).extracting("title")
+                .containsExactly("First Project", "Second Project");
+        assertThat(portfolio.getProjects().get(1).getBullets()).extracting("content")
+                .containsExactly("B1", "B2");
+        assertThat(portfolio.getFeaturedProjects()).extracting("slug")
+                .containsExactly("first-project");
+        assertThat(portfolio.getExperiences()).extracting("company")
+                .containsExactly("Company A", "Company B");
+        assertThat(portfolio.getSkills().get(0).getSkills()).extracting("name")
+                .containsExactly("Java", "SQL");
+    }
+
+    @Test
+    @DisplayName("Aggregated JSON maps to the same DTOs as the JPA mapping")
+    void aggregateMatchesEntityMapping() {
+        assumeTrue(isUsingPostgres(), "json_agg aggregation requires PostgreSQL");
+
+        PortfolioResponse portfolio = portfolioReadRepository.findPublishedPortfolio();
+
+        assertThat(portfolio.getProjects()).isEqualTo(projectService.getAllProjects());
+        assertThat(portfolio.getExperiences()).isEqualTo(experienceService.getAllExperiences());
+        assertThat(portfolio.getSkills()).isEqualTo(skillService.getAllCategories());
+        assertThat(portfolio.getEducation()).isEqualTo(educationService.getAllEducation());
+        assertThat(portfolio.getCertifications()).isEqualTo(certificationService.getAllCertifications());
+    }
+
+}
@@ -0,0 +1,202 @@
+package com.sita.portfolio.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sita.portfolio.config.AppProperties;
+import com.sita.portfolio.config.BackgroundThreads;
+import com.sita.portfolio.model.dto.request.CreateEducationRequest;
+import com.sita.portfolio.model.dto.request.CreateProjectRequest;
+import com.sita.portfolio.model.dto.response.PortfolioResponse;
+import com.sita.portfolio.model.entity.Project;
+import com.sita.portfolio.service.PortfolioChangeNotifier;
+import com.sita.portfolio.service.PortfolioSnapshotCache;
+import com.sita.portfolio.service.PortfolioSnapshotLoader;
+import com.sita.portfolio.service.PublicViewRenderer;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the in-memory published portfolio snapshot.
+ * Tests that public reads are served from the snapshot and that admin
+ * writes rebuild it after commit.
+ */
+@Import(TestConfig.class)
+class PortfolioSnapshotIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestHelper testHelper;
+
+    @Autowired
+    private PortfolioSnapshotCache snapshotCache;
+
+    @Autowired
+    private PublicViewRenderer renderer;
+
+    @Autowired
+    private PortfolioChangeNotifier changeNotifier;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        testHelper.clearAllData();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testHelper.clearAllData();
+    }
+
+    @Test
+    @DisplayName("Public reads are served from the snapshot, not the database")
+    void publicReadsServedFromSnapshot() throws Exception {
+        testHelper.createProject("Initial Project", 1, true, false);
+
+        mockMvc.perform(get("/api/public/projects"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)));
+
+        // Bypasses the admin services, so the snapshot is not rebuilt
+        testHelper.createProject("Direct Insert", 2, true, false);
+
+        mockMvc.perform(get("/api/public/projects"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].title").value("Initial Project"));
+    }
+
+    @Test
+    @DisplayName("Admin write rebuilds the snapshot after commit")
+    void adminWriteRebuildsSnapshot() throws Exception {
+        mockMvc.perform(get("/api/public/portfolio"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.projects", hasSize(0)));
+
+        CreateProjectRequest request = CreateProjectRequest.builder()
+                .title("New Project")
+                .slug("new-project")
+                .featured(true)
+                .published(true)
+                .build();
+
+        mockMvc.perform(post("/api/admin/projects")
+                        .header("Authorization", testHelper.adminBearerToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/public/portfolio"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.projects", hasSize(1)))
+                .andExpect(jsonPath("$.data.featuredProjects[0].slug").value("new-project"));
+
+        mockMvc.perform(get("/api/public/projects/new-project"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("New Project"));
+    }
+
+    @Test
+    @DisplayName("Unpublishing a project removes it from the snapshot")
+    void unpublishRemovesFromSnapshot() throws Exception {
+        Project project = testHelper.createProject("Visible Project", 1, true, false);
+
+        mockMvc.perform(get("/api/public/projects/visible-project"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(patch("/api/admin/projects/" + project.getId() + "/publish")
+                        .header("Authorization", testHelper.adminBearerToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"isPublished\": false}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/public/projects/visible-project"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Rebuild keeps ETag and Last-Modified of unchanged views")
+    void rebuildKeepsValidatorsOfUnchangedViews() throws Exception {
+        testHelper.createProject("Stable Project", 1, true, false);
+
+        var projects = mockMvc.perform(get("/api/public/projects")).andReturn().getResponse();
+        var education = mockMvc.perform(get("/api/public/education")).andReturn().getResponse();
+
+        CreateEducationRequest request = CreateEducationRequest.builder()
+                .institution("New University")
+                .degree("MS")
+                .startYear(2020)
+                .published(true)
+                .build();
+
+        mockMvc.perform(post("/api/admin/education")
+                        .header("Authorization", testHelper.adminBearerToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/public/projects")
+                        .header(HttpHeaders.IF_NONE_MATCH, projects.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, projects.getHeader(HttpHeaders.LAST_MODIFIED)));
+
+        String newEducationEtag = mockMvc.perform(get("/api/public/education")
+                        .header(HttpHeaders.IF_NONE_MATCH, education.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].institution").value("New University"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(newEducationEtag).isNotEqualTo(education.getHeader(HttpHeaders.ETAG));
+    }
+
+
+    @Test
+    @DisplayName("A failed rebuild keeps the previous snapshot and retries in the background")
+    void failedRebuildKeepsPreviousSnapshot() {
+        PortfolioResponse first = snapshotCache.get().portfolio();
+        PortfolioResponse second = new PortfolioResponse(first.getProfile(), first.getExperiences(),
+                first.getProjects(), first.getFeaturedProjects(), first.getSkills(), first.getEducation(),
+                first.getCertifications(), first.getContact());
+        PortfolioSnapshotLoader loader = mock(PortfolioSnapshotLoader.class);
+        when(loader.load())
+                .thenReturn(first)
+                .thenThrow(new DataAccessResourceFailureException("Database unavailable"))
+                .thenReturn(second);
+
+        AppProperties.Snapshot config = new AppProperties.Snapshot();
+        config.setInitialBackoff(Duration.ofMillis(50));
+        PortfolioSnapshotCache cache = new PortfolioSnapshotCache(loader, renderer, changeNotifier,
+                transactionManager, config, BackgroundThreads.PLATFORM);
+        try {
+            cache.refresh();
+            cache.refresh();
+
+            assertThat(cache.get().portfolio()).isSameAs(first);
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                    assertThat(cache.get().portfolio()).isSameAs(second));
+            verify(loader, times(3)).load();
+        } finally {
+            cache.shutdown();
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.sita.portfolio.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sita.portfolio.config.BackgroundThreads;
+import com.sita.portfolio.model.dto.request.ImportResumeRequest;
+import com.sita.portfolio.model.dto.request.ImportResumeRequest.*;
+import com.sita.portfolio.repository.ContactMessageRepository;
+import com.sita.portfolio.service.ImportService;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Load test of the public API on the embedded server, against the same database as the
+ * other integration tests (Testcontainers PostgreSQL, or H2 without Docker).
+ * <p>
+ * Seeds projects, bullets and skills through ImportService, then drives
+ * GET /api/public/portfolio, GET /api/public/projects/{slug} and
+ * POST /api/public/contact/messages in turn with {@link LoadTestHarness}. Every scenario
+ * writes p50/p99/p999 latency and requests per second to a JSON report. reCAPTCHA is
+ * answered by a local stub and each submission comes from its own client IP, so the
+ * rate limiter does not reject the load. Runs only with {@code -Dloadtest=true}:
+ * </p>
+ * <pre>
+ * ./mvnw test -Dtest=PublicApiLoadTest -Dloadtest=true -Dloadtest.users=32 -Dloadtest.duration=30s
+ * </pre>
+ * <p>
+ * loadtest.users takes a comma-separated list of concurrency levels; every scenario runs
+ * at each level and the report gives, per scenario, the highest level served without
+ * errors. The report also records the thread mode and pool sizes, so a platform-thread
+ * run and a {@code -Pjava21} virtual-thread run with the same settings can be compared.
+ * Other settings: loadtest.warmup, loadtest.projects, loadtest.bullets,
+ * loadtest.skill-categories, loadtest.skills and loadtest.report (the output file).
+ * </p>
+ */
+@Import(TestConfig.class)
+class PublicApiLoadTest extends AbstractIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicApiLoadTest.class);
+
+    private static final HttpServer RECAPTCHA_STUB = startStub();
+
+    private static final List<Integer> USERS = Arrays.stream(System.getProperty("loadtest.users", "16").split(","))
+            .map(String::trim)
+            .map(Integer::valueOf)
+            .toList();
+    private static final Duration WARMUP = duration("loadtest.warmup", "5s");
+    private static final Duration DURATION = duration("loadtest.duration", "15s");
+    private static final int PROJECTS = Integer.getInteger("loadtest.projects", 50);
+    private static final int BULLETS = Integer.getInteger("loadtest.bullets", 5);
+    private static final int SKILL_CATEGORIES = Integer.getInteger("loadtest.skill-categories", 10);
+    private static final int SKILLS = Integer.getInteger("loadtest.skills", 10);
+    private static final Path REPORT = Path.of(System.getProperty("loadtest.report", "target/load-test-report.json"));
+
+    @DynamicPropertySource
+    static void recaptchaProperties(DynamicPropertyRegistry registry) {
+        registry.add("recaptcha.secret", () -> "load-test-recaptcha-secret");
+        registry.add("app.recaptcha.verify-url",
+                () -> "http://localhost:" + RECAPTCHA_STUB.getAddress().getPort() + "/siteverify");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private ContactMessageRepository contactMessageRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BackgroundThreads backgroundThreads;
+
+    @Autowired
+    private Environment environment;
+
+    /** Checked before the application context is built, so skipped runs cost nothing. */
+    @BeforeAll
+    static void enabled() {
+        assumeTrue(Boolean.getBoolean("loadtest"), "enable with -Dloadtest=true");
+    }
+
+    @BeforeEach
+    void setUp() {
+        contactMessageRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.importResume(ImportResumeRequest.builder()
+                .projects(List.of())
+                .skillCategories(List.of())
+                .build());
+        contactMessageRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Public read and contact endpoints under closed-loop load")
+    void publicApiUnderLoad() throws IOException {
+        seed();
+        String baseUrl = "http://localhost:" + port;
+        awaitPublished(baseUrl);
+
+        List<LoadTestHarness.ScenarioReport> scenarios = new ArrayList<>();
+        AtomicLong submissions = new AtomicLong();
+        for (int users : USERS) {
+            LoadTestHarness harness = new LoadTestHarness(users, WARMUP, DURATION);
+
+            scenarios.add(harness.run("portfolio", "GET", "/api/public/portfolio",
+                    () -> harness.request(baseUrl, "/api/public/portfolio").GET().build()));
+
+            scenarios.add(harness.run("project-by-slug", "GET", "/api/public/projects/{slug}",
+                    () -> harness.request(baseUrl, "/api/public/projects/" + slug(ThreadLocalRandom.current().nextInt(PROJECTS)))
+                            .GET().build()));
+
+            scenarios.add(harness.run("contact-submit", "POST", "/api/public/contact/messages", () -> {
+                long n = submissions.incrementAndGet();
+                return harness.request(baseUrl, "/api/public/contact/messages")
+                        .header("Content-Type", "application/json")
+                        .header("X-Forwarded-For", "10." + (n >> 16 & 0xFF) + "." + (n >> 8 & 0xFF) + "." + (n & 0xFF))
+                        .POST(HttpRequest.BodyPublishers.ofString(contactBody(n)))
+                        .build();
+            }));
+        }
+
+        // Highest concurrency level each scenario served without a single error
+        Map<String, Integer> maxUsersWithoutErrors = new LinkedHashMap<>();
+        for (LoadTestHarness.ScenarioReport scenario : scenarios) {
+            maxUsersWithoutErrors.putIfAbsent(scenario.name(), 0);
+            if (scenario.errors() == 0) {
+                maxUsersWithoutErrors.merge(scenario.name(), scenario.users(), Math::max);
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", Instant.now().toString());
+        report.put("database", isUsingPostgres() ? "PostgreSQL" : "H2");
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("threads", backgroundThreads.isVirtual() ? "virtual" : "platform");
+        report.put("hikariMaxPoolSize", environment.getProperty("spring.datasource.hikari.maximum-pool-size", "10"));
+        report.put("tomcatMaxThreads", environment.getProperty("server.tomcat.threads.max", "200"));
+        report.put("users", USERS);
+        report.put("warmup", WARMUP.toString());
+        report.put("duration", DURATION.toString());
+        Map<String, Integer> seed = new LinkedHashMap<>();
+        seed.put("projects", PROJECTS);
+        seed.put("bulletsPerProject", BULLETS);
+        seed.put("skillCategories", SKILL_CATEGORIES);
+        seed.put("skillsPerCategory", SKILLS);
+        report.put("seed", seed);
+        report.put("maxUsersWithoutErrors", maxUsersWithoutErrors);
+        report.put("scenarios", scenarios);
+        if (REPORT.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(REPORT.toAbsolutePath().getParent());
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(REPORT.toFile(), report);
+
+        for (LoadTestHarness.ScenarioReport scenario : scenarios) {
+            log.info("scenario={} users={} requests={} rps={} p50Ms={} p99Ms={} p999Ms={} errors={} statuses={}",
+                    scenario.name(), scenario.users(), scenario.requests(), String.format("%.1f", scenario.requestsPerSecond()),
+                    scenario.latencyMs().p50(), scenario.latencyMs().p99(), scenario.latencyMs().p999(),
+                    scenario.errors(), scenario.statusCounts());
+            assertThat(scenario.requests()).as(scenario.name()).isPositive();
+        }
+        // At the first level reads are served from the snapshot and must not fail; submissions
+        // may shed load with 503, and higher levels are meant to find the breaking point
+        assertThat(scenarios.get(0).errors()).isZero();
+        assertThat(scenarios.get(1).errors()).isZero();
+        log.info("Highest concurrency without errors: users={}", maxUsersWithoutErrors);
+        log.info("Load test report written to {}", REPORT.toAbsolutePath());
+    }
+
+    private void seed() {
+        List<ProjectImport> projects = new ArrayList<>(PROJECTS);
+        for (int i = 0; i < PROJECTS; i++) {
+            List<BulletImport> bullets = new ArrayList<>(BULLETS);
+            for (int b = 0; b < BULLETS; b++) {
+                bullets.add(BulletImport.builder()
+                        .content("Delivered milestone " + b + " of project " + i + " with tests, metrics and docs.")
+                        .build());
+            }
+            projects.add(ProjectImport.builder()
+                    .title("Load Project " + i)
+                    .slug(slug(i))
+                    .description("Short description of load project " + i + ".")
+                    .longDescription("A longer write-up of the problem, approach and outcome. ".repeat(10))
+                    .techStack("Java, Spring Boot, PostgreSQL, Angular")
+                    .githubUrl("https://github.com/example/load-project-" + i)
+                    .featured(i % 5 == 0)
+                    .bullets(bullets)
+                    .build());
+        }
+
+        List<SkillCategoryImport> categories = new ArrayList<>(SKILL_CATEGORIES);
+        for (int c = 0; c < SKILL_CATEGORIES; c++) {
+            List<SkillItemImport> skills = new ArrayList<>(SKILLS);
+            for (int s = 0; s < SKILLS; s++) {
+                skills.add(SkillItemImport.builder().name("Skill " + c + "." + s).proficiency("Advanced").build());
+            }
+            categories.add(SkillCategoryImport.builder().name("Category " + c).skills(skills).build());
+        }
+
+        importService.importResume(ImportResumeRequest.builder()
+                .profile(ProfileImport.builder()
+                        .name("Load Test")
+                        .title("Engineer")
+                        .email("load@example.com")
+                        .build())
+                .projects(projects)
+                .skillCategories(categories)
+                .contactSettings(ContactSettingsImport.builder()
+                        .email("load@example.com")
+                        .formEnabled(true)
+                        .build())
+                .build());
+    }
+
+    /**
+     * The public snapshot is rebuilt after the import commits; wait until it serves the seed.
+     */
+    private void awaitPublished(String baseUrl) {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(baseUrl + "/api/public/projects/" + slug(PROJECTS - 1))).build();
+        await().atMost(Duration.ofSeconds(30)).until(() ->
+                client.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200);
+    }
+
+    private String contactBody(long n) {
+        try {
+            return objectMapper.writeValueAsString(Map.of(
+                    "name", "Load Sender " + n,
+                    "email", "sender" + n + "@example.com",
+                    "subject", "Load test " + n,
+                    "message", "Hello, this is load test submission number " + n + ".",
+                    "captchaToken", "load-token-" + n));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String slug(int index) {
+        return "load-project-" + index;
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/siteverify", exchange -> {
+                byte[] body = "{\"success\": true}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.setExecutor(Executors.newFixedThreadPool(4, runnable -> {
+                Thread thread = new Thread(runnable, "recaptcha-stub");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            server.start();
+            return server;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
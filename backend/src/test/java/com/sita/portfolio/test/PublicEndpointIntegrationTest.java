@@ -4,9 +4,17 @@ import com.sita.portfolio.model.entity.*;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -322,4 +330,126 @@ class PublicEndpointIntegrationTest extends AbstractIntegrationTest {
                 .andExpect(jsonPath("$.data", hasSize(0)));
     }
 
+    // ===== Pre-rendered Responses =====
+
+    @Test
+    @DisplayName("Public content is gzip-encoded when the client accepts gzip")
+    void publicContentIsGzipEncodedWhenAccepted() throws Exception {
+        testHelper.createProject("Compressed Project", 1, true, false);
+
+        MvcResult result = mockMvc.perform(get("/api/public/projects")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn();
+
+        byte[] compressed = result.getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(json).contains("\"title\":\"Compressed Project\"");
+            assertThat(json).contains("\"path\":\"/api/public/projects\"");
+        }
+    }
+
+    @Test
+    @DisplayName("Public content is uncompressed when the client does not accept gzip")
+    void publicContentIsUncompressedByDefault() throws Exception {
+        testHelper.createProject("Plain Project", 1, true, false);
+
+        mockMvc.perform(get("/api/public/projects"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.path").value("/api/public/projects"))
+                .andExpect(jsonPath("$.timestamp").exists())
+                .andExpect(jsonPath("$.data[0].title").value("Plain Project"));
+
+        mockMvc.perform(get("/api/public/projects")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    @DisplayName("Project by slug returns 404 for unknown slug")
+    void projectBySlugReturns404ForUnknownSlug() throws Exception {
+        testHelper.createProject("Known Project", 1, true, false);
+
+        mockMvc.perform(get("/api/public/projects/known-project"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("Known Project"));
+
+        mockMvc.perform(get("/api/public/projects/unknown-project"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Views are found under a servlet context path and for percent-encoded slugs")
+    void viewsFoundUnderContextPathAndEncodedSlug() throws Exception {
+        testHelper.createProject("Known Project", 1, true, false);
+
+        mockMvc.perform(get("/portfolio-api/api/public/projects").contextPath("/portfolio-api"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].title").value("Known Project"));
+
+        mockMvc.perform(get("/portfolio-api/api/public/projects/known-project").contextPath("/portfolio-api"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(URI.create("/api/public/projects/known%2Dproject")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("Known Project"));
+    }
+
+    // ===== Conditional Requests =====
+
+    @Test
+    @DisplayName("Public content carries ETag, Last-Modified and Cache-Control headers")
+    void publicContentCarriesValidators() throws Exception {
+        testHelper.createProject("Cached Project", 1, true, false);
+
+        mockMvc.perform(get("/api/public/portfolio"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"")))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("stale-while-revalidate=")));
+    }
+
+    @Test
+    @DisplayName("Matching If-None-Match is answered with 304 and no body")
+    void matchingIfNoneMatchReturns304() throws Exception {
+        testHelper.createProject("Conditional Project", 1, true, false);
+
+        String etag = mockMvc.perform(get("/api/public/projects"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/public/projects")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/public/projects")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Gzip and identity variants have distinct ETags")
+    void gzipVariantHasDistinctEtag() throws Exception {
+        testHelper.createProject("Variant Project", 1, true, false);
+
+        String identityEtag = mockMvc.perform(get("/api/public/projects"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String gzipEtag = mockMvc.perform(get("/api/public/projects")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(gzipEtag).isNotEqualTo(identityEtag);
+
+        mockMvc.perform(get("/api/public/projects")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+                .andExpect(status().isNotModified());
+    }
+
 }
@@ -0,0 +1,102 @@
+package com.sita.portfolio.test;
+
+import com.sita.portfolio.model.dto.response.PortfolioResponse;
+import com.sita.portfolio.service.ExperienceService;
+import com.sita.portfolio.service.PortfolioSnapshotLoader;
+import com.sita.portfolio.service.ProjectService;
+import com.sita.portfolio.service.SkillService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests guarding against N+1 queries on list reads.
+ * Counts JDBC statements via Hibernate statistics while loading parents with children.
+ */
+@Import(TestConfig.class)
+class QueryCountIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int PARENTS = 10;
+
+    @Autowired
+    private TestHelper testHelper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PortfolioSnapshotLoader snapshotLoader;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ExperienceService experienceService;
+
+    @Autowired
+    private SkillService skillService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        testHelper.clearAllData();
+
+        testHelper.createProfile("Test User", "Engineer");
+        testHelper.createContactSettings("test@example.com");
+        for (int i = 1; i <= PARENTS; i++) {
+            testHelper.createProjectWithBullets("Project " + i, i, true, i % 2 == 0, "A", "B", "C");
+            testHelper.createExperienceWithBullets("Company " + i, "Role", i, true, "A", "B", "C");
+            testHelper.createSkillCategoryWithItems("Category " + i, i, true, "Java", "SQL", "Go");
+            testHelper.createEducation("University " + i, "BS", i, true);
+            testHelper.createCertification("Cert " + i, "Issuer", i, true);
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testHelper.clearAllData();
+    }
+
+    @Test
+    @DisplayName("Snapshot load issues one statement per content type")
+    void snapshotLoadIsConstant() {
+        PortfolioResponse portfolio = snapshotLoader.load();
+
+        assertThat(portfolio.getProjects()).hasSize(PARENTS);
+        assertThat(portfolio.getProjects().get(0).getBullets()).hasSize(3);
+        assertThat(portfolio.getSkills().get(0).getSkills()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Admin project list fetches bullets in one statement")
+    void projectListIsSingleStatement() {
+        assertThat(projectService.getAllProjects()).hasSize(PARENTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Admin experience list fetches bullets in one statement")
+    void experienceListIsSingleStatement() {
+        assertThat(experienceService.getAllExperiences()).hasSize(PARENTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Admin skill category list fetches items in one statement")
+    void skillCategoryListIsSingleStatement() {
+        assertThat(skillService.getAllCategories()).hasSize(PARENTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,219 @@
+package com.sita.portfolio.test;
+
+import com.sita.portfolio.exception.BadRequestException;
+import com.sita.portfolio.model.dto.request.ReorderRequest;
+import com.sita.portfolio.model.dto.request.ReorderSkillItemsRequest;
+import com.sita.portfolio.model.dto.response.SkillCategoryResponse;
+import com.sita.portfolio.model.entity.Project;
+import com.sita.portfolio.model.entity.SkillCategory;
+import com.sita.portfolio.repository.ProjectRepository;
+import com.sita.portfolio.service.ProjectService;
+import com.sita.portfolio.service.SkillService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Benchmarks set-based reordering: the statement count must not grow with list size.
+ * Counts JDBC statements via Hibernate statistics, as {@link QueryCountIntegrationTest} does.
+ */
+@Import(TestConfig.class)
+class ReorderRoundTripIntegrationTest extends AbstractIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ReorderRoundTripIntegrationTest.class);
+
+    private static final int[] SIZES = {10, 100, 1000, 3000};
+
+    @Autowired
+    private TestHelper testHelper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private SkillService skillService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        testHelper.clearAllData();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        testHelper.clearAllData();
+    }
+
+    @Test
+    @DisplayName("Project reorder issues the same number of statements from 10 to 3000 rows")
+    void statementCountIsConstant() {
+        Map<Integer, Long> statementsBySize = new LinkedHashMap<>();
+
+        for (int size : SIZES) {
+            testHelper.clearAllData();
+            List<UUID> ids = seedProjects(size);
+            Collections.reverse(ids);
+
+            statistics.clear();
+            long started = System.nanoTime();
+            projectService.reorderProjects(ReorderRequest.builder().orderedIds(ids).build());
+            long elapsedMicros = (System.nanoTime() - started) / 1_000;
+
+            statementsBySize.put(size, statistics.getPrepareStatementCount());
+            log.info("reorder rows={} statements={} elapsedUs={}",
+                    size, statistics.getPrepareStatementCount(), elapsedMicros);
+
+            List<Project> reordered = projectRepository.findAllByOrderBySortOrderAsc();
+            assertThat(reordered.get(0).getId()).isEqualTo(ids.get(0));
+            assertThat(reordered.get(size - 1).getId()).isEqualTo(ids.get(size - 1));
+            assertThat(reordered.get(size - 1).getSortOrder()).isEqualTo(size - 1);
+        }
+
+        assertThat(statementsBySize.values()).containsOnly(statementsBySize.get(SIZES[0]));
+    }
+
+    @Test
+    @DisplayName("Duplicate IDs are rejected before any update")
+    void duplicateIdsRejected() {
+        Project first = testHelper.createProject("First", 1, true, false);
+        Project second = testHelper.createProject("Second", 2, true, false);
+
+        ReorderRequest request = ReorderRequest.builder()
+                .orderedIds(List.of(second.getId(), first.getId(), second.getId()))
+                .build();
+
+        assertThatThrownBy(() -> projectService.reorderProjects(request))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Duplicate project IDs");
+        assertThat(projectRepository.findAllByOrderBySortOrderAsc().get(0).getTitle()).isEqualTo("First");
+    }
+
+    @Test
+    @DisplayName("Skill items are reordered within their category")
+    void skillItemsReordered() {
+        SkillCategory category = testHelper.createSkillCategoryWithItems("Languages", 1, true, "Java", "SQL", "Go");
+        List<UUID> ids = itemIds(category.getId());
+        Collections.reverse(ids);
+
+        skillService.reorderSkillItems(ReorderSkillItemsRequest.builder()
+                .categoryId(category.getId())
+                .orderedIds(ids)
+                .build());
+
+        assertThat(itemNames(category.getId())).containsExactly("Go", "SQL", "Java");
+    }
+
+    @Test
+    @DisplayName("Reorder refreshes an already loaded parent and leaves other entities attached")
+    void reorderDetachesOnlyReorderedType() {
+        SkillCategory category = testHelper.createSkillCategoryWithItems("Languages", 1, true, "Java", "SQL", "Go");
+        Project project = testHelper.createProject("Unrelated", 1, true, false);
+        List<UUID> ids = itemIds(category.getId());
+        Collections.reverse(ids);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Project loadedProject = projectRepository.findById(project.getId()).orElseThrow();
+            assertThat(skillService.getCategory(category.getId()).getSkills())
+                    .extracting(SkillCategoryResponse.SkillItemResponse::getName)
+                    .containsExactly("Java", "SQL", "Go");
+
+            SkillCategoryResponse reordered = skillService.reorderSkillItems(ReorderSkillItemsRequest.builder()
+                    .categoryId(category.getId())
+                    .orderedIds(ids)
+                    .build());
+
+            assertThat(reordered.getSkills())
+                    .extracting(SkillCategoryResponse.SkillItemResponse::getName)
+                    .containsExactly("Go", "SQL", "Java");
+            assertThat(entityManager.contains(loadedProject)).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("Skill items from another category are rejected")
+    void foreignSkillItemRejected() {
+        SkillCategory languages = testHelper.createSkillCategoryWithItems("Languages", 1, true, "Java");
+        SkillCategory tools = testHelper.createSkillCategoryWithItems("Tools", 2, true, "Git");
+        List<UUID> ids = new ArrayList<>(itemIds(languages.getId()));
+        ids.addAll(itemIds(tools.getId()));
+
+        assertThatThrownBy(() -> skillService.reorderSkillItems(ReorderSkillItemsRequest.builder()
+                        .categoryId(languages.getId())
+                        .orderedIds(ids)
+                        .build()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("does not belong to category");
+    }
+
+    private List<UUID> seedProjects(int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        List<Integer> positions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID());
+            positions.add(i);
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO portfolio.project (id, title, is_featured, is_published, sort_order, created_at, updated_at)
+                VALUES (?, ?, FALSE, TRUE, ?, ?, ?)
+                """, positions, 500, (ps, index) -> {
+            ps.setObject(1, ids.get(index));
+            ps.setString(2, "Project " + index);
+            ps.setInt(3, index);
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+        return ids;
+    }
+
+    private List<UUID> itemIds(UUID categoryId) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM portfolio.skill_item WHERE category_id = ? ORDER BY sort_order", UUID.class, categoryId);
+    }
+
+    private List<String> itemNames(UUID categoryId) {
+        return jdbcTemplate.queryForList(
+                "SELECT name FROM portfolio.skill_item WHERE category_id = ? ORDER BY sort_order", String.class, categoryId);
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.sita.portfolio.test;
+
+import com.sita.portfolio.service.PortfolioSnapshotCache;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for per-request tracing and GET /api/admin/diag/slow-requests.
+ * The threshold is zero here, so every request counts as slow.
+ */
+@Import(TestConfig.class)
+@TestPropertySource(properties = {
+        "app.request-tracing.enabled=true",
+        "app.request-tracing.slow-threshold=0ms",
+        "app.request-tracing.keep=5"
+})
+class RequestTraceIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String SLOW_REQUESTS = "/api/admin/diag/slow-requests";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestHelper testHelper;
+
+    @Autowired
+    private PortfolioSnapshotCache snapshotCache;
+
+    @BeforeEach
+    void setUp() {
+        testHelper.clearAllData();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testHelper.clearAllData();
+        snapshotCache.refresh();
+    }
+
+    @Test
+    @DisplayName("Admin reads record pool wait, each statement and the Jackson write")
+    void tracesAdminRead() throws Exception {
+        testHelper.createProjectWithBullets("Traced Project", 1, true, false, "A", "B");
+
+        mockMvc.perform(get("/api/admin/projects").header("Authorization", testHelper.adminBearerToken()))
+                .andExpect(status().isOk());
+
+        // The newest entry is the previous request; this one is still running
+        mockMvc.perform(get(SLOW_REQUESTS).header("Authorization", testHelper.adminBearerToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.enabled").value(true))
+                .andExpect(jsonPath("$.data.slowThresholdMs").value(0))
+                .andExpect(jsonPath("$.data.recent[0].method").value("GET"))
+                .andExpect(jsonPath("$.data.recent[0].path").value("/api/admin/projects"))
+                .andExpect(jsonPath("$.data.recent[0].uri").value("/api/admin/projects"))
+                .andExpect(jsonPath("$.data.recent[0].status").value(200))
+                .andExpect(jsonPath("$.data.recent[0].connections").value(greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.data.recent[0].poolWaitMs").value(greaterThanOrEqualTo(0.0)))
+                .andExpect(jsonPath("$.data.recent[0].statementCount").value(greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.data.recent[0].statements[0].sql").value(containsStringIgnoringCase("select")))
+                .andExpect(jsonPath("$.data.recent[0].statements[0].durationMs").value(greaterThanOrEqualTo(0.0)))
+                .andExpect(jsonPath("$.data.recent[0].serializationMs").value(greaterThan(0.0)));
+    }
+
+    @Test
+    @DisplayName("A public read that rebuilds the snapshot records mapper and render time")
+    void tracesSnapshotRebuild() throws Exception {
+        testHelper.createProjectWithBullets("Traced Project", 1, true, false, "A", "B");
+        snapshotCache.evict();
+
+        mockMvc.perform(get("/api/public/portfolio")).andExpect(status().isOk());
+
+        mockMvc.perform(get(SLOW_REQUESTS).header("Authorization", testHelper.adminBearerToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.recent[0].path").value("/api/public/portfolio"))
+                .andExpect(jsonPath("$.data.recent[0].statementCount").value(greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.data.recent[0].mapperMs").value(greaterThan(0.0)))
+                .andExpect(jsonPath("$.data.recent[0].serializationMs").value(greaterThan(0.0)));
+    }
+
+    @Test
+    @DisplayName("Only the configured number of slow requests is kept")
+    void keepsBoundedHistory() throws Exception {
+        for (int i = 0; i < 8; i++) {
+            mockMvc.perform(get("/api/public/health")).andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get(SLOW_REQUESTS).header("Authorization", testHelper.adminBearerToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.keep").value(5))
+                .andExpect(jsonPath("$.data.recent", hasSize(5)))
+                .andExpect(jsonPath("$.data.recent[0].path").value("/api/public/health"));
+    }
+}
@@ -3,6 +3,7 @@ package com.sita.portfolio.test;
 import com.sita.portfolio.model.entity.*;
 import com.sita.portfolio.repository.*;
 import com.sita.portfolio.security.JwtTokenProvider;
+import com.sita.portfolio.service.PortfolioSnapshotCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
@@ -44,6 +45,9 @@ public class TestHelper {
     @Autowired
     private AdminUserRepository adminUserRepository;
 
+    @Autowired
+    private PortfolioSnapshotCache portfolioSnapshotCache;
+
     // ===== JWT Token Generation =====
 
     private static final UUID ADMIN_USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
@@ -87,6 +91,9 @@ public class TestHelper {
         contactSettingsRepository.deleteAll();
         profileRepository.deleteAll();
         // Don't delete admin users - they're seeded by migration
+
+        // Factories below write through repositories, so drop the published snapshot
+        portfolioSnapshotCache.evict();
     }
 
     // ===== Profile Factory =====
@@ -11,7 +11,7 @@ import { finalize } from 'rxjs/operators';
 import { AdminContactService } from '../../services/admin-contact.service';
 import { AdminContactMessagesService } from '../../services/admin-contact-messages.service';
 import { NotificationService } from '../../services';
-import { ContactMessage } from '../../models';
+import { ContactMessageStatus, ContactMessageSummary } from '../../models';
 
 @Component({
   selector: 'app-contact-admin',
@@ -126,13 +126,45 @@ import { ContactMessage } from '../../models';
       </header>
 
       <div class="form-card">
-        @if (messagesLoading) {
+        <mat-form-field appearance="outline" class="full">
+          <mat-label>Search messages</mat-label>
+          <input
+            matInput
+            [value]="searchQuery"
+            (keyup.enter)="search($any($event.target).value)"
+            placeholder="Name, email, subject or text"
+          />
+          @if (searchQuery) {
+          <button matSuffix mat-icon-button type="button" (click)="search('')">
+            <mat-icon>close</mat-icon>
+          </button>
+          } @else {
+          <mat-icon matSuffix>search</mat-icon>
+          }
+        </mat-form-field>
+        @if (!searchQuery) {
+        <div class="message-filters">
+          @for (option of statusOptions; track option.label) {
+          <button
+            [class]="
+              statusFilter === option.value ? 'btn-secondary' : 'btn-tertiary'
+            "
+            (click)="filterByStatus(option.value)"
+          >
+            {{ option.label }}
+          </button>
+          }
+        </div>
+        }
+        @if (messagesLoading && !messages.length) {
         <div class="loading-row">
           <mat-icon class="spin">autorenew</mat-icon>
           Loading messages...
         </div>
         } @else if (!messages.length) {
-        <p class="muted">No messages yet.</p>
+        <p class="muted">
+          {{ searchQuery ? 'No messages match your search.' : 'No messages yet.' }}
+        </p>
         } @else {
         <div class="messages">
           @for (msg of messages; track msg.id) {
@@ -153,10 +185,15 @@ import { ContactMessage } from '../../models';
             <div class="message-subject" *ngIf="msg.subject">
               {{ msg.subject }}
             </div>
+            @if (bodies[msg.id] !== undefined) {
             <div class="message-body">
-              {{ msg.message }}
+              {{ bodies[msg.id] }}
             </div>
+            }
             <div class="message-actions">
+              <button class="btn-tertiary" (click)="toggleBody(msg)">
+                {{ bodies[msg.id] !== undefined ? 'Hide' : 'Show message' }}
+              </button>
               <button class="btn-secondary" (click)="updateStatus(msg, 'read')">
                 Mark read
               </button>
@@ -170,7 +207,17 @@ import { ContactMessage } from '../../models';
           </article>
           }
         </div>
-        }
+        @if (nextCursor) {
+        <div class="load-more">
+          <button
+            class="btn-secondary"
+            [disabled]="messagesLoading"
+            (click)="loadMessages(true)"
+          >
+            {{ messagesLoading ? 'Loading...' : 'Load more' }}
+          </button>
+        </div>
+        } }
       </div>
     </section>
   `,
@@ -287,6 +334,18 @@ import { ContactMessage } from '../../models';
         white-space: pre-wrap;
       }
 
+      .message-filters {
+        display: flex;
+        gap: 0.5rem;
+        margin-bottom: 1rem;
+      }
+
+      .load-more {
+        display: flex;
+        justify-content: center;
+        margin-top: 1rem;
+      }
+
       .message-actions {
         display: flex;
         gap: 0.5rem;
@@ -333,8 +392,23 @@ export class ContactAdminComponent implements OnInit {
 
   saving = false;
   saveSuccess = false;
-  messages: ContactMessage[] = [];
+  messages: ContactMessageSummary[] = [];
   messagesLoading = false;
+  nextCursor: string | null = null;
+  statusFilter: ContactMessageStatus | undefined = undefined;
+  searchQuery = '';
+  /** Bodies of expanded messages, loaded on demand */
+  bodies: Record<string, string> = {};
+
+  readonly statusOptions: {
+    label: string;
+    value: ContactMessageStatus | undefined;
+  }[] = [
+    { label: 'All', value: undefined },
+    { label: 'New', value: 'new' },
+    { label: 'Read', value: 'read' },
+    { label: 'Archived', value: 'archived' },
+  ];
 
   ngOnInit(): void {
     this.load();
@@ -392,14 +466,20 @@ export class ContactAdminComponent implements OnInit {
     });
   }
 
-  loadMessages(): void {
+  loadMessages(append = false): void {
     this.messagesLoading = true;
-    this.messagesService
-      .list(0, 20)
+    const cursor = append ? this.nextCursor : null;
+    const page$ = this.searchQuery
+      ? this.messagesService.search(this.searchQuery, cursor)
+      : this.messagesService.list({ status: this.statusFilter }, cursor);
+    page$
       .pipe(finalize(() => (this.messagesLoading = false)))
       .subscribe({
         next: (page) => {
-          this.messages = page.content;
+          this.messages = append
+            ? [...this.messages, ...page.content]
+            : page.content;
+          this.nextCursor = page.nextCursor;
         },
         error: (err) => {
           console.error('Failed to load messages', err);
@@ -408,9 +488,47 @@ export class ContactAdminComponent implements OnInit {
       });
   }
 
+  filterByStatus(status: ContactMessageStatus | undefined): void {
+    if (this.statusFilter === status) {
+      return;
+    }
+    this.statusFilter = status;
+    this.messages = [];
+    this.nextCursor = null;
+    this.loadMessages();
+  }
+
+  search(query: string): void {
+    const trimmed = query.trim();
+    if (this.searchQuery === trimmed) {
+      return;
+    }
+    this.searchQuery = trimmed;
+    this.messages = [];
+    this.nextCursor = null;
+    this.loadMessages();
+  }
+
+  toggleBody(message: ContactMessageSummary): void {
+    if (this.bodies[message.id] !== undefined) {
+      const { [message.id]: _, ...rest } = this.bodies;
+      this.bodies = rest;
+      return;
+    }
+    this.messagesService.get(message.id).subscribe({
+      next: (full) => {
+        this.bodies = { ...this.bodies, [message.id]: full.message };
+      },
+      error: (err) => {
+        console.error('Failed to load message', err);
+        this.notify.error('Could not load message');
+      },
+    });
+  }
+
   updateStatus(
-    message: ContactMessage,
-    status: 'new' | 'read' | 'archived'
+    message: ContactMessageSummary,
+    status: ContactMessageStatus
   ): void {
     if (message.status === status) {
       return;
@@ -26,14 +26,20 @@ export interface ContactFormData {
   captchaToken: string;
 }
 
-export interface ContactMessage {
+export type ContactMessageStatus = 'new' | 'read' | 'archived';
+
+/** Inbox list row; the body is fetched separately */
+export interface ContactMessageSummary {
   id: string;
   name: string;
   email: string;
   subject?: string;
-  message: string;
-  status: 'new' | 'read' | 'archived';
+  status: ContactMessageStatus;
   createdAt: string;
-  userAgent?: string;
   ipAddress?: string;
 }
+
+export interface ContactMessage extends ContactMessageSummary {
+  message: string;
+  userAgent?: string;
+}
@@ -1,15 +1,25 @@
 import { Injectable, inject } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
-import { Observable } from 'rxjs';
+import { HttpClient, HttpParams } from '@angular/common/http';
+import { Observable, map } from 'rxjs';
 import { environment } from '../../environments/environment';
-import { ContactMessage } from '../models';
+import {
+  ApiResponse,
+  ContactMessage,
+  ContactMessageStatus,
+  ContactMessageSummary,
+} from '../models';
 
 export interface ContactMessagePage {
-  content: ContactMessage[];
-  totalElements: number;
-  totalPages: number;
-  number: number;
+  content: ContactMessageSummary[];
   size: number;
+  hasMore: boolean;
+  nextCursor: string | null;
+}
+
+export interface ContactMessageFilter {
+  status?: ContactMessageStatus;
+  email?: string;
+  ip?: string;
 }
 
 @Injectable({ providedIn: 'root' })
@@ -17,19 +27,64 @@ export class AdminContactMessagesService {
   private readonly http = inject(HttpClient);
   private readonly baseUrl = environment.apiBaseUrl || environment.apiUrl;
 
-  list(page = 0, size = 20): Observable<ContactMessagePage> {
-    return this.http.get<ContactMessagePage>(
-      `${this.baseUrl}/api/admin/contact/messages?page=${page}&size=${size}`
-    );
+  /**
+   * Loads one page of the inbox; pass the previous page's nextCursor to continue.
+   */
+  list(
+    filter: ContactMessageFilter = {},
+    cursor: string | null = null,
+    size = 20
+  ): Observable<ContactMessagePage> {
+    let params = new HttpParams().set('size', size);
+    if (filter.status) params = params.set('status', filter.status);
+    if (filter.email) params = params.set('email', filter.email);
+    if (filter.ip) params = params.set('ip', filter.ip);
+    if (cursor) params = params.set('cursor', cursor);
+
+    return this.http
+      .get<ApiResponse<ContactMessagePage>>(
+        `${this.baseUrl}/api/admin/contact/messages`,
+        { params }
+      )
+      .pipe(map((res) => res.data));
+  }
+
+  /**
+   * Full-text search, best match first; pages continue with nextCursor as in list().
+   */
+  search(
+    query: string,
+    cursor: string | null = null,
+    size = 20
+  ): Observable<ContactMessagePage> {
+    let params = new HttpParams().set('q', query).set('size', size);
+    if (cursor) params = params.set('cursor', cursor);
+
+    return this.http
+      .get<ApiResponse<ContactMessagePage>>(
+        `${this.baseUrl}/api/admin/contact/messages/search`,
+        { params }
+      )
+      .pipe(map((res) => res.data));
+  }
+
+  get(id: string): Observable<ContactMessage> {
+    return this.http
+      .get<ApiResponse<ContactMessage>>(
+        `${this.baseUrl}/api/admin/contact/messages/${id}`
+      )
+      .pipe(map((res) => res.data));
   }
 
   updateStatus(
     id: string,
-    status: 'new' | 'read' | 'archived'
+    status: ContactMessageStatus
   ): Observable<ContactMessage> {
-    return this.http.patch<ContactMessage>(
-      `${this.baseUrl}/api/admin/contact/messages/${id}`,
-      { status }
-    );
+    return this.http
+      .patch<ApiResponse<ContactMessage>>(
+        `${this.baseUrl}/api/admin/contact/messages/${id}`,
+        { status }
+      )
+      .pipe(map((res) => res.data));
   }
 }